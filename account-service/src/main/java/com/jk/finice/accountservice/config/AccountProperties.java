@@ -1,6 +1,7 @@
 package com.jk.finice.accountservice.config;
 
 
+import com.jk.finice.commonlibrary.datasource.ReadReplicaSettings;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +15,7 @@ public class AccountProperties {
     private Bank bank = new Bank();
     private Country country = new Country();
     private Limits limits = new Limits();
+    private ReadReplicaSettings readReplica = new ReadReplicaSettings();
 
     @Data
     public static class Bank {
@@ -0,0 +1,21 @@
+package com.jk.finice.accountservice.config;
+
+import com.jk.finice.commonlibrary.datasource.ReadReplicaAutoConfiguration;
+import com.jk.finice.commonlibrary.datasource.ReadReplicaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hands {@code account.read-replica} to {@link ReadReplicaAutoConfiguration} when it is enabled,
+ * which puts a routing DataSource over the primary and replica pools
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "account.read-replica", name = "enabled", havingValue = "true")
+    public ReadReplicaSettings readReplicaSettings(AccountProperties accountProperties) {
+        return accountProperties.getReadReplica();
+    }
+}
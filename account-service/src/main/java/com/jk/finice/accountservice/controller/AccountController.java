@@ -5,6 +5,9 @@ import com.jk.finice.accountservice.dto.client.AccountInternalResponse;
 import com.jk.finice.accountservice.dto.client.CreditRequest;
 import com.jk.finice.accountservice.dto.client.DebitRequest;
 import com.jk.finice.accountservice.dto.client.HoldRequest;
+import com.jk.finice.accountservice.dto.client.TransactionMovementsResponse;
+import com.jk.finice.accountservice.dto.client.TransferInternalResponse;
+import com.jk.finice.accountservice.dto.client.TransferRequest;
 import com.jk.finice.accountservice.dto.request.CloseAccountRequest;
 import com.jk.finice.accountservice.dto.request.CreateAccountRequest;
 import com.jk.finice.accountservice.dto.request.UpdateAccountRequest;
@@ -210,4 +213,29 @@ public class AccountController {
         accountService.reverseCredit(accountId, serviceKey, request);
     }
 
+    // Validates both accounts and moves the funds in a single DB transaction
+    @PostMapping("/internal/transfers")
+    public ResponseEntity<TransferInternalResponse> executeTransfer(
+            @RequestHeader(SERVICE_KEY_HEADER) String serviceKey,
+            @RequestBody TransferRequest request){
+        log.info("[ACCOUNT-CONTROLLER] Executing transfer from account ID: {} to account ID: {}",
+                request.getSourceAccountId(), request.getDestinationAccountId());
+
+        TransferInternalResponse transferResponse = accountService.executeTransfer(serviceKey, request);
+
+        return ResponseEntity.ok(transferResponse);
+    }
+
+    // Account-service side state of a transfer, used by transaction-service to finish stuck sagas
+    @GetMapping("/internal/movements")
+    public ResponseEntity<TransactionMovementsResponse> getTransactionMovements(
+            @RequestParam String transactionId,
+            @RequestHeader(SERVICE_KEY_HEADER) String serviceKey) {
+        log.info("[ACCOUNT-CONTROLLER] Internal Service call for movements of transaction: {}", transactionId);
+
+        TransactionMovementsResponse movementsResponse = accountService.getTransactionMovements(transactionId, serviceKey);
+
+        return ResponseEntity.ok(movementsResponse);
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.jk.finice.accountservice.dto.client;
+
+import com.jk.finice.accountservice.entity.AccountMovement;
+import com.jk.finice.accountservice.enums.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Every balance operation account-service applied for one transaction, oldest first.
+ * Empty when nothing reached account-service.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionMovementsResponse {
+
+    private String transactionId;
+    private List<Movement> movements;
+
+    public static TransactionMovementsResponse of(String transactionId, List<AccountMovement> movements) {
+        return TransactionMovementsResponse.builder()
+                .transactionId(transactionId)
+                .movements(movements.stream().map(Movement::new).toList())
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Movement {
+        private Long accountId;
+        private MovementType type;
+        private BigDecimal amount;
+        private LocalDateTime createdAt;
+
+        public Movement(AccountMovement movement) {
+            this.accountId = movement.getAccountId();
+            this.type = movement.getMovementType();
+            this.amount = movement.getAmount();
+            this.createdAt = movement.getCreatedAt();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jk.finice.accountservice.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Post-transfer balances of both accounts, read inside the same DB transaction
+ * that moved the funds.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferInternalResponse {
+
+    private String transactionId;
+
+    private Long sourceAccountId;
+    private BigDecimal sourceBalance;
+    private BigDecimal sourceAvailableBalance;
+
+    private Long destinationAccountId;
+    private BigDecimal destinationBalance;
+    private BigDecimal destinationAvailableBalance;
+}
@@ -0,0 +1,20 @@
+package com.jk.finice.accountservice.dto.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferRequest {
+    private Long sourceAccountId;
+    private Long destinationAccountId;
+    private BigDecimal amount;
+    private Long userId;          // initiator, must own the source account
+    private String transactionId; // for audit logging on account-service side
+}
@@ -0,0 +1,51 @@
+package com.jk.finice.accountservice.entity;
+
+import com.jk.finice.accountservice.enums.MovementType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One internal balance operation, keyed by the transaction-service transaction ID.
+ * Written in the same DB transaction as the balance change, so it is the account-service
+ * side truth of how far a transfer got. The unique key also makes every internal
+ * operation idempotent per transaction, account and type.
+ */
+@Entity
+@Table(
+        name = "account_movements",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_movement",
+                        columnNames = {"transaction_id", "account_id", "movement_type"})
+        })
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false, length = 50)
+    private String transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private MovementType movementType;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.jk.finice.accountservice.enums;
+
+/**
+ * Balance change applied on behalf of a transaction-service transfer
+ */
+public enum MovementType {
+
+    HOLD,           // funds reserved
+    DEBIT,          // funds taken, captures the hold if one was placed
+    CREDIT,
+    RELEASE_HOLD,
+    REVERSE_DEBIT,
+    REVERSE_CREDIT
+}
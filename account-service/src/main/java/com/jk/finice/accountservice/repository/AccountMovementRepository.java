@@ -0,0 +1,17 @@
+package com.jk.finice.accountservice.repository;
+
+import com.jk.finice.accountservice.entity.AccountMovement;
+import com.jk.finice.accountservice.enums.MovementType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountMovementRepository extends JpaRepository<AccountMovement, Long> {
+
+    boolean existsByTransactionIdAndAccountIdAndMovementType(String transactionId, Long accountId,
+                                                             MovementType movementType);
+
+    List<AccountMovement> findByTransactionIdOrderByIdAsc(String transactionId);
+}
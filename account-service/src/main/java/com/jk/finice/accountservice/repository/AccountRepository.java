@@ -1,7 +1,9 @@
 package com.jk.finice.accountservice.repository;
 
 import com.jk.finice.accountservice.entity.Account;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,4 +31,9 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findActiveAccountsByUserId(Long userId);
 
     Optional<Account> findByIdAndUserId(Long userId, Long accountId);
+
+    // SELECT ... FOR UPDATE, row stays locked until the surrounding transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.id = :accountId")
+    Optional<Account> findByIdForUpdate(@Param("accountId") Long accountId);
 }
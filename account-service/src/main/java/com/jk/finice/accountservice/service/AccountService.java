@@ -4,6 +4,9 @@ import com.jk.finice.accountservice.dto.client.AccountInternalResponse;
 import com.jk.finice.accountservice.dto.client.CreditRequest;
 import com.jk.finice.accountservice.dto.client.DebitRequest;
 import com.jk.finice.accountservice.dto.client.HoldRequest;
+import com.jk.finice.accountservice.dto.client.TransactionMovementsResponse;
+import com.jk.finice.accountservice.dto.client.TransferInternalResponse;
+import com.jk.finice.accountservice.dto.client.TransferRequest;
 import com.jk.finice.accountservice.dto.request.CloseAccountRequest;
 import com.jk.finice.accountservice.dto.request.CreateAccountRequest;
 import com.jk.finice.accountservice.dto.request.UpdateAccountRequest;
@@ -45,4 +48,8 @@ public interface AccountService {
     void reverseDebit(Long accountId, String serviceKey, DebitRequest request);
 
     void reverseCredit(Long accountId, String serviceKey, CreditRequest request);
+
+    TransferInternalResponse executeTransfer(String serviceKey, TransferRequest request);
+
+    TransactionMovementsResponse getTransactionMovements(String transactionId, String serviceKey);
 }
@@ -5,6 +5,9 @@ import com.jk.finice.accountservice.dto.client.AccountInternalResponse;
 import com.jk.finice.accountservice.dto.client.CreditRequest;
 import com.jk.finice.accountservice.dto.client.DebitRequest;
 import com.jk.finice.accountservice.dto.client.HoldRequest;
+import com.jk.finice.accountservice.dto.client.TransactionMovementsResponse;
+import com.jk.finice.accountservice.dto.client.TransferInternalResponse;
+import com.jk.finice.accountservice.dto.client.TransferRequest;
 import com.jk.finice.accountservice.dto.request.CloseAccountRequest;
 import com.jk.finice.accountservice.dto.request.CreateAccountRequest;
 import com.jk.finice.accountservice.dto.request.UpdateAccountRequest;
@@ -13,11 +16,16 @@ import com.jk.finice.accountservice.dto.response.AccountSettingsResponse;
 import com.jk.finice.accountservice.dto.response.AccountSummaryResponse;
 import com.jk.finice.accountservice.dto.response.BalanceResponse;
 import com.jk.finice.accountservice.entity.Account;
+import com.jk.finice.accountservice.entity.AccountMovement;
 import com.jk.finice.accountservice.enums.AccountStatus;
 import com.jk.finice.accountservice.enums.AccountType;
+import com.jk.finice.accountservice.enums.MovementType;
 import com.jk.finice.accountservice.exception.AccountCreationFailedException;
+import com.jk.finice.accountservice.repository.AccountMovementRepository;
 import com.jk.finice.accountservice.repository.AccountRepository;
 import com.jk.finice.accountservice.service.AccountService;
+import com.jk.finice.commonlibrary.datasource.RecentWriters;
+import com.jk.finice.commonlibrary.utils.IbanUtils;
 import com.jk.finice.commonlibrary.utils.MaskingUtils;
 import com.jk.finice.commonlibrary.exception.*;
 import lombok.RequiredArgsConstructor;
@@ -27,9 +35,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Service
@@ -42,6 +50,8 @@ public class AccountServiceImpl implements AccountService {
 
     private final AccountProperties accountProperties;
     private final AccountRepository accountRepository;
+    private final AccountMovementRepository accountMovementRepository;
+    private final RecentWriters recentWriters;
 
     // ==================== OVERRIDDEN METHODS ====================
 
@@ -231,7 +241,10 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void placeHold(Long accountId, String inputServiceKey, HoldRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.HOLD, request.getAmount())) {
+            return;
+        }
 
         account.placeHold(request.getAmount());
         accountRepository.save(account);
@@ -241,7 +254,10 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void debitAccount(Long accountId, String inputServiceKey, DebitRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.DEBIT, request.getAmount())) {
+            return;
+        }
 
         account.captureHold(request.getAmount());
         accountRepository.save(account);
@@ -251,7 +267,10 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void creditAccount(Long accountId, String inputServiceKey, CreditRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.CREDIT, request.getAmount())) {
+            return;
+        }
 
         account.credit(request.getAmount());
         accountRepository.save(account);
@@ -261,7 +280,10 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void releaseHold(Long accountId, String inputServiceKey, HoldRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.RELEASE_HOLD, request.getAmount())) {
+            return;
+        }
 
         account.releaseHold(request.getAmount());
         accountRepository.save(account);
@@ -271,7 +293,10 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void reverseDebit(Long accountId, String inputServiceKey, DebitRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.REVERSE_DEBIT, request.getAmount())) {
+            return;
+        }
 
         account.credit(request.getAmount());
         accountRepository.save(account);
@@ -281,15 +306,106 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public void reverseCredit(Long accountId, String inputServiceKey, CreditRequest request) {
         validateInternalServiceKey(inputServiceKey, accountId);
-        Account account = getAccountForInternalOperation(accountId);
+        Account account = getAccountForInternalUpdate(accountId);
+        if (!recordMovement(request.getTransactionId(), account, MovementType.REVERSE_CREDIT, request.getAmount())) {
+            return;
+        }
 
         account.debit(request.getAmount());
         accountRepository.save(account);
     }
 
+    @Transactional
+    @Override
+    public TransferInternalResponse executeTransfer(String inputServiceKey, TransferRequest request) {
+        Long sourceAccountId = request.getSourceAccountId();
+        Long destinationAccountId = request.getDestinationAccountId();
+        validateInternalServiceKey(inputServiceKey, sourceAccountId);
+
+        if (sourceAccountId == null || destinationAccountId == null) {
+            throw new ValidationException("Source and destination account IDs are required");
+        }
+        if (sourceAccountId.equals(destinationAccountId)) {
+            throw new ValidationException("Cannot transfer to the same account");
+        }
+
+        // Always lock the lowest ID first, so A -> B and B -> A running at the same time cannot deadlock
+        Account first = getAccountForInternalUpdate(Math.min(sourceAccountId, destinationAccountId));
+        Account second = getAccountForInternalUpdate(Math.max(sourceAccountId, destinationAccountId));
+
+        Account sender = first.getId().equals(sourceAccountId) ? first : second;
+        Account receiver = sender == first ? second : first;
+
+        if (!Objects.equals(sender.getUserId(), request.getUserId())) {
+            log.warn("[ACCOUNT-SERVICE] User {} attempted transfer from account {} (owner: {})",
+                    request.getUserId(), sourceAccountId, sender.getUserId());
+            throw new UnauthorizedException("You are not authorized to access this account");
+        }
+
+        if (sender.getCurrency() != receiver.getCurrency()) {
+            throw new ValidationException("Source and destination accounts must use the same currency");
+        }
+
+        // Both movements commit together, a recorded debit means this transfer already ran
+        if (recordMovement(request.getTransactionId(), sender, MovementType.DEBIT, request.getAmount())) {
+            recordMovement(request.getTransactionId(), receiver, MovementType.CREDIT, request.getAmount());
+            sender.debit(request.getAmount());
+            receiver.credit(request.getAmount());
+            accountRepository.saveAll(List.of(sender, receiver));
+        }
+
+        log.info("[ACCOUNT-SERVICE] Transfer {} executed from {} to {}",
+                request.getTransactionId(),
+                MaskingUtils.maskIban(sender.getIban()),
+                MaskingUtils.maskIban(receiver.getIban()));
+
+        return TransferInternalResponse.builder()
+                .transactionId(request.getTransactionId())
+                .sourceAccountId(sender.getId())
+                .sourceBalance(sender.getBalance())
+                .sourceAvailableBalance(sender.getAvailableBalance())
+                .destinationAccountId(receiver.getId())
+                .destinationBalance(receiver.getBalance())
+                .destinationAvailableBalance(receiver.getAvailableBalance())
+                .build();
+    }
+
+
+    @Transactional(readOnly = true)
+    @Override
+    public TransactionMovementsResponse getTransactionMovements(String transactionId, String inputServiceKey) {
+        validateInternalServiceKey(inputServiceKey, null);
+        return TransactionMovementsResponse.of(transactionId,
+                accountMovementRepository.findByTransactionIdOrderByIdAsc(transactionId));
+    }
+
 
     // ==================== HELPER METHODS ====================
 
+    // False when this exact operation was already applied for the transaction, i.e. a retried call.
+    // The caller holds the account's row lock, so a retry overlapping the original call waits here
+    // until the original commits and then sees its movement instead of hitting the unique key.
+    // The owner's next reads skip the replica until it has this balance change.
+    private boolean recordMovement(String transactionId, Account account, MovementType type, BigDecimal amount) {
+        Long accountId = account.getId();
+        recentWriters.recordWrite(account.getUserId());
+        if (transactionId == null) {
+            return true;
+        }
+        if (accountMovementRepository.existsByTransactionIdAndAccountIdAndMovementType(transactionId, accountId, type)) {
+            log.info("[ACCOUNT-SERVICE] {} already applied for transaction {} on account ID: {}, skipping",
+                    type, transactionId, accountId);
+            return false;
+        }
+        accountMovementRepository.save(AccountMovement.builder()
+                .transactionId(transactionId)
+                .accountId(accountId)
+                .movementType(type)
+                .amount(amount)
+                .build());
+        return true;
+    }
+
     private boolean isAccountTypeValid(AccountType accountType, Long userId) {
         switch (accountType) {
             case CURRENT:
@@ -334,28 +450,8 @@ public class AccountServiceImpl implements AccountService {
     }
 
     private String generateCheckDigit(String bban, String countryCode) {
-        String rearrangedIban = bban + countryCode + "00";
-
-        // Convert letters to numbers (A=10, B=11, ... P=25, L=21 ... Z=35)
-        StringBuilder numericString = new StringBuilder();
-        for (char c : rearrangedIban.toCharArray()) {
-            if (Character.isLetter(c)) {
-                numericString.append(Character.getNumericValue(c));
-            } else {
-                numericString.append(c);
-            }
-        }
-
-        // Perform Modulo 97 calculation
-        BigInteger numericValue = new BigInteger(numericString.toString());
-        BigInteger mod97 = numericValue.remainder(new BigInteger("97"));
-
-        // Subtract from 98 to get the check digits
-        int checkDigitInt = 98 - mod97.intValue();
-
-        // Format as a 2-digit string (5 becomes "05")
-        return String.format("%02d", checkDigitInt);
-
+        // 98 - (BBAN + country code + "00") mod 97, formatted as two digits ("05")
+        return IbanUtils.checkDigits(countryCode, bban);
     }
 
     private String generateAccountNumber() {
@@ -400,6 +496,19 @@ public class AccountServiceImpl implements AccountService {
         return account;
     }
 
+    private Account getAccountForInternalUpdate(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> {
+                    log.warn("[ACCOUNT-SERVICE] Account not found for internal request. Account ID: {}", accountId);
+                    return new ResourceNotFoundException("Account not found with ID: " + accountId);
+                });
+
+        if(account.getStatus() == AccountStatus.CLOSED ){
+            throw new AccountClosedException("The account with ID: " + accountId + " has been permanently closed");
+        }
+        return account;
+    }
+
     private Account getAccountForInternalOperationByIban(String iban) {
         Account account = accountRepository.findByIban(iban)
                 .orElseThrow(() -> {
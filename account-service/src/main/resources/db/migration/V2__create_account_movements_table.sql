@@ -0,0 +1,15 @@
+-- Per-transaction ledger of internal balance operations (hold, debit, credit and their reversals)
+CREATE TABLE IF NOT EXISTS account_movements (
+    id BIGSERIAL PRIMARY KEY,
+    transaction_id VARCHAR(50) NOT NULL,
+    account_id BIGINT NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_account_movement UNIQUE (transaction_id, account_id, movement_type),
+    CONSTRAINT chk_movement_type
+        CHECK (movement_type IN ('HOLD', 'DEBIT', 'CREDIT', 'RELEASE_HOLD', 'REVERSE_DEBIT', 'REVERSE_CREDIT')),
+    CONSTRAINT fk_account_movements_account
+        FOREIGN KEY (account_id) REFERENCES accounts(id)
+);
+-- uk_account_movement leads with transaction_id, it also serves the per-transaction lookup
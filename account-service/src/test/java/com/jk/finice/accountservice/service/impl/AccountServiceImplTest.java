@@ -0,0 +1,169 @@
+package com.jk.finice.accountservice.service.impl;
+
+import com.jk.finice.accountservice.config.AccountProperties;
+import com.jk.finice.accountservice.dto.client.CreditRequest;
+import com.jk.finice.accountservice.dto.client.DebitRequest;
+import com.jk.finice.accountservice.dto.client.HoldRequest;
+import com.jk.finice.accountservice.dto.client.TransferRequest;
+import com.jk.finice.accountservice.entity.Account;
+import com.jk.finice.accountservice.entity.AccountMovement;
+import com.jk.finice.accountservice.enums.MovementType;
+import com.jk.finice.accountservice.repository.AccountMovementRepository;
+import com.jk.finice.accountservice.repository.AccountRepository;
+import com.jk.finice.commonlibrary.datasource.RecentWriters;
+import com.jk.finice.commonlibrary.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountServiceImplTest {
+
+    private static final String SERVICE_KEY = "internal-key";
+    private static final String TRANSACTION_ID = "TXN-20250422-0A3F8C2E1D4B";
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountMovementRepository movementRepository = mock(AccountMovementRepository.class);
+
+    // (transaction, account, type) already in account_movements
+    private final Set<String> ledger = new HashSet<>();
+
+    private AccountServiceImpl accountService;
+
+    @BeforeEach
+    void setUp() {
+        accountService = new AccountServiceImpl(new AccountProperties(), accountRepository, movementRepository,
+                new RecentWriters(Duration.ofSeconds(5)));
+        ReflectionTestUtils.setField(accountService, "serviceKey", SERVICE_KEY);
+
+        when(movementRepository.existsByTransactionIdAndAccountIdAndMovementType(any(), anyLong(), any()))
+                .thenAnswer(call -> ledger.contains(key(call.getArgument(0), call.getArgument(1), call.getArgument(2))));
+        when(movementRepository.save(any(AccountMovement.class))).thenAnswer(call -> {
+            AccountMovement movement = call.getArgument(0);
+            ledger.add(key(movement.getTransactionId(), movement.getAccountId(), movement.getMovementType()));
+            return movement;
+        });
+    }
+
+    @Test
+    void repeatedHoldAndDebitMoveTheBalanceOnce() {
+        Account account = account(1L, 10L, "1000.00");
+        BigDecimal amount = new BigDecimal("100.00");
+
+        accountService.placeHold(1L, SERVICE_KEY, new HoldRequest(amount, TRANSACTION_ID));
+        accountService.placeHold(1L, SERVICE_KEY, new HoldRequest(amount, TRANSACTION_ID));
+
+        assertEquals(new BigDecimal("100.00"), account.getHoldAmount());
+        assertEquals(new BigDecimal("900.00"), account.getAvailableBalance());
+
+        accountService.debitAccount(1L, SERVICE_KEY, new DebitRequest(amount, TRANSACTION_ID));
+        accountService.debitAccount(1L, SERVICE_KEY, new DebitRequest(amount, TRANSACTION_ID));
+
+        assertEquals(new BigDecimal("900.00"), account.getBalance());
+        assertEquals(new BigDecimal("900.00"), account.getAvailableBalance());
+        assertEquals(new BigDecimal("0.00"), account.getHoldAmount());
+        assertEquals(2, ledger.size());
+    }
+
+    @Test
+    void repeatedCreditAndReversalMoveTheBalanceOnce() {
+        Account account = account(2L, 20L, "50.00");
+        BigDecimal amount = new BigDecimal("25.00");
+
+        accountService.creditAccount(2L, SERVICE_KEY, new CreditRequest(amount, TRANSACTION_ID));
+        accountService.creditAccount(2L, SERVICE_KEY, new CreditRequest(amount, TRANSACTION_ID));
+        assertEquals(new BigDecimal("75.00"), account.getBalance());
+
+        accountService.reverseCredit(2L, SERVICE_KEY, new CreditRequest(amount, TRANSACTION_ID));
+        accountService.reverseCredit(2L, SERVICE_KEY, new CreditRequest(amount, TRANSACTION_ID));
+        assertEquals(new BigDecimal("50.00"), account.getBalance());
+    }
+
+    @Test
+    void internalBalanceOperationsLockTheAccountRow() {
+        account(1L, 10L, "1000.00");
+        BigDecimal amount = new BigDecimal("10.00");
+
+        accountService.placeHold(1L, SERVICE_KEY, new HoldRequest(amount, TRANSACTION_ID));
+        accountService.releaseHold(1L, SERVICE_KEY, new HoldRequest(amount, TRANSACTION_ID));
+        accountService.creditAccount(1L, SERVICE_KEY, new CreditRequest(amount, TRANSACTION_ID));
+        accountService.reverseDebit(1L, SERVICE_KEY, new DebitRequest(amount, TRANSACTION_ID));
+
+        verify(accountRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void transferLocksTheLowerAccountIdFirstInBothDirections() {
+        Account low = account(1L, 10L, "500.00");
+        Account high = account(2L, 20L, "500.00");
+        BigDecimal amount = new BigDecimal("50.00");
+
+        accountService.executeTransfer(SERVICE_KEY, new TransferRequest(2L, 1L, amount, 20L, "TXN-20250422-000000000001"));
+        accountService.executeTransfer(SERVICE_KEY, new TransferRequest(1L, 2L, amount, 10L, "TXN-20250422-000000000002"));
+
+        InOrder locks = inOrder(accountRepository);
+        locks.verify(accountRepository).findByIdForUpdate(1L);
+        locks.verify(accountRepository).findByIdForUpdate(2L);
+        locks.verify(accountRepository).findByIdForUpdate(1L);
+        locks.verify(accountRepository).findByIdForUpdate(2L);
+        assertEquals(new BigDecimal("500.00"), low.getBalance());
+        assertEquals(new BigDecimal("500.00"), high.getBalance());
+    }
+
+    @Test
+    void repeatedTransferMovesTheBalanceOnce() {
+        Account sender = account(3L, 30L, "500.00");
+        Account receiver = account(1L, 10L, "0.00");
+        TransferRequest request = new TransferRequest(3L, 1L, new BigDecimal("50.00"), 30L, TRANSACTION_ID);
+
+        accountService.executeTransfer(SERVICE_KEY, request);
+        accountService.executeTransfer(SERVICE_KEY, request);
+
+        assertEquals(new BigDecimal("450.00"), sender.getBalance());
+        assertEquals(new BigDecimal("50.00"), receiver.getBalance());
+    }
+
+    @Test
+    void transferFromSomeoneElsesAccountIsRejectedBeforeMovingMoney() {
+        Account sender = account(1L, 10L, "500.00");
+        account(2L, 20L, "0.00");
+
+        assertThrows(UnauthorizedException.class, () -> accountService.executeTransfer(SERVICE_KEY,
+                new TransferRequest(1L, 2L, new BigDecimal("50.00"), 20L, TRANSACTION_ID)));
+
+        assertEquals(new BigDecimal("500.00"), sender.getBalance());
+        assertTrue(ledger.isEmpty());
+    }
+
+    private Account account(Long id, Long userId, String balance) {
+        Account account = Account.builder()
+                .id(id)
+                .userId(userId)
+                .balance(new BigDecimal(balance))
+                .availableBalance(new BigDecimal(balance))
+                .build();
+        when(accountRepository.findByIdForUpdate(id)).thenReturn(Optional.of(account));
+        return account;
+    }
+
+    private static String key(String transactionId, Long accountId, MovementType type) {
+        return transactionId + "/" + accountId + "/" + type;
+    }
+}
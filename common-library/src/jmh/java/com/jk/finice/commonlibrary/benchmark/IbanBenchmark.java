@@ -0,0 +1,100 @@
+package com.jk.finice.commonlibrary.benchmark;
+
+import com.jk.finice.commonlibrary.utils.IbanUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IbanUtils against the regex + BigInteger implementation it replaced.
+ * <p>
+ * Run with: mvn -P benchmark -pl common-library package && java -jar common-library/target/benchmarks.jar
+ * Add {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IbanBenchmark {
+
+    private static final String[] IBANS = {
+            "GB82WEST12345698765432",
+            "DE89370400440532013000",
+            "FR1420041010050500013M02606",
+            "PL61109010140000071219812874",
+            "TR330006100519786457841326",
+            "GB82WEST12345698765433" // check digit mismatch
+    };
+
+    private static final String BBAN = "FINI1712345678901234";
+
+    private int cursor;
+
+    private String nextIban() {
+        cursor = (cursor + 1) % IBANS.length;
+        return IBANS[cursor];
+    }
+
+    @Benchmark
+    public void validateIbanUtils(Blackhole blackhole) {
+        blackhole.consume(IbanUtils.check(nextIban()));
+    }
+
+    @Benchmark
+    public void validateLegacy(Blackhole blackhole) {
+        blackhole.consume(Legacy.validate(nextIban()));
+    }
+
+    @Benchmark
+    public String checkDigitsIbanUtils() {
+        return IbanUtils.checkDigits("UZ", BBAN);
+    }
+
+    @Benchmark
+    public String checkDigitsLegacy() {
+        return Legacy.generateCheckDigit(BBAN, "UZ");
+    }
+
+    /**
+     * Copy of the previous IbanValidator / AccountServiceImpl code paths
+     */
+    static final class Legacy {
+
+        static boolean validate(String iban) {
+            if (!iban.matches("^[A-Z0-9]+$") || iban.length() < 5) {
+                return false;
+            }
+            if (!iban.substring(0, 2).matches("^[A-Z]{2}$")) {
+                return false;
+            }
+            String rearranged = iban.substring(4) + iban.substring(0, 4);
+            StringBuilder numericString = new StringBuilder();
+            for (char c : rearranged.toCharArray()) {
+                if (Character.isLetter(c)) {
+                    numericString.append(Character.getNumericValue(c));
+                } else {
+                    numericString.append(c);
+                }
+            }
+            return new BigInteger(numericString.toString()).remainder(BigInteger.valueOf(97)).equals(BigInteger.ONE);
+        }
+
+        static String generateCheckDigit(String bban, String countryCode) {
+            String rearrangedIban = bban + countryCode + "00";
+            StringBuilder numericString = new StringBuilder();
+            for (char c : rearrangedIban.toCharArray()) {
+                if (Character.isLetter(c)) {
+                    numericString.append(Character.getNumericValue(c));
+                } else {
+                    numericString.append(c);
+                }
+            }
+            BigInteger mod97 = new BigInteger(numericString.toString()).remainder(new BigInteger("97"));
+            return String.format("%02d", 98 - mod97.intValue());
+        }
+    }
+}
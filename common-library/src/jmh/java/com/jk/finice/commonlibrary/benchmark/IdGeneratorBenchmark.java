@@ -0,0 +1,81 @@
+package com.jk.finice.commonlibrary.benchmark;
+
+import com.jk.finice.commonlibrary.utils.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeOrderedIdGenerator against the UUID / SecureRandom based generation it replaced.
+ * The *Contended variants run on 4 threads to include the CAS retries.
+ * <p>
+ * Run with: mvn -P benchmark -pl common-library package && java -jar common-library/target/benchmarks.jar IdGenerator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(42);
+
+    @Benchmark
+    public String transactionIdTimeOrdered() {
+        return generator.nextId("TXN");
+    }
+
+    @Benchmark
+    public String transactionIdLegacy() {
+        return Legacy.generateTransactionId();
+    }
+
+    @Benchmark
+    public String referenceTimeOrdered() {
+        return generator.nextReference("REF");
+    }
+
+    @Benchmark
+    public String referenceLegacy() {
+        return Legacy.generateReference();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String transactionIdTimeOrderedContended() {
+        return generator.nextId("TXN");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String transactionIdLegacyContended() {
+        return Legacy.generateTransactionId();
+    }
+
+    /**
+     * Copy of the previous TransactionServiceImpl helpers
+     */
+    static final class Legacy {
+
+        static String generateTransactionId() {
+            String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            String random = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+            return "TXN-" + date + "-" + random;
+        }
+
+        static String generateReference() {
+            String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            SecureRandom random = new SecureRandom();
+            byte[] tokenBytes = new byte[32];
+            random.nextBytes(tokenBytes);
+            String suffix = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes).substring(0, 6).toUpperCase();
+            return "REF-" + date + "-" + suffix;
+        }
+    }
+}
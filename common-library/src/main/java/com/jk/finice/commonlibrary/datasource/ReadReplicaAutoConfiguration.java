@@ -0,0 +1,96 @@
+package com.jk.finice.commonlibrary.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica routing, see {@link ReplicaRoutingDataSource}.
+ * <p>
+ * A service turns it on by exposing its {@link ReadReplicaSettings} as a bean, typically only
+ * when its own {@code <service>.read-replica.enabled} is true. The primary pool
+ * ({@code spring.datasource}) and a replica pool ({@code spring.datasource.replica}) then sit
+ * behind one routing DataSource and read-only transactions of GET requests go to the replica.
+ * Otherwise Spring Boot's single pool is left as it is. {@link RecentWriters} is always there,
+ * so services can record writes without caring whether routing is on.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass({HikariDataSource.class, LazyConnectionDataSourceProxy.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ReadReplicaAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RecentWriters recentWriters(ObjectProvider<ReadReplicaSettings> settings) {
+        return new RecentWriters(settings.getIfAvailable(ReadReplicaSettings::new).getMaxStaleness());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(ReadReplicaSettings.class)
+    static class Routing {
+
+        @Bean
+        @Primary
+        @ConfigurationProperties("spring.datasource")
+        public DataSourceProperties primaryDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.replica")
+        public DataSourceProperties replicaDataSourceProperties() {
+            return new DataSourceProperties();
+        }
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                                 @Qualifier("replicaDataSource") DataSource replica,
+                                                                 ReadReplicaSettings settings) {
+            return new ReplicaRoutingDataSource(primary, replica, settings);
+        }
+
+        // What JPA, Flyway and JdbcTemplate get
+        @Bean
+        @Primary
+        public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        }
+
+        @Bean
+        public FilterRegistrationBean<ReplicaReadFilter> replicaReadFilter(RecentWriters recentWriters,
+                                                                           ReadReplicaSettings settings) {
+            FilterRegistrationBean<ReplicaReadFilter> registration =
+                    new FilterRegistrationBean<>(new ReplicaReadFilter(recentWriters, settings.getPrimaryPaths()));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+}
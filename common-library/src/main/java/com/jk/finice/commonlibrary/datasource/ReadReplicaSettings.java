@@ -0,0 +1,25 @@
+package com.jk.finice.commonlibrary.datasource;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routing knobs of {@link ReplicaRoutingDataSource}, bound per service under {@code <service>.read-replica}.
+ * The replica's connection settings live under {@code spring.datasource.replica}.
+ */
+@Data
+public class ReadReplicaSettings {
+
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private boolean enabled = false;
+    private Duration maxStaleness = Duration.ofSeconds(5);    // replica further behind is skipped, also the read-your-writes window
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+    private String lagQuery = POSTGRES_LAG_QUERY;             // returns lag in ms; blank only checks the replica is reachable
+    private List<String> primaryPaths = new ArrayList<>();    // request path prefixes that always read from the primary
+}
@@ -0,0 +1,59 @@
+package com.jk.finice.commonlibrary.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Users who changed something within the last {@code window}, so their own reads skip the replica
+ * until it can have caught up. Entries expire on their own, the map is pruned every few thousand writes.
+ */
+public class RecentWriters {
+
+    private static final int PRUNE_EVERY = 4096;
+
+    private final long windowMillis;
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePrune = new AtomicInteger();
+
+    public RecentWriters(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Inside a transaction the write counts from its commit, otherwise from now
+     */
+    public void recordWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    touch(userId);
+                }
+            });
+        } else {
+            touch(userId);
+        }
+    }
+
+    public boolean wroteRecently(Long userId) {
+        Long at = lastWriteAt.get(userId);
+        return at != null && System.currentTimeMillis() - at < windowMillis;
+    }
+
+    private void touch(Long userId) {
+        long now = System.currentTimeMillis();
+        lastWriteAt.put(userId, now);
+        if (writesSincePrune.incrementAndGet() >= PRUNE_EVERY) {
+            writesSincePrune.set(0);
+            lastWriteAt.values().removeIf(at -> now - at >= windowMillis);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.jk.finice.commonlibrary.datasource;
+
+import com.jk.finice.commonlibrary.constants.AppConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Decides per request whether its read-only transactions may use the replica.
+ * <p>
+ * Only GET/HEAD requests outside {@code primary-paths} whose user has not written within
+ * {@code max-staleness} are opened up. Any other successful request by a known user
+ * (X-User-ID) counts as a write by that user.
+ */
+public class ReplicaReadFilter extends OncePerRequestFilter {
+
+    private final RecentWriters recentWriters;
+    private final List<String> primaryPaths;
+
+    public ReplicaReadFilter(RecentWriters recentWriters, List<String> primaryPaths) {
+        this.recentWriters = recentWriters;
+        this.primaryPaths = List.copyOf(primaryPaths);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long userId = parseUserId(request.getHeader(AppConstants.USER_ID_HEADER));
+        String method = request.getMethod();
+
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                if (userId != null && response.getStatus() < 400) {
+                    recentWriters.recordWrite(userId);
+                }
+            }
+            return;
+        }
+
+        if (isPrimaryPath(request.getRequestURI()) || (userId != null && recentWriters.wroteRecently(userId))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.allowReplicaReads();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearReplicaReads();
+        }
+    }
+
+    private boolean isPrimaryPath(String uri) {
+        for (String prefix : primaryPaths) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long parseUserId(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.jk.finice.commonlibrary.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends read-only transactions to a replica pool, everything else to the primary.
+ * <p>
+ * The replica is used only when all of these hold: the transaction is
+ * {@code @Transactional(readOnly = true)}, the current thread was opened up for it by
+ * {@link ReplicaReadFilter} (a GET whose user has not just written), and the last lag check
+ * found the replica at most {@code max-staleness} behind. Background work never opens up,
+ * so workers keep reading their own writes from the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * a connection before it flags the transaction read-only, the lazy proxy defers that to the
+ * first statement. A monitor thread re-checks the lag every {@code lag-check-interval}; until
+ * the first check succeeds all reads go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Boolean> REPLICA_READS = new ThreadLocal<>();
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final DataSource replica;
+    private final ReadReplicaSettings settings;
+    private final ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("replica-lag-monitor").factory());
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadReplicaSettings settings) {
+        this.replica = replica;
+        this.settings = settings;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    static void allowReplicaReads() {
+        REPLICA_READS.set(Boolean.TRUE);
+    }
+
+    static void clearReplicaReads() {
+        REPLICA_READS.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean toReplica = replicaUsable
+                && REPLICA_READS.get() != null
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return toReplica ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        long intervalMillis = settings.getLagCheckInterval().toMillis();
+        monitor.scheduleWithFixedDelay(this::checkReplicaLag, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        monitor.shutdownNow();
+    }
+
+    private void checkReplicaLag() {
+        long maxStalenessMillis = settings.getMaxStaleness().toMillis();
+        String lagQuery = settings.getLagQuery();
+        boolean usable;
+        String detail;
+
+        try (Connection connection = replica.getConnection()) {
+            long lagMillis = 0;
+            if (lagQuery != null && !lagQuery.isBlank()) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(lagQuery)) {
+                    lagMillis = rs.next() ? rs.getLong(1) : Long.MAX_VALUE;
+                }
+            }
+            usable = lagMillis <= maxStalenessMillis;
+            detail = "lag " + lagMillis + " ms, tolerance " + maxStalenessMillis + " ms";
+        } catch (SQLException | RuntimeException e) {
+            usable = false;
+            detail = e.getMessage();
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("[REPLICA-ROUTING] Read replica in use ({})", detail);
+            } else {
+                log.warn("[REPLICA-ROUTING] Read replica skipped, reads go to the primary ({})", detail);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,46 @@
+package com.jk.finice.commonlibrary.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Cursor based variant of {@link PaginatedResponse}
+ * No totals: the next page is addressed by an opaque cursor instead of a page number,
+ * so the server never has to count or skip rows
+ *
+ * @param <T> Type of content items
+ * @author LastCoderBoy
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPaginatedResponse<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<T> content;
+    private int pageSize;
+    private boolean hasNext;
+    private String nextCursor; // null on the last page
+
+    public static <T> CursorPaginatedResponse<T> of(List<T> content, int pageSize, String nextCursor) {
+        return new CursorPaginatedResponse<>(content, pageSize, nextCursor != null, nextCursor);
+    }
+
+    /**
+     * Factory method for empty cursor response
+     */
+    public static <T> CursorPaginatedResponse<T> empty(int pageSize) {
+        return new CursorPaginatedResponse<>(List.of(), pageSize, false, null);
+    }
+}
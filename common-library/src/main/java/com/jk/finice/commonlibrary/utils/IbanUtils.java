@@ -0,0 +1,161 @@
+package com.jk.finice.commonlibrary.utils;
+
+/**
+ * IBAN structure and check digit arithmetic (ISO 13616), shared by account-service
+ * (generation) and transaction-service (validation).
+ * <p>
+ * Works on the characters in place: no regex, no substring, no BigInteger. MOD-97 is
+ * computed incrementally on an int, one digit (or two for a letter) at a time, so the
+ * remainder never exceeds 97 * 100.
+ */
+public final class IbanUtils {
+    private IbanUtils() {}
+
+    public static final int MIN_LENGTH = 5;
+
+    /**
+     * Outcome of {@link #check(CharSequence)}, in the order the checks run
+     */
+    public enum Check {
+        VALID,
+        EMPTY,
+        INVALID_CHARACTERS,
+        TOO_SHORT,
+        INVALID_COUNTRY_CODE,
+        INVALID_LENGTH,
+        CHECKSUM_MISMATCH
+    }
+
+    // Expected length per country, indexed by (first letter * 26 + second letter); 0 = not registered
+    private static final byte[] LENGTHS = new byte[26 * 26];
+
+    static {
+        // SWIFT IBAN registry (ISO 13616)
+        register("AD", 24); register("AE", 23); register("AL", 28); register("AT", 20);
+        register("AZ", 28); register("BA", 20); register("BE", 16); register("BG", 22);
+        register("BH", 22); register("BI", 27); register("BR", 29); register("BY", 28);
+        register("CH", 21); register("CR", 22); register("CY", 28); register("CZ", 24);
+        register("DE", 22); register("DJ", 27); register("DK", 18); register("DO", 28);
+        register("EE", 20); register("EG", 29); register("ES", 24); register("FI", 18);
+        register("FK", 18); register("FO", 18); register("FR", 27); register("GB", 22);
+        register("GE", 22); register("GI", 23); register("GL", 18); register("GR", 27);
+        register("GT", 28); register("HN", 28); register("HR", 21); register("HU", 28);
+        register("IE", 22); register("IL", 23); register("IQ", 23); register("IS", 26);
+        register("IT", 27); register("JO", 30); register("KW", 30); register("KZ", 20);
+        register("LB", 28); register("LC", 32); register("LI", 21); register("LT", 20);
+        register("LU", 20); register("LV", 21); register("LY", 25); register("MC", 27);
+        register("MD", 24); register("ME", 22); register("MK", 19); register("MN", 20);
+        register("MR", 27); register("MT", 31); register("MU", 30); register("NI", 28);
+        register("NL", 18); register("NO", 15); register("OM", 23); register("PK", 24);
+        register("PL", 28); register("PS", 29); register("PT", 25); register("QA", 29);
+        register("RO", 24); register("RS", 22); register("RU", 33); register("SA", 24);
+        register("SC", 31); register("SD", 18); register("SE", 24); register("SI", 19);
+        register("SK", 24); register("SM", 27); register("SO", 23); register("ST", 25);
+        register("SV", 28); register("TL", 23); register("TN", 24); register("TR", 26);
+        register("UA", 29); register("VA", 22); register("VG", 24); register("XK", 20);
+        register("YE", 30);
+
+        // Not in the registry, FinIce's own account format
+        register("UZ", 24);
+        register("US", 24);
+    }
+
+    private static void register(String countryCode, int length) {
+        LENGTHS[index(countryCode.charAt(0), countryCode.charAt(1))] = (byte) length;
+    }
+
+    /**
+     * Full structural and MOD-97 check of an already normalized (upper case, no spaces) IBAN.
+     * Countries outside the length table are accepted on MOD-97 alone.
+     */
+    public static Check check(CharSequence iban) {
+        if (iban == null || iban.isEmpty()) {
+            return Check.EMPTY;
+        }
+
+        int length = iban.length();
+        for (int i = 0; i < length; i++) {
+            if (valueOf(iban.charAt(i)) < 0) {
+                return Check.INVALID_CHARACTERS;
+            }
+        }
+
+        if (length < MIN_LENGTH) {
+            return Check.TOO_SHORT;
+        }
+
+        if (!isLetter(iban.charAt(0)) || !isLetter(iban.charAt(1))) {
+            return Check.INVALID_COUNTRY_CODE;
+        }
+
+        int expected = expectedLength(iban.charAt(0), iban.charAt(1));
+        if (expected != 0 && length != expected) {
+            return Check.INVALID_LENGTH;
+        }
+
+        // Rearranged form is BBAN + country code + check digits, valid IBANs leave remainder 1
+        int remainder = mod97(iban, 4, length, 0);
+        remainder = mod97(iban, 0, 4, remainder);
+        return remainder == 1 ? Check.VALID : Check.CHECKSUM_MISMATCH;
+    }
+
+    public static boolean isValid(CharSequence iban) {
+        return check(iban) == Check.VALID;
+    }
+
+    /**
+     * @return registered IBAN length for the country code, 0 if the country is unknown
+     */
+    public static int expectedLength(char first, char second) {
+        if (!isLetter(first) || !isLetter(second)) {
+            return 0;
+        }
+        return LENGTHS[index(first, second)];
+    }
+
+    /**
+     * The two check digits for a new IBAN: 98 - (BBAN + country code + "00") mod 97
+     */
+    public static String checkDigits(CharSequence countryCode, CharSequence bban) {
+        int remainder = mod97(bban, 0, bban.length(), 0);
+        remainder = mod97(countryCode, 0, countryCode.length(), remainder);
+        remainder = (remainder * 100) % 97; // the "00" placeholder
+        int digits = 98 - remainder;
+        return new String(new char[]{(char) ('0' + digits / 10), (char) ('0' + digits % 10)});
+    }
+
+    /**
+     * Continues a MOD-97 over chars [from, to), letters count as two digits (A=10 ... Z=35).
+     * Throws on anything that is not 0-9 or A-Z.
+     */
+    public static int mod97(CharSequence value, int from, int to, int remainder) {
+        for (int i = from; i < to; i++) {
+            int digitValue = valueOf(value.charAt(i));
+            if (digitValue < 0) {
+                throw new IllegalArgumentException("Invalid IBAN character at position " + i);
+            }
+            remainder = (digitValue < 10 ? remainder * 10 : remainder * 100) + digitValue;
+            remainder %= 97;
+        }
+        return remainder;
+    }
+
+    // 0-9 for digits, 10-35 for A-Z, -1 for anything else
+    private static int valueOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (isLetter(c)) {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static int index(char first, char second) {
+        return (first - 'A') * 26 + (second - 'A');
+    }
+}
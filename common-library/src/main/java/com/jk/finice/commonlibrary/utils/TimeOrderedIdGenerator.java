@@ -0,0 +1,146 @@
+package com.jk.finice.commonlibrary.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic, time-ordered public IDs in the {@code PREFIX-yyyyMMdd-XXXXXXXXXXXX} shape.
+ * <p>
+ * Snowflake-style: the 12 hex chars are {@code millisOfDay (27 bits) | node (10 bits) | sequence (11 bits)},
+ * so IDs of one node sort by creation time and consecutive inserts land next to each other in
+ * the unique index instead of on a random B-tree page. References use the same idea with
+ * seconds, in 8 base36 chars: {@code (secondOfDay * 1024 + node) * 30000 + sequence}.
+ * <p>
+ * Each counter is a single CAS on an AtomicLong: if the clock has not moved the sequence is
+ * bumped, when it runs out the value simply carries into the next tick (borrowing a little
+ * time), and a clock that steps backwards is ignored. The date prefix is cached per day.
+ * Two generators must never share a node ID.
+ */
+public final class TimeOrderedIdGenerator {
+
+    public static final int MAX_NODE_ID = 1023;
+
+    private static final int SEQUENCE_BITS = 11;
+    private static final int NODE_BITS = 10;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long REFERENCE_NODES = 1L << NODE_BITS;
+    private static final long REFERENCE_SEQUENCE = 30_000; // per node and second; 25h DST day * 1024 * 30000 < 36^8
+    private static final int REFERENCE_LENGTH = 8;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final char[] BASE36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final Clock clock;
+    private final int nodeId;
+
+    private final AtomicLong idState = new AtomicLong();        // epochMillis << SEQUENCE_BITS | sequence
+    private final AtomicLong referenceState = new AtomicLong(); // epochSecond * REFERENCE_SEQUENCE + sequence
+
+    private volatile Day day;
+
+    public TimeOrderedIdGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.day = Day.containing(clock.millis(), clock.getZone());
+    }
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param prefix e.g. "TXN", the result is {@code TXN-20250422-0A3F8C2E1D4B}
+     */
+    public String nextId(String prefix) {
+        long state = next(idState, clock.millis() << SEQUENCE_BITS);
+        long epochMillis = state >>> SEQUENCE_BITS;
+        long sequence = state & MAX_SEQUENCE;
+
+        Day current = dayOf(epochMillis);
+        long millisOfDay = epochMillis - current.startMillis;
+        long value = (millisOfDay << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+
+        char[] out = current.prefixed(prefix, 12);
+        for (int i = out.length - 1, shift = 0; shift < 48; i--, shift += 4) {
+            out[i] = HEX[(int) (value >>> shift) & 0xF];
+        }
+        return new String(out);
+    }
+
+    /**
+     * @param prefix e.g. "REF", the result is {@code REF-20250422-0K7Q2X9A}
+     */
+    public String nextReference(String prefix) {
+        long state = next(referenceState, (clock.millis() / 1000) * REFERENCE_SEQUENCE);
+        long epochSecond = state / REFERENCE_SEQUENCE;
+        long sequence = state % REFERENCE_SEQUENCE;
+
+        Day current = dayOf(epochSecond * 1000);
+        long secondOfDay = epochSecond - current.startMillis / 1000;
+        long value = (secondOfDay * REFERENCE_NODES + nodeId) * REFERENCE_SEQUENCE + sequence;
+
+        char[] out = current.prefixed(prefix, REFERENCE_LENGTH);
+        for (int i = out.length - 1, n = 0; n < REFERENCE_LENGTH; i--, n++) {
+            out[i] = BASE36[(int) (value % 36)];
+            value /= 36;
+        }
+        return new String(out);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    // Now, or one step past the last value if the clock has not moved (or went backwards)
+    private static long next(AtomicLong state, long floor) {
+        while (true) {
+            long last = state.get();
+            long candidate = Math.max(floor, last + 1);
+            if (state.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private Day dayOf(long epochMillis) {
+        Day current = day;
+        if (epochMillis >= current.startMillis && epochMillis < current.endMillis) {
+            return current;
+        }
+        Day other = Day.containing(epochMillis, clock.getZone());
+        if (other.startMillis > current.startMillis) {
+            day = other; // only ever move forward, a borrowed or late ID does not evict today
+        }
+        return other;
+    }
+
+    private record Day(long startMillis, long endMillis, char[] digits) {
+
+        static Day containing(long epochMillis, ZoneId zone) {
+            LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+            long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            return new Day(start, end, date.format(DAY_FORMAT).toCharArray());
+        }
+
+        // "PREFIX-yyyyMMdd-" followed by suffixLength unfilled chars
+        char[] prefixed(String prefix, int suffixLength) {
+            int prefixLength = prefix.length();
+            char[] out = new char[prefixLength + 1 + digits.length + 1 + suffixLength];
+            prefix.getChars(0, prefixLength, out, 0);
+            out[prefixLength] = '-';
+            System.arraycopy(digits, 0, out, prefixLength + 1, digits.length);
+            out[prefixLength + 1 + digits.length] = '-';
+            return out;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.jk.finice.commonlibrary.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IbanUtilsTest {
+
+    // SWIFT registry examples across the length table
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "NO9386011117947",                  // 15
+            "BE68539007547034",                 // 16
+            "NL91ABNA0417164300",               // 18
+            "CH9300762011623852957",            // 21
+            "GB82WEST12345698765432",           // 22
+            "DE89370400440532013000",           // 22
+            "ES9121000418450200051332",         // 24
+            "FR1420041010050500013M02606",      // 27
+            "MT84MALT011000012345MTLCAST001S",  // 31
+    })
+    void acceptsRegistryExamples(String iban) {
+        assertEquals(IbanUtils.Check.VALID, IbanUtils.check(iban));
+        assertTrue(IbanUtils.isValid(iban));
+    }
+
+    @Test
+    void rejectsWrongCheckDigits() {
+        assertEquals(IbanUtils.Check.CHECKSUM_MISMATCH, IbanUtils.check("GB82WEST12345698765431"));
+        assertEquals(IbanUtils.Check.CHECKSUM_MISMATCH, IbanUtils.check("GB28WEST12345698765432"));
+    }
+
+    @Test
+    void rejectsTransposedDigits() {
+        assertEquals(IbanUtils.Check.CHECKSUM_MISMATCH, IbanUtils.check("DE89370400440532031000"));
+    }
+
+    @Test
+    void reportsChecksInOrder() {
+        assertEquals(IbanUtils.Check.EMPTY, IbanUtils.check(null));
+        assertEquals(IbanUtils.Check.EMPTY, IbanUtils.check(""));
+        assertEquals(IbanUtils.Check.INVALID_CHARACTERS, IbanUtils.check("gb82WEST12345698765432"));
+        assertEquals(IbanUtils.Check.INVALID_CHARACTERS, IbanUtils.check("GB82 WEST 1234 5698 7654 32"));
+        assertEquals(IbanUtils.Check.TOO_SHORT, IbanUtils.check("GB82"));
+        assertEquals(IbanUtils.Check.INVALID_COUNTRY_CODE, IbanUtils.check("1282WEST12345698765432"));
+        assertEquals(IbanUtils.Check.INVALID_LENGTH, IbanUtils.check("DE8937040044053201300"));
+        assertEquals(IbanUtils.Check.INVALID_LENGTH, IbanUtils.check("DE893704004405320130000"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "AD, 24", "BE, 16", "CH, 21", "DE, 22", "FR, 27", "GB, 22", "IT, 27",
+            "LC, 32", "MT, 31", "NL, 18", "NO, 15", "RU, 33", "SE, 24", "UZ, 24", "US, 24"
+    })
+    void knowsRegisteredLengths(String country, int length) {
+        assertEquals(length, IbanUtils.expectedLength(country.charAt(0), country.charAt(1)));
+    }
+
+    @Test
+    void unknownCountriesHaveNoLength() {
+        assertEquals(0, IbanUtils.expectedLength('Z', 'Z'));
+        assertEquals(0, IbanUtils.expectedLength('A', 'A'));
+        assertEquals(0, IbanUtils.expectedLength('1', '2'));
+        assertEquals(0, IbanUtils.expectedLength('d', 'e'));
+    }
+
+    @Test
+    void unknownCountriesAreCheckedOnMod97Alone() {
+        String bban = "1234567890ABC";
+        String iban = "ZZ" + IbanUtils.checkDigits("ZZ", bban) + bban;
+
+        assertEquals(IbanUtils.Check.VALID, IbanUtils.check(iban));
+        assertEquals(IbanUtils.Check.CHECKSUM_MISMATCH, IbanUtils.check(iban.replace('C', 'D')));
+    }
+
+    @Test
+    void computesCheckDigitsOfRegistryExamples() {
+        assertEquals("82", IbanUtils.checkDigits("GB", "WEST12345698765432"));
+        assertEquals("89", IbanUtils.checkDigits("DE", "370400440532013000"));
+        assertEquals("14", IbanUtils.checkDigits("FR", "20041010050500013M02606"));
+        assertEquals("93", IbanUtils.checkDigits("NO", "86011117947"));
+    }
+
+    @Test
+    void generatedIbansValidate() {
+        for (int i = 0; i < 1_000; i++) {
+            String bban = String.format("%020d", i * 7_919L);
+            String iban = "UZ" + IbanUtils.checkDigits("UZ", bban) + bban;
+            assertTrue(IbanUtils.isValid(iban), iban);
+        }
+    }
+
+    @Test
+    void mod97MatchesBigIntegerArithmetic() {
+        // "WEST" is 32 14 28 29 as digits
+        String digits = "3214282912345698765432161182";
+        int expected = new BigInteger(digits).mod(BigInteger.valueOf(97)).intValue();
+
+        int remainder = IbanUtils.mod97("WEST12345698765432GB82", 0, 22, 0);
+
+        assertEquals(expected, remainder);
+        assertEquals(1, remainder);
+    }
+
+    @Test
+    void mod97RejectsForeignCharacters() {
+        assertThrows(IllegalArgumentException.class, () -> IbanUtils.mod97("12-34", 0, 5, 0));
+        assertFalse(IbanUtils.isValid("GB82WEST1234569876543!"));
+    }
+}
@@ -0,0 +1,235 @@
+package com.jk.finice.commonlibrary.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+    private static final Instant NOON = LocalDateTime.of(2025, 4, 22, 12, 0).toInstant(ZoneOffset.UTC);
+
+    private static final int SEQUENCE_PER_MILLI = 2048;
+    private static final int REFERENCES_PER_SECOND = 30_000;
+
+    @Test
+    void idsHaveTheDocumentedShape() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, new SettableClock(NOON));
+
+        String id = generator.nextId("TXN");
+        String reference = generator.nextReference("REF");
+
+        assertTrue(id.matches("TXN-20250422-[0-9A-F]{12}"), id);
+        assertTrue(reference.matches("REF-20250422-[0-9A-Z]{8}"), reference);
+        assertEquals(7, nodeOf(id));
+        assertEquals(12 * 3_600_000L, millisOfDayOf(id));
+    }
+
+    @Test
+    void idsIncreaseWhileTheClockStandsStill() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, new SettableClock(NOON));
+
+        String previous = generator.nextId("TXN");
+        for (int i = 0; i < 1_000; i++) {
+            String next = generator.nextId("TXN");
+            assertTrue(next.compareTo(previous) > 0, previous + " then " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsIncreaseWhenTheClockStepsBack() {
+        SettableClock clock = new SettableClock(NOON);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock);
+
+        String before = generator.nextId("TXN");
+        clock.set(NOON.minusSeconds(5));
+        String after = generator.nextId("TXN");
+
+        assertTrue(after.compareTo(before) > 0, before + " then " + after);
+        assertEquals(millisOfDayOf(before), millisOfDayOf(after));
+    }
+
+    @Test
+    void exhaustedSequenceCarriesIntoTheNextMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, new SettableClock(NOON));
+        long noonMillis = 12 * 3_600_000L;
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= SEQUENCE_PER_MILLI; i++) {
+            ids.add(generator.nextId("TXN"));
+        }
+
+        assertEquals(noonMillis, millisOfDayOf(ids.get(SEQUENCE_PER_MILLI - 1)));
+        assertEquals(SEQUENCE_PER_MILLI - 1, sequenceOf(ids.get(SEQUENCE_PER_MILLI - 1)));
+        String carried = ids.get(SEQUENCE_PER_MILLI);
+        assertEquals(noonMillis + 1, millisOfDayOf(carried));
+        assertEquals(0, sequenceOf(carried));
+        assertEquals(3, nodeOf(carried));
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void carryPastMidnightMovesToTheNextDay() {
+        Instant lastMilli = LocalDateTime.of(2025, 4, 22, 23, 59, 59, 999_000_000).toInstant(ZoneOffset.UTC);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, new SettableClock(lastMilli));
+
+        String last = null;
+        for (int i = 0; i <= SEQUENCE_PER_MILLI; i++) {
+            last = generator.nextId("TXN");
+        }
+
+        assertTrue(last.startsWith("TXN-20250423-"), last);
+        assertEquals(0, millisOfDayOf(last));
+    }
+
+    @Test
+    void exhaustedReferenceSequenceCarriesIntoTheNextSecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(5, new SettableClock(NOON));
+
+        Set<String> references = new HashSet<>();
+        String previous = "";
+        for (int i = 0; i <= REFERENCES_PER_SECOND; i++) {
+            String next = generator.nextReference("REF");
+            assertTrue(next.compareTo(previous) > 0, previous + " then " + next);
+            references.add(next);
+            previous = next;
+        }
+
+        assertEquals(REFERENCES_PER_SECOND + 1, references.size());
+        long carried = base36(previous.substring(previous.length() - 8));
+        assertEquals(12 * 3_600L + 1, carried / REFERENCES_PER_SECOND / 1024);
+        assertEquals(0, carried % REFERENCES_PER_SECOND);
+    }
+
+    @Test
+    void idsAreUniqueAndOrderedPerThreadAcrossThreads() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(9, Clock.system(UTC));
+        int threads = 8;
+        int perThread = 20_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> ordered = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                ordered.add(executor.submit(() -> {
+                    start.await();
+                    boolean increasing = true;
+                    String previous = "";
+                    for (int i = 0; i < perThread; i++) {
+                        String id = generator.nextId("TXN");
+                        if (sameDay(id, previous) && id.compareTo(previous) <= 0) {
+                            increasing = false;
+                        }
+                        ids.add(id);
+                        references.add(generator.nextReference("REF"));
+                        previous = id;
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : ordered) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+        assertEquals(threads * perThread, references.size());
+    }
+
+    @Test
+    void nodesNeverCollide() {
+        SettableClock clock = new SettableClock(NOON);
+        TimeOrderedIdGenerator first = new TimeOrderedIdGenerator(1, clock);
+        TimeOrderedIdGenerator second = new TimeOrderedIdGenerator(2, clock);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(ids.add(first.nextId("TXN")));
+            assertTrue(ids.add(second.nextId("TXN")));
+        }
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+
+    private static long suffixOf(String id) {
+        return Long.parseLong(id.substring(id.length() - 12), 16);
+    }
+
+    private static long millisOfDayOf(String id) {
+        return suffixOf(id) >>> 21;
+    }
+
+    private static long nodeOf(String id) {
+        return (suffixOf(id) >>> 11) & 0x3FF;
+    }
+
+    private static long sequenceOf(String id) {
+        return suffixOf(id) & 0x7FF;
+    }
+
+    private static boolean sameDay(String id, String previous) {
+        return previous.length() == id.length() && previous.regionMatches(0, id, 0, 13);
+    }
+
+    private static long base36(String digits) {
+        return Long.parseLong(digits, 36);
+    }
+
+    // Clock.fixed that a test can move
+    private static final class SettableClock extends Clock {
+
+        private volatile Instant now;
+
+        SettableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
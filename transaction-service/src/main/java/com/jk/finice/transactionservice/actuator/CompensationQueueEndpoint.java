@@ -0,0 +1,50 @@
+package com.jk.finice.transactionservice.actuator;
+
+import com.jk.finice.transactionservice.dto.response.CompensationTaskResponse;
+import com.jk.finice.transactionservice.enums.CompensationStatus;
+import com.jk.finice.transactionservice.service.persistence.CompensationQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/compensations - queue depth and the dead-letter list for ops
+ */
+@Component
+@Endpoint(id = "compensations")
+@RequiredArgsConstructor
+public class CompensationQueueEndpoint {
+
+    private static final int DEAD_LETTER_LIMIT = 100;
+
+    private final CompensationQueueService compensationQueueService;
+
+    @ReadOperation
+    public Map<String, Object> compensations() {
+        List<CompensationTaskResponse> dead = compensationQueueService.findDead(DEAD_LETTER_LIMIT).stream()
+                .map(task -> CompensationTaskResponse.builder()
+                        .id(task.getId())
+                        .transactionId(task.getTransactionId())
+                        .accountId(task.getAccountId())
+                        .action(task.getAction())
+                        .amount(task.getAmount())
+                        .status(task.getStatus())
+                        .attempts(task.getAttempts())
+                        .lastError(task.getLastError())
+                        .createdAt(task.getCreatedAt())
+                        .updatedAt(task.getUpdatedAt())
+                        .build())
+                .toList();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("pending", compensationQueueService.countByStatus(CompensationStatus.PENDING));
+        body.put("dead", compensationQueueService.countByStatus(CompensationStatus.DEAD));
+        body.put("deadLetters", dead);
+        return body;
+    }
+}
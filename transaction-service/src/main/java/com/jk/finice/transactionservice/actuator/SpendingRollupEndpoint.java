@@ -0,0 +1,50 @@
+package com.jk.finice.transactionservice.actuator;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.service.analytics.SpendingAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * POST /actuator/rollups with {"from": "2025-01", "to": "2025-06"} recomputes the spending
+ * rollups of those months from the transactions (backfill after the table was added, or a repair).
+ * {@code to} defaults to {@code from}.
+ */
+@Component
+@Endpoint(id = "rollups")
+@RequiredArgsConstructor
+public class SpendingRollupEndpoint {
+
+    private final SpendingAnalyticsService spendingAnalyticsService;
+
+    @WriteOperation
+    public Map<String, Object> rebuild(String from, @Nullable String to) {
+        YearMonth start = parse(from);
+        YearMonth end = to != null ? parse(to) : start;
+        if (start.isAfter(end)) {
+            throw new ValidationException("'from' must not be after 'to'");
+        }
+
+        Map<YearMonth, Integer> written = spendingAnalyticsService.rebuild(start, end);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("months", written.size());
+        body.put("buckets", written);
+        return body;
+    }
+
+    private static YearMonth parse(String month) {
+        try {
+            return YearMonth.parse(month.trim());
+        } catch (Exception e) {
+            throw new ValidationException("Month must be given as yyyy-MM: " + month);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jk.finice.transactionservice.actuator;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.commonlibrary.utils.MaskingUtils;
+import com.jk.finice.transactionservice.dto.response.HeldTransferResponse;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/reviews - transfers the risk stage held, oldest first.
+ * POST /actuator/reviews/{transactionId} with {"decision": "approve"} executes one,
+ * {"decision": "reject", "reason": "..."} fails it.
+ */
+@Component
+@Endpoint(id = "reviews")
+@RequiredArgsConstructor
+public class TransferReviewEndpoint {
+
+    private static final int QUEUE_LIMIT = 100;
+
+    private final TransactionPersistenceService persistenceService;
+    private final TransactionService transactionService;
+
+    @ReadOperation
+    public Map<String, Object> reviews() {
+        List<HeldTransferResponse> held = persistenceService.findUnderReview(QUEUE_LIMIT).stream()
+                .map(transaction -> HeldTransferResponse.builder()
+                        .transactionId(transaction.getTransactionId())
+                        .transferScope(transaction.getTransferScope())
+                        .sourceAccountId(transaction.getSourceAccountId())
+                        .maskedReceiverIban(MaskingUtils.maskIban(transaction.getReceiverIban()))
+                        .amount(transaction.getAmount())
+                        .currency(transaction.getCurrency())
+                        .riskScore(transaction.getRiskScore())
+                        .riskFlags(transaction.getRiskFlags())
+                        .createdBy(transaction.getCreatedBy())
+                        .createdAt(transaction.getCreatedAt())
+                        .build())
+                .toList();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("underReview", persistenceService.countUnderReview());
+        body.put("held", held);
+        return body;
+    }
+
+    @WriteOperation
+    public TransferResponse decide(@Selector String transactionId, String decision, @Nullable String reason) {
+        return switch (decision.trim().toLowerCase()) {
+            case "approve" -> transactionService.approveHeldTransfer(transactionId);
+            case "reject" -> transactionService.rejectHeldTransfer(transactionId, reason);
+            default -> throw new ValidationException("Decision must be 'approve' or 'reject'");
+        };
+    }
+}
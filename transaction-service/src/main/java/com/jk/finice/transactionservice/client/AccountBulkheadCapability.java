@@ -0,0 +1,69 @@
+package com.jk.finice.transactionservice.client;
+
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter.Bulkhead;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * Puts every {@link AccountServiceClient} call through the read or write bulkhead of
+ * {@link AccountCallLimiter}. Lookups may be rejected; the first write of a transfer (hold, atomic
+ * transfer) runs on the slot the transfer reserved before persisting, and the writes that finish
+ * or compensate a transfer already under way only count.
+ * Rejected calls never reach the load balancer, other Feign clients pass straight through.
+ */
+public class AccountBulkheadCapability implements Capability {
+
+    private static final String ACCOUNT_SERVICE = "account-service";
+
+    private final AccountCallLimiter accountCallLimiter;
+
+    public AccountBulkheadCapability(AccountCallLimiter accountCallLimiter) {
+        this.accountCallLimiter = accountCallLimiter;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        MethodMetadata metadata = request.requestTemplate().methodMetadata();
+        boolean accountService = request.requestTemplate().feignTarget() != null
+                && ACCOUNT_SERVICE.equals(request.requestTemplate().feignTarget().name());
+        if (!accountService || metadata == null) {
+            return delegate.execute(request, options);
+        }
+
+        String method = metadata.method().getName();
+        AccountCallLimiter.Permit permit = accountCallLimiter.acquire(bulkheadOf(method), isFollowUp(method));
+        boolean congested = true;
+        try {
+            Response response = delegate.execute(request, options);
+            congested = response.status() >= 500 || response.status() == 429;
+            return response;
+        } finally {
+            permit.release(congested);
+        }
+    }
+
+    private static Bulkhead bulkheadOf(String method) {
+        return switch (method) {
+            case "getAccountInternal", "getAccountInternalByIban", "getTransactionMovements" -> Bulkhead.READ;
+            default -> Bulkhead.WRITE;
+        };
+    }
+
+    // Steps after the first write of a saga, and the compensations undoing it
+    private static boolean isFollowUp(String method) {
+        return switch (method) {
+            case "debitAccount", "creditAccount", "releaseHold", "reverseDebit", "reverseCredit" -> true;
+            default -> false;
+        };
+    }
+}
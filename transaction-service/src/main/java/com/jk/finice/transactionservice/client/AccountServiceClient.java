@@ -5,9 +5,13 @@ import com.jk.finice.transactionservice.dto.client.AccountClientResponse;
 import com.jk.finice.transactionservice.dto.client.CreditRequest;
 import com.jk.finice.transactionservice.dto.client.DebitRequest;
 import com.jk.finice.transactionservice.dto.client.HoldRequest;
+import com.jk.finice.transactionservice.dto.client.TransactionMovementsClientResponse;
+import com.jk.finice.transactionservice.dto.client.TransferClientResponse;
+import com.jk.finice.transactionservice.dto.client.TransferRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -48,4 +52,12 @@ public interface AccountServiceClient {
     @PutMapping("/internal/{accountId}/reverse-credit")
     void reverseCredit(@PathVariable Long accountId,
                        @RequestBody CreditRequest request);
+
+    // Debit sender + credit receiver in one account-service DB transaction
+    @PostMapping("/internal/transfers")
+    TransferClientResponse executeTransfer(@RequestBody TransferRequest request);
+
+    // What account-service actually applied for a transaction, the source of truth for recovery
+    @GetMapping("/internal/movements")
+    TransactionMovementsClientResponse getTransactionMovements(@RequestParam("transactionId") String transactionId);
 }
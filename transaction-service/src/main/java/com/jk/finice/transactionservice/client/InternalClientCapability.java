@@ -0,0 +1,98 @@
+package com.jk.finice.transactionservice.client;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the (load-balanced, pooled) client of every internal Feign client:
+ * <ul>
+ *   <li>per-method connect/read timeouts from {@code transaction.internal-client.methods},
+ *   falling back to the client's own spring.cloud.openfeign settings</li>
+ *   <li>a {@code transaction.internal.client.requests} timer per client, method and outcome,
+ *   so a slow internal call shows up by name</li>
+ * </ul>
+ * Registered as a Capability rather than a Client bean, which would replace the load balancer.
+ */
+public class InternalClientCapability implements Capability {
+
+    private static final String METRIC = "transaction.internal.client.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TransactionProperties.MethodTimeouts> methodTimeouts;
+
+    public InternalClientCapability(MeterRegistry meterRegistry, TransactionProperties transactionProperties) {
+        this.meterRegistry = meterRegistry;
+        this.methodTimeouts = transactionProperties.getInternalClient().getMethods();
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        MethodMetadata metadata = request.requestTemplate().methodMetadata();
+        String method = metadata != null ? metadata.method().getName() : "unknown";
+        String clientName = request.requestTemplate().feignTarget() != null
+                ? request.requestTemplate().feignTarget().name() : "unknown";
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "ERROR";
+        String status = "NONE";
+        try {
+            Response response = delegate.execute(request, optionsFor(method, options));
+            status = Integer.toString(response.status());
+            outcome = outcomeOf(response.status());
+            return response;
+        } catch (SocketTimeoutException e) {
+            outcome = "TIMEOUT";
+            throw e;
+        } catch (IOException e) {
+            outcome = "IO_ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Internal Feign calls by client, method and outcome")
+                    .tag("client", clientName)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private Request.Options optionsFor(String method, Request.Options defaults) {
+        TransactionProperties.MethodTimeouts timeouts = methodTimeouts.get(method);
+        if (timeouts == null) {
+            return defaults;
+        }
+        long connectMillis = timeouts.getConnectTimeout() != null
+                ? timeouts.getConnectTimeout().toMillis() : defaults.connectTimeoutMillis();
+        long readMillis = timeouts.getReadTimeout() != null
+                ? timeouts.getReadTimeout().toMillis() : defaults.readTimeoutMillis();
+        return new Request.Options(connectMillis, TimeUnit.MILLISECONDS, readMillis, TimeUnit.MILLISECONDS,
+                defaults.isFollowRedirects());
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 200 && status < 300) {
+            return "SUCCESS";
+        }
+        if (status >= 400 && status < 500) {
+            return "CLIENT_ERROR";
+        }
+        return status >= 500 ? "SERVER_ERROR" : "OTHER";
+    }
+}
@@ -1,8 +1,13 @@
 package com.jk.finice.transactionservice.config;
 
 import com.jk.finice.commonlibrary.exception.*;
+import com.jk.finice.transactionservice.client.AccountBulkheadCapability;
+import com.jk.finice.transactionservice.client.InternalClientCapability;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter;
+import feign.Capability;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +29,18 @@ public class FeignConfig {
                 requestTemplate.header(SERVICE_KEY_HEADER, internalSecret);
     }
 
+    // Per-method timeouts and latency timers, applied on top of the load-balanced HC5 client
+    @Bean
+    public Capability internalClientCapability(MeterRegistry meterRegistry, TransactionProperties transactionProperties) {
+        return new InternalClientCapability(meterRegistry, transactionProperties);
+    }
+
+    // Adaptive read / write bulkheads in front of account-service, full ones reject with 503
+    @Bean
+    public Capability accountBulkheadCapability(AccountCallLimiter accountCallLimiter) {
+        return new AccountBulkheadCapability(accountCallLimiter);
+    }
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return (methodKey, response) -> switch (response.status()) {
@@ -0,0 +1,232 @@
+package com.jk.finice.transactionservice.config;
+
+import com.jk.finice.commonlibrary.datasource.ReadReplicaSettings;
+import com.jk.finice.transactionservice.enums.ExternalTransferMode;
+import com.jk.finice.transactionservice.enums.InternalTransferMode;
+import com.jk.finice.transactionservice.enums.RiskMetric;
+import com.jk.finice.transactionservice.enums.RiskScope;
+import com.jk.finice.transactionservice.enums.TransferDispatchMode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transaction service business rules
+ * Binds to 'transaction.*' properties in application.yml
+ */
+@Configuration
+@ConfigurationProperties(prefix = "transaction")
+@Data
+public class TransactionProperties {
+
+    private Transfer transfer = new Transfer();
+    private Saga saga = new Saga();
+    private Compensation compensation = new Compensation();
+    private Idempotency idempotency = new Idempotency();
+    private Export export = new Export();
+    private Partition partition = new Partition();
+    private Batch batch = new Batch();
+    private Schedule schedule = new Schedule();
+    private Settlement settlement = new Settlement();
+    private Ids ids = new Ids();
+    private Risk risk = new Risk();
+    private Analytics analytics = new Analytics();
+    private AccountCache accountCache = new AccountCache();
+    private InternalClient internalClient = new InternalClient();
+    private AccountLimiter accountLimiter = new AccountLimiter();
+    private Metrics metrics = new Metrics();
+    private ReadReplicaSettings readReplica = new ReadReplicaSettings();
+
+    @Data
+    public static class Transfer {
+        private InternalTransferMode internalMode = InternalTransferMode.SAGA;
+        private ExternalTransferMode externalMode = ExternalTransferMode.SYNC;
+        private int externalConcurrency = 64; // external transfers settling at once per instance
+        private TransferDispatchMode dispatchMode = TransferDispatchMode.ACCOUNT_LANE;
+        private int maxQueuedPerAccount = 64; // transfers running or waiting in one account's lane
+        private int laneRetryAttempts = 8;    // pipeline tries on a full lane before leaving the transfer to recovery
+        private Duration laneRetryBaseBackoff = Duration.ofMillis(250);
+        private Duration laneRetryMaxBackoff = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Saga {
+        private Recovery recovery = new Recovery();
+    }
+
+    @Data
+    public static class Recovery {
+        private boolean enabled = true;
+        private Duration initialDelay = Duration.ofSeconds(15);
+        private Duration interval = Duration.ofMinutes(1);
+        private Duration staleAfter = Duration.ofMinutes(5); // must exceed the slowest healthy saga
+        private int batchSize = 50;              // transfers claimed per chunk
+        private int maxChunksPerSweep = 20;
+        private double ledgerCallsPerSecond = 20; // account-service ledger lookups, shared by all chunks
+    }
+
+    @Data
+    public static class Compensation {
+        private Retry retry = new Retry();
+    }
+
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(10);
+        private int batchSize = 100;
+        private int maxAttempts = 12;
+        private Duration baseBackoff = Duration.ofSeconds(5);
+        private Duration maxBackoff = Duration.ofMinutes(30);
+        private Duration lease = Duration.ofMinutes(1); // how long a claimed task is hidden from other instances
+    }
+
+    @Data
+    public static class Idempotency {
+        private int filterExpectedKeys = 1_000_000;     // per window
+        private double filterFalsePositiveRate = 0.01;
+        private Duration filterWindow = Duration.ofHours(12); // keys stay visible for one to two windows
+        private int responseCacheMaxEntries = 10_000;
+        private Duration responseCacheTtl = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class Export {
+        private int maxConcurrent = 2;   // exports running at once, each runs one page query at a time
+        private int pageSize = 500;      // rows per keyset page, one short read transaction each
+    }
+
+    @Data
+    public static class Partition {
+        private boolean enabled = true;
+        private int monthsAhead = 3;
+        private int retentionMonths = 0; // 0 keeps every partition attached
+    }
+
+    @Data
+    public static class Batch {
+        private int maxItems = 5_000;
+        private int maxConcurrency = 16; // source-account lanes running at once per batch
+        private Resume resume = new Resume();
+    }
+
+    @Data
+    public static class Resume {
+        private boolean enabled = true;
+        private Duration initialDelay = Duration.ofSeconds(30);
+        private Duration interval = Duration.ofMinutes(1);
+        private Duration staleAfter = Duration.ofMinutes(5);
+        private int batchSize = 20;
+    }
+
+    @Data
+    public static class Schedule {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(15);
+        private int batchSize = 200;
+        private int maxConcurrency = 16;
+        private Duration lease = Duration.ofMinutes(5);
+        private LocalTime windowStart = LocalTime.of(1, 0); // runs of a day are spread from here...
+        private Duration window = Duration.ofHours(6);     // ...over this long
+    }
+
+    @Data
+    public static class Settlement {
+        private int maxItems = 1_000;                  // a file is cut as soon as this many are waiting...
+        private Duration maxWait = Duration.ofSeconds(30); // ...or this often with whatever has accumulated
+        private String gateway = "file-drop";
+        private String directory = "settlement";       // staging/, outbox/ and reports/ of the file-drop gateway
+        private String initiatorName = "FinIce";
+    }
+
+    @Data
+    public static class Ids {
+        private int nodeId = -1;             // 0-1023, unique per running instance
+        private boolean deriveNodeId = false; // local runs only: hash host and instance ID when node-id is unset
+    }
+
+    @Data
+    public static class Risk {
+        private boolean enabled = true;
+        private int reviewThreshold = 70;         // summed rule score from which a transfer is held
+        private int buckets = 12;                 // per rule window, the window slides in window/buckets steps
+        private Duration idleEviction = Duration.ofHours(2); // never shorter than the longest rule window
+        private Duration evictionInterval = Duration.ofMinutes(1);
+        private int knownReceivers = 64;          // receivers remembered per account/user for NEW_RECEIVERS
+        private List<RiskRule> rules = new ArrayList<>();
+    }
+
+    @Data
+    public static class Analytics {
+        private int defaultMonths = 6;  // current month and the ones before it when no range is given
+        private int maxMonths = 24;     // widest range one dashboard request may ask for
+    }
+
+    @Data
+    public static class AccountCache {
+        private boolean enabled = true;
+        private int maxEntries = 50_000;                        // per map: accounts and IBANs
+        private Duration identityTtl = Duration.ofHours(1);     // owner, IBAN, currency
+        private Duration settingsTtl = Duration.ofSeconds(30);  // status, limits
+    }
+
+    @Data
+    public static class InternalClient {
+        private Map<String, MethodTimeouts> methods = new HashMap<>(); // keyed by Feign method name
+    }
+
+    @Data
+    public static class MethodTimeouts {
+        private Duration connectTimeout; // null keeps the client's spring.cloud.openfeign value
+        private Duration readTimeout;
+    }
+
+    @Data
+    public static class AccountLimiter {
+        private boolean enabled = true;   // false: limits still adapt and are exported, nothing is rejected
+        private BulkheadLimits reads = new BulkheadLimits(64, 8, 200, 0.9, Duration.ofSeconds(1));
+        private BulkheadLimits writes = new BulkheadLimits(32, 4, 150, 0.9, Duration.ofSeconds(3));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkheadLimits {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private double backoffRatio;     // limit multiplied by this on a timeout, 5xx, 429 or slow call
+        private Duration slowCall;       // a call slower than this counts as congestion
+    }
+
+    @Data
+    public static class Metrics {
+        // SLO buckets published next to the percentile histograms
+        private List<Duration> stageSlos = new ArrayList<>(List.of(
+                Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+                Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2)));
+        private List<Duration> sagaSlos = new ArrayList<>(List.of(
+                Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+                Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)));
+    }
+
+    @Data
+    public static class RiskRule {
+        private String name;
+        private RiskScope scope;
+        private RiskMetric metric;
+        private Duration window;
+        private BigDecimal threshold;   // fires above this, AMOUNT in the transfer's currency
+        private int score;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jk.finice.transactionservice.controller;
+
+import com.jk.finice.commonlibrary.dto.ApiResponse;
+import com.jk.finice.commonlibrary.dto.PaginatedResponse;
+import com.jk.finice.transactionservice.dto.request.BatchTransferRequest;
+import com.jk.finice.transactionservice.dto.response.BatchTransferItemResponse;
+import com.jk.finice.transactionservice.dto.response.BatchTransferResponse;
+import com.jk.finice.transactionservice.service.batch.BatchTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import static com.jk.finice.commonlibrary.constants.AppConstants.*;
+
+@RequiredArgsConstructor
+@RestController
+@Slf4j
+@RequestMapping(TRANSACTION_PATH + "/batches")
+public class BatchTransferController {
+
+    private final BatchTransferService batchTransferService;
+
+    // Accepted batches run in the background, poll GET /batches/{batchId} for progress
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BatchTransferResponse>> submitBatch(
+            @Valid @RequestBody BatchTransferRequest batchRequest,
+            @RequestHeader(USER_ID_HEADER) Long userId,
+            @RequestHeader(name = IDEMPOTENCY_HEADER, required = false) String idempotencyKey){
+        log.info("[BATCH-CONTROLLER] Batch transfer submitted for user ID: {}", userId);
+
+        BatchTransferResponse response = batchTransferService.submit(batchRequest.getItems(), userId, idempotencyKey);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED).body(
+                        ApiResponse.success("Batch accepted", response)
+                );
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BatchTransferResponse>> submitBatchFile(
+            @RequestPart("file") MultipartFile file,
+            @RequestHeader(USER_ID_HEADER) Long userId,
+            @RequestHeader(name = IDEMPOTENCY_HEADER, required = false) String idempotencyKey){
+        log.info("[BATCH-CONTROLLER] Batch transfer file submitted for user ID: {}", userId);
+
+        BatchTransferResponse response = batchTransferService.submitCsv(file, userId, idempotencyKey);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED).body(
+                        ApiResponse.success("Batch accepted", response)
+                );
+    }
+
+    @GetMapping("/{batchId}")
+    public ResponseEntity<ApiResponse<BatchTransferResponse>> getBatch(
+            @PathVariable String batchId,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[BATCH-CONTROLLER] Getting batch {} for user ID: {}", batchId, userId);
+
+        BatchTransferResponse response = batchTransferService.getBatch(batchId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Batch retrieved successfully", response)
+        );
+    }
+
+    @GetMapping("/{batchId}/items")
+    public ResponseEntity<PaginatedResponse<BatchTransferItemResponse>> getBatchItems(
+            @PathVariable String batchId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[BATCH-CONTROLLER] Getting items of batch {} for user ID: {}", batchId, userId);
+
+        return ResponseEntity.ok(batchTransferService.getBatchItems(batchId, userId, page, size));
+    }
+}
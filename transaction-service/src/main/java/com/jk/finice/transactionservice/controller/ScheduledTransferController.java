@@ -0,0 +1,74 @@
+package com.jk.finice.transactionservice.controller;
+
+import com.jk.finice.commonlibrary.dto.ApiResponse;
+import com.jk.finice.commonlibrary.dto.PaginatedResponse;
+import com.jk.finice.transactionservice.dto.request.ScheduledTransferRequest;
+import com.jk.finice.transactionservice.dto.response.ScheduledTransferResponse;
+import com.jk.finice.transactionservice.service.schedule.ScheduledTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.jk.finice.commonlibrary.constants.AppConstants.*;
+
+@RequiredArgsConstructor
+@RestController
+@Slf4j
+@RequestMapping(TRANSACTION_PATH + "/schedules")
+public class ScheduledTransferController {
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ScheduledTransferResponse>> createSchedule(
+            @Valid @RequestBody ScheduledTransferRequest scheduleRequest,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[SCHEDULE-CONTROLLER] Creating scheduled transfer for user ID: {}", userId);
+
+        ScheduledTransferResponse response = scheduledTransferService.createSchedule(scheduleRequest, userId);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED).body(
+                        ApiResponse.success("Scheduled transfer created", response)
+                );
+    }
+
+    @GetMapping
+    public ResponseEntity<PaginatedResponse<ScheduledTransferResponse>> getSchedules(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[SCHEDULE-CONTROLLER] Getting scheduled transfers for user ID: {}", userId);
+
+        return ResponseEntity.ok(scheduledTransferService.getSchedules(userId, page, size));
+    }
+
+    @GetMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<ScheduledTransferResponse>> getSchedule(
+            @PathVariable String scheduleId,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[SCHEDULE-CONTROLLER] Getting scheduled transfer {} for user ID: {}", scheduleId, userId);
+
+        ScheduledTransferResponse response = scheduledTransferService.getSchedule(scheduleId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Scheduled transfer retrieved successfully", response)
+        );
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<ApiResponse<ScheduledTransferResponse>> cancelSchedule(
+            @PathVariable String scheduleId,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[SCHEDULE-CONTROLLER] Cancelling scheduled transfer {} for user ID: {}", scheduleId, userId);
+
+        ScheduledTransferResponse response = scheduledTransferService.cancelSchedule(scheduleId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Scheduled transfer cancelled", response)
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.jk.finice.transactionservice.controller;
+
+import com.jk.finice.commonlibrary.dto.ApiResponse;
+import com.jk.finice.transactionservice.dto.response.SpendingAnalyticsResponse;
+import com.jk.finice.transactionservice.service.analytics.SpendingAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+import static com.jk.finice.commonlibrary.constants.AppConstants.*;
+
+@RequiredArgsConstructor
+@RestController
+@Slf4j
+@RequestMapping(TRANSACTION_PATH + "/analytics")
+public class SpendingAnalyticsController {
+
+    private final SpendingAnalyticsService spendingAnalyticsService;
+
+    // from/to as yyyy-MM, both inclusive; defaults to the last transaction.analytics.default-months
+    @GetMapping("/spending")
+    public ResponseEntity<ApiResponse<SpendingAnalyticsResponse>> getSpending(
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[ANALYTICS-CONTROLLER] Getting spending analytics for user ID: {}", userId);
+
+        SpendingAnalyticsResponse response = spendingAnalyticsService.getSpending(userId, from, to);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Spending analytics retrieved successfully", response)
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.jk.finice.transactionservice.controller;
 
 import com.jk.finice.commonlibrary.dto.ApiResponse;
+import com.jk.finice.commonlibrary.dto.CursorPaginatedResponse;
 import com.jk.finice.commonlibrary.dto.PaginatedResponse;
 import com.jk.finice.transactionservice.dto.request.ExternalTransferRequest;
 import com.jk.finice.transactionservice.dto.request.InternalTransferRequest;
@@ -8,13 +9,20 @@ import com.jk.finice.transactionservice.dto.request.TransactionHistoryFilterRequ
 import com.jk.finice.transactionservice.dto.response.TransactionHistoryItemResponse;
 import com.jk.finice.transactionservice.dto.response.TransactionHistoryResponse;
 import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.enums.ExportFormat;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
 import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.export.TransactionExportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.jk.finice.commonlibrary.constants.AppConstants.*;
 
@@ -25,6 +33,7 @@ import static com.jk.finice.commonlibrary.constants.AppConstants.*;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
     @GetMapping
     public ResponseEntity<PaginatedResponse<TransactionHistoryResponse>> getTransactionHistory(
@@ -38,6 +47,38 @@ public class TransactionController {
         return ResponseEntity.ok(transactionHistory);
     }
 
+    // Keyset pagination on (createdAt, id), no count query and no OFFSET scan
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPaginatedResponse<TransactionHistoryResponse>> getTransactionHistoryByCursor(
+            @ModelAttribute @Valid TransactionHistoryFilterRequest filterRequest,
+            @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("[TRANSACTION-CONTROLLER] Getting cursor transaction history for user ID: {}", userId);
+
+        CursorPaginatedResponse<TransactionHistoryResponse> transactionHistory =
+                transactionService.getTransactionHistoryByCursor(filterRequest, userId);
+
+        return ResponseEntity.ok(transactionHistory);
+    }
+
+    // Whole filtered history as a download, streamed row by row (page/size/sort are ignored)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @ModelAttribute @Valid TransactionHistoryFilterRequest filterRequest,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(USER_ID_HEADER) Long userId,
+            HttpServletRequest request){
+        log.info("[TRANSACTION-CONTROLLER] Exporting transaction history as {} for user ID: {}", format, userId);
+
+        StreamingResponseBody body = transactionExportService.export(filterRequest, userId, format, request);
+
+        boolean csv = format == ExportFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{transactionId}")
     public ResponseEntity<ApiResponse<TransactionHistoryItemResponse>> getDetailedHistoryResponse(
             @PathVariable String transactionId,
@@ -65,6 +106,13 @@ public class TransactionController {
 
         TransferResponse response = transactionService.internalTransfer(transferRequest, userId, idempotencyKey);
 
+        if (response.getTransactionStatus() == TransactionStatus.UNDER_REVIEW) {
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED).body(
+                            ApiResponse.success("Transfer held for review", response)
+                    );
+        }
+
         return ResponseEntity
                 .status(HttpStatus.CREATED).body(
                         ApiResponse.success("Transfer successful", response)
@@ -80,6 +128,15 @@ public class TransactionController {
 
         TransferResponse response = transactionService.externalTransfer(transferRequest, userId, idempotencyKey);
 
+        // Async mode answers before the payment network did, poll GET /{transactionId} for the outcome
+        if (response.getTransactionStatus().isInFlight()) {
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED).body(
+                            ApiResponse.success(response.getTransactionStatus() == TransactionStatus.UNDER_REVIEW
+                                    ? "Transfer held for review" : "Transfer accepted", response)
+                    );
+        }
+
         return ResponseEntity
                 .status(HttpStatus.CREATED).body(
                         ApiResponse.success("Transfer successful", response)
@@ -0,0 +1,37 @@
+package com.jk.finice.transactionservice.dto.client;
+
+import com.jk.finice.transactionservice.enums.AccountMovementType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Every balance operation account-service applied for one transaction, oldest first
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionMovementsClientResponse {
+
+    private String transactionId;
+    private List<Movement> movements;
+
+    public boolean has(AccountMovementType type) {
+        return movements != null && movements.stream().anyMatch(movement -> movement.getType() == type);
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Movement {
+        private Long accountId;
+        private AccountMovementType type;
+        private BigDecimal amount;
+        private LocalDateTime createdAt;
+    }
+}
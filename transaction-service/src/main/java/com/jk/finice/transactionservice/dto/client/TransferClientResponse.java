@@ -0,0 +1,23 @@
+package com.jk.finice.transactionservice.dto.client;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransferClientResponse {
+
+    private String transactionId;
+
+    private Long sourceAccountId;
+    private BigDecimal sourceBalance;
+    private BigDecimal sourceAvailableBalance;
+
+    private Long destinationAccountId;
+    private BigDecimal destinationBalance;
+    private BigDecimal destinationAvailableBalance;
+}
@@ -0,0 +1,42 @@
+package com.jk.finice.transactionservice.dto.request;
+
+import com.jk.finice.transactionservice.enums.TransferScope;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a batch. INTERNAL needs destinationAccountId,
+ * EXTERNAL needs receiverIban, receiverName and description (same rules as the single endpoints).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchTransferItemRequest {
+    @NotNull(message = "Transfer scope is required")
+    private TransferScope transferScope;
+
+    @NotNull(message = "Source account ID is required")
+    private Long sourceAccountId;
+
+    private Long destinationAccountId;
+
+    private String receiverIban;
+
+    @Size(max = 100, message = "Receiver name cannot exceed 100 characters")
+    private String receiverName;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be at least $0.01")
+    @Digits(integer = 17, fraction = 2, message = "Invalid amount format")
+    private BigDecimal amount;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+}
@@ -0,0 +1,17 @@
+package com.jk.finice.transactionservice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchTransferRequest {
+    @NotEmpty(message = "Batch must contain at least one item")
+    private List<@Valid BatchTransferItemRequest> items;
+}
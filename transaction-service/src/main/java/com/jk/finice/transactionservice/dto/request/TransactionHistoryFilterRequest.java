@@ -6,6 +6,7 @@ import com.jk.finice.transactionservice.enums.TransferScope;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -31,6 +32,10 @@ public class TransactionHistoryFilterRequest {
     private BigDecimal amountMin;
     private BigDecimal amountMax;
 
+    // Payee or memo, tolerant of typos; sortBy=relevance ranks the hits (page mode only)
+    @Size(max = 100, message = "Search cannot exceed 100 characters")
+    private String search;
+
     @Builder.Default
     @Min(value = 0, message = "Page must be 0 or greater")
     private int page = 0;
@@ -41,10 +46,14 @@ public class TransactionHistoryFilterRequest {
     private int size = DEFAULT_PAGE_SIZE;
 
     @Builder.Default
-    @Pattern(regexp = "createdAt|completedAt|currency|receiverName", message = "Invalid sort field. Must be either 'createdAt', 'completedAt', 'currency', or 'receiverName'")
+    @Pattern(regexp = "createdAt|completedAt|currency|receiverName|relevance", message = "Invalid sort field. Must be either 'createdAt', 'completedAt', 'currency', 'receiverName', or 'relevance'")
     private String sortBy = DEFAULT_SORT_BY;
 
     @Builder.Default
     private String sortDirection = DEFAULT_SORT_DIRECTION;
 
+    // Cursor mode only: opaque value from the previous page's nextCursor, empty for the first page.
+    // Rows are always ordered by createdAt there, sortBy and page are ignored.
+    private String cursor;
+
 }
@@ -0,0 +1,23 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchTransferItemResponse {
+    private int itemIndex;
+    private TransferScope transferScope;
+    private Long sourceAccountId;
+    private BigDecimal amount;
+    private BatchItemStatus status;
+    private String transactionId; // set once the transfer was attempted
+    private String failureReason;
+}
@@ -0,0 +1,21 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.jk.finice.transactionservice.enums.BatchStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTransferResponse {
+    private String batchId;
+    private BatchStatus status;
+    private int totalItems;
+    private int succeededItems;
+    private int failedItems;
+    private int remainingItems;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,25 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.jk.finice.transactionservice.enums.CompensationAction;
+import com.jk.finice.transactionservice.enums.CompensationStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompensationTaskResponse {
+    private Long id;
+    private String transactionId;
+    private Long accountId;
+    private CompensationAction action;
+    private BigDecimal amount;
+    private CompensationStatus status;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HeldTransferResponse {
+    private String transactionId;
+    private TransferScope transferScope;
+    private Long sourceAccountId;
+    private String maskedReceiverIban;
+    private BigDecimal amount;
+    private Currency currency;
+    private Integer riskScore;
+    private String riskFlags;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+}
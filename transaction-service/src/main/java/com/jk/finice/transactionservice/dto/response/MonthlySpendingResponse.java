@@ -0,0 +1,16 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MonthlySpendingResponse {
+
+    private YearMonth month;
+    private List<SpendingBucketResponse> buckets;
+}
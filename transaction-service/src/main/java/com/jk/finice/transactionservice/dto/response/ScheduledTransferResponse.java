@@ -0,0 +1,38 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduledTransferResponse {
+    private String scheduleId;
+    private TransferScope transferScope;
+    private Long sourceAccountId;
+    private Long destinationAccountId;
+    private String maskedReceiverIban;
+    private BigDecimal amount;
+    private String description;
+    private ScheduleFrequency frequency;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer maxOccurrences;
+    private ScheduleStatus status;
+    private int completedRuns;
+    private LocalDateTime nextRunAt;
+    private String lastTransactionId;
+    private TransactionStatus lastTransactionStatus;
+    private String lastFailureReason;
+    private LocalDateTime createdAt;
+}
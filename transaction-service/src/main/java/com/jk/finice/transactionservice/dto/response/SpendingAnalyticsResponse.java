@@ -0,0 +1,17 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpendingAnalyticsResponse {
+
+    private YearMonth from;
+    private YearMonth to;
+    private List<MonthlySpendingResponse> months;   // every month of the range, oldest first, empty ones included
+}
@@ -0,0 +1,22 @@
+package com.jk.finice.transactionservice.dto.response;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpendingBucketResponse {
+
+    private TransactionType transactionType;
+    private TransferScope transferScope;    // null for deposits and withdrawals
+    private Currency currency;
+    private long completedCount;
+    private BigDecimal completedAmount;
+    private long failedCount;
+}
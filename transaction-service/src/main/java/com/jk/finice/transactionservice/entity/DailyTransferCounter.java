@@ -0,0 +1,50 @@
+package com.jk.finice.transactionservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Running total of transfer amount reserved per source account per day.
+ * Only ever changed through the conditional UPDATEs in DailyTransferCounterRepository.
+ */
+@Entity
+@Table(name = "daily_transfer_counters")
+@IdClass(DailyTransferCounter.Key.class)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyTransferCounter {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    @Column(name = "reserved_amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal reservedAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long accountId;
+        private LocalDate businessDate;
+    }
+}
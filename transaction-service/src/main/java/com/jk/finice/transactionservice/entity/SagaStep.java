@@ -0,0 +1,45 @@
+package com.jk.finice.transactionservice.entity;
+
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One completed step of a transfer saga.
+ * Written right after the matching account-service / network call succeeds,
+ * so a restarted instance can tell how far a PENDING transfer got.
+ */
+@Entity
+@Table(
+        name = "saga_steps",
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_saga_step", columnNames = {"transaction_id", "step"})
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaStep {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false, length = 50)
+    private String transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 30)
+    private SagaStepType step;
+
+    @Column(name = "detail", length = 100)
+    private String detail; // e.g. network reference for PAYMENT_SENT
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,113 @@
+package com.jk.finice.transactionservice.entity;
+
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A future or recurring transfer (standing order).
+ * {@code occurrence} is the zero-based index of the next run; together with the schedule ID
+ * it forms the idempotency key of that run, so a run is never executed twice.
+ */
+@Entity
+@Table(
+        name = "scheduled_transfers",
+        indexes = {
+            @Index(name = "idx_scheduled_transfers_created_by", columnList = "created_by, created_at")
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduledTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Public-facing schedule ID
+     * Format: SCH-<YYYYMMDD>-<random-string>
+     */
+    @Column(name = "schedule_id", nullable = false, unique = true, length = 50)
+    private String scheduleId;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_scope", nullable = false, length = 10)
+    private TransferScope transferScope;
+
+    @Column(name = "source_account_id", nullable = false)
+    private Long sourceAccountId;
+
+    @Column(name = "destination_account_id")
+    private Long destinationAccountId;
+
+    @Column(name = "receiver_iban", length = 34)
+    private String receiverIban;
+
+    @Column(name = "receiver_name", length = 100)
+    private String receiverName;
+
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false, length = 10)
+    private ScheduleFrequency frequency;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "max_occurrences")
+    private Integer maxOccurrences;
+
+    @Column(name = "occurrence", nullable = false)
+    private int occurrence;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt; // null once the schedule is finished
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ScheduleStatus status;
+
+    @Column(name = "last_transaction_id", length = 50)
+    private String lastTransactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_transaction_status", length = 20)
+    private TransactionStatus lastTransactionStatus;
+
+    @Column(name = "last_failure_reason", length = 500)
+    private String lastFailureReason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,77 @@
+package com.jk.finice.transactionservice.entity;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Totals of one user's finished transactions per month, type, scope and currency.
+ * Only ever changed through the upserts in SpendingRollupRepository.
+ */
+@Entity
+@Table(name = "spending_rollups")
+@IdClass(SpendingRollup.Key.class)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpendingRollup {
+
+    public static final String NO_SCOPE = "NONE"; // deposits and withdrawals
+
+    @Id
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Id
+    @Column(name = "month")
+    private LocalDate month;            // first day of the month
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", length = 20)
+    private TransactionType transactionType;
+
+    @Id
+    @Column(name = "transfer_scope", length = 10)
+    private String transferScope;       // TransferScope name or NO_SCOPE
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", length = 3)
+    private Currency currency;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "completed_amount", precision = 21, scale = 2, nullable = false)
+    private BigDecimal completedAmount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long createdBy;
+        private LocalDate month;
+        private TransactionType transactionType;
+        private String transferScope;
+        private Currency currency;
+    }
+}
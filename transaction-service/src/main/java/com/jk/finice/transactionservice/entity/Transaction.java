@@ -9,12 +9,13 @@ import com.jk.finice.transactionservice.enums.TransactionType;
 import com.jk.finice.transactionservice.enums.TransferScope;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// Partitioned by month on created_at (V5). transaction_id, reference and idempotency_key stay
+// globally unique through the transaction_keys table, filled by trigger on insert.
 @Entity
 @Table(
         name = "transactions",
@@ -27,11 +28,6 @@ import java.time.LocalDateTime;
             @Index(name = "idx_created_at", columnList = "created_at"),
             @Index(name = "idx_idempotency_key", columnList = "idempotency_key"),
             @Index(name = "idx_created_by", columnList = "created_by")
-        },
-        uniqueConstraints = {
-            @UniqueConstraint(name = "uk_transaction_id", columnNames = "transaction_id"),
-            @UniqueConstraint(name = "uk_reference", columnNames = "reference"),
-            @UniqueConstraint(name = "uk_idempotency_key", columnNames = "idempotency_key")
         })
 @Getter
 @Setter
@@ -49,13 +45,13 @@ public class Transaction {
      * Format: <prefix>-<YYYYMMDD>-<random-string>
      * Example: TXN-20250422-A3F8C2E1D4B7
      */
-    @Column(name = "transaction_id", unique = true, nullable = false, length = 50)
+    @Column(name = "transaction_id", nullable = false, length = 50)
     private String transactionId;
 
     /**
      * Idempotency key (prevent duplicate transactions)
      */
-    @Column(name = "idempotency_key", length = 100, unique = true)
+    @Column(name = "idempotency_key", length = 100)
     private String idempotencyKey;
 
     // Future enhancement: add requestHash for the Idempotency Validation
@@ -64,7 +60,7 @@ public class Transaction {
      * Bank reference number (for customer support)
      * Example: "REF-20250207-001234"
      */
-    @Column(name = "reference", length = 50, unique = true)
+    @Column(name = "reference", length = 50)
     private String reference;
 
     @Column(name = "network_reference", length = 100)
@@ -113,12 +109,19 @@ public class Transaction {
     @Column(name = "failure_reason", length = 500)
     private String failureReason;
 
+    // ============ Risk ============
+    @Column(name = "risk_score")
+    private Integer riskScore;          // 0-100 from the risk stage, null if it was not scored
+
+    @Column(name = "risk_flags", length = 255)
+    private String riskFlags;           // triggered rule names, comma separated
+
     // ============ Metadata ============
     @Column(name = "description", length = 500)
     private String description;
 
     // ============ Timestamps ============
-    @CreationTimestamp
+    // Transfers stamp it before reserving their daily limit, the counter they reserve on is its date
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -190,6 +193,20 @@ public class Transaction {
     }
 
 
+    @PrePersist
+    void stampCreatedAt() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    public void holdForReview() {
+        if (this.status != TransactionStatus.PENDING) {
+            throw new IllegalStateException("Can only hold PENDING transactions for review");
+        }
+        this.status = TransactionStatus.UNDER_REVIEW;
+    }
+
     public void markCompleted() {
         this.status = TransactionStatus.COMPLETE;
         this.completedAt = LocalDateTime.now();
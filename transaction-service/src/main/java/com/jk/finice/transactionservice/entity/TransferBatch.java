@@ -0,0 +1,68 @@
+package com.jk.finice.transactionservice.entity;
+
+import com.jk.finice.transactionservice.enums.BatchStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One bulk submission. The counters are bumped with SQL as items finish,
+ * so readers always see live progress.
+ */
+@Entity
+@Table(
+        name = "transfer_batches",
+        indexes = {
+            @Index(name = "idx_transfer_batches_created_by", columnList = "created_by, created_at")
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Public-facing batch ID
+     * Format: BAT-<YYYYMMDD>-<random-string>
+     */
+    @Column(name = "batch_id", nullable = false, unique = true, length = 50)
+    private String batchId;
+
+    @Column(name = "idempotency_key", unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private BatchStatus status;
+
+    @Column(name = "total_items", nullable = false)
+    private int totalItems;
+
+    @Column(name = "succeeded_items", nullable = false)
+    private int succeededItems;
+
+    @Column(name = "failed_items", nullable = false)
+    private int failedItems;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
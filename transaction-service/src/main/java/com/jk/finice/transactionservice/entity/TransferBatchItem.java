@@ -0,0 +1,74 @@
+package com.jk.finice.transactionservice.entity;
+
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A single transfer inside a {@link TransferBatch}.
+ * Executed through the normal transfer flow with idempotency key {@code <batchId>-<itemIndex>}.
+ */
+@Entity
+@Table(
+        name = "transfer_batch_items",
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_transfer_batch_item", columnNames = {"batch_id", "item_index"})
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferBatchItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "batch_id", nullable = false)
+    private Long batchId;
+
+    @Column(name = "item_index", nullable = false)
+    private int itemIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_scope", nullable = false, length = 10)
+    private TransferScope transferScope;
+
+    @Column(name = "source_account_id", nullable = false)
+    private Long sourceAccountId;
+
+    @Column(name = "destination_account_id")
+    private Long destinationAccountId;
+
+    @Column(name = "receiver_iban", length = 34)
+    private String receiverIban;
+
+    @Column(name = "receiver_name", length = 100)
+    private String receiverName;
+
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BatchItemStatus status;
+
+    @Column(name = "transaction_id", length = 50)
+    private String transactionId;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
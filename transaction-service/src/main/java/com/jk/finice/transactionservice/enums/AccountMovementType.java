@@ -0,0 +1,13 @@
+package com.jk.finice.transactionservice.enums;
+
+/**
+ * Balance operation account-service recorded for a transaction, mirrors account-service's MovementType
+ */
+public enum AccountMovementType {
+    HOLD,
+    DEBIT,
+    CREDIT,
+    RELEASE_HOLD,
+    REVERSE_DEBIT,
+    REVERSE_CREDIT
+}
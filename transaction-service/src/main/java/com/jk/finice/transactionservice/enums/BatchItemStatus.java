@@ -0,0 +1,8 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum BatchItemStatus {
+    QUEUED,
+    SUBMITTED,  // transfer accepted but still PENDING or UNDER_REVIEW, resolved when it closes
+    COMPLETE,
+    FAILED
+}
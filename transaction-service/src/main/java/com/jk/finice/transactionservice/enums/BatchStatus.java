@@ -0,0 +1,7 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum BatchStatus {
+    PROCESSING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS
+}
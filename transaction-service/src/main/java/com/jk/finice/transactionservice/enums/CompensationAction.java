@@ -0,0 +1,7 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum CompensationAction {
+    RELEASE_HOLD,   // sender: hold placed, debit never happened
+    REVERSE_DEBIT,  // sender: give the debited money back
+    REVERSE_CREDIT  // receiver: take the credited money back
+}
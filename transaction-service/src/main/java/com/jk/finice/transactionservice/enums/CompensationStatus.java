@@ -0,0 +1,7 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum CompensationStatus {
+    PENDING,
+    DONE,
+    DEAD    // gave up after max attempts, needs manual handling
+}
@@ -0,0 +1,6 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
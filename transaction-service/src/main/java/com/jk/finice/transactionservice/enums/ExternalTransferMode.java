@@ -0,0 +1,10 @@
+package com.jk.finice.transactionservice.enums;
+
+/**
+ * How an accepted external transfer reaches the payment network
+ */
+public enum ExternalTransferMode {
+    SYNC,       // hold, debit and network call on the request thread, response carries the final status
+    ASYNC,      // request returns PENDING right after persisting, the pipeline settles it in the background
+    SETTLEMENT  // like ASYNC, but the network leg goes out batched in settlement files
+}
@@ -0,0 +1,6 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum InternalTransferMode {
+    SAGA,   // hold -> debit -> credit, one account-service call (and commit) per step
+    ATOMIC  // single account-service call, both accounts updated in one DB transaction
+}
@@ -0,0 +1,7 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum RiskMetric {
+    COUNT,          // transfers in the window
+    AMOUNT,         // summed transfer amounts in the window
+    NEW_RECEIVERS   // receivers paid for the first time in the window, ACCOUNT and USER scope only
+}
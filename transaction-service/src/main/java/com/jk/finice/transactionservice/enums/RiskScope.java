@@ -0,0 +1,10 @@
+package com.jk.finice.transactionservice.enums;
+
+/**
+ * What a velocity rule counts per: the paying account, the initiating user or the receiving IBAN
+ */
+public enum RiskScope {
+    ACCOUNT,
+    USER,
+    RECEIVER
+}
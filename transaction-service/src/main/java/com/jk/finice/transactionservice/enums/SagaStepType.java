@@ -0,0 +1,11 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum SagaStepType {
+    HOLD_PLACED,
+    DEBIT_EXECUTED,
+    CREDIT_EXECUTED,
+    TRANSFER_EXECUTED, // ATOMIC mode, debit + credit in one account-service call
+    PAYMENT_SENT,      // external network accepted the payment
+    SETTLEMENT_SUBMITTED, // went out in a settlement file, detail is the file's message ID
+    COMPENSATED
+}
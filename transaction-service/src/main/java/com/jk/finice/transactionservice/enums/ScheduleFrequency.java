@@ -0,0 +1,8 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum ScheduleFrequency {
+    ONCE,
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,7 @@
+package com.jk.finice.transactionservice.enums;
+
+public enum ScheduleStatus {
+    ACTIVE,
+    COMPLETED,
+    CANCELLED
+}
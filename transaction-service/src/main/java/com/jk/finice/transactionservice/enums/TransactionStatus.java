@@ -2,7 +2,15 @@ package com.jk.finice.transactionservice.enums;
 
 public enum TransactionStatus {
     PENDING,
+    UNDER_REVIEW, // held by the risk stage before any money moved, released or rejected by ops
     COMPLETE,
     FAILED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Not settled yet, a replay of the request may still see a different status
+     */
+    public boolean isInFlight() {
+        return this == PENDING || this == UNDER_REVIEW;
+    }
 }
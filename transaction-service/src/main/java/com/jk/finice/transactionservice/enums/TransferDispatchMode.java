@@ -0,0 +1,9 @@
+package com.jk.finice.transactionservice.enums;
+
+/**
+ * How concurrent transfers from the same source account are run
+ */
+public enum TransferDispatchMode {
+    DIRECT,       // on the calling thread right away, same-account transfers race each other
+    ACCOUNT_LANE  // one at a time per source account in arrival order, different accounts in parallel
+}
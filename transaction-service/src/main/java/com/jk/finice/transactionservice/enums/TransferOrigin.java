@@ -0,0 +1,10 @@
+package com.jk.finice.transactionservice.enums;
+
+/**
+ * Where a transfer request came from
+ */
+public enum TransferOrigin {
+    API,      // a client call, scored by the risk stage
+    BATCH,    // an item of an uploaded batch, authorised with the batch
+    SCHEDULE  // a run of a standing order, authorised when the schedule was created
+}
@@ -0,0 +1,13 @@
+package com.jk.finice.transactionservice.exception;
+
+import java.io.Serial;
+
+public class AccountBusyException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public AccountBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jk.finice.transactionservice.exception;
+
+import java.io.Serial;
+
+public class AccountServiceBusyException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public AccountServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -2,10 +2,14 @@ package com.jk.finice.transactionservice.exception.handler;
 
 import com.jk.finice.commonlibrary.dto.ApiResponse;
 import com.jk.finice.commonlibrary.exception.*;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
 import com.jk.finice.transactionservice.exception.AccountClientException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.exception.ExportCapacityException;
 import com.jk.finice.transactionservice.exception.TransactionFailedException;
 import jakarta.ws.rs.ForbiddenException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -97,6 +101,34 @@ public class TransactionExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    @ExceptionHandler(ExportCapacityException.class)
+    public ResponseEntity<ApiResponse<Void>> handleExportCapacityException(ExportCapacityException ex) {
+        log.warn("[TRANSACTION-EXCEPTION-HANDLER] Export rejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(AccountBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccountBusyException(AccountBusyException ex) {
+        log.warn("[TRANSACTION-EXCEPTION-HANDLER] Transfer rejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(AccountServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccountServiceBusyException(AccountServiceBusyException ex) {
+        log.warn("[TRANSACTION-EXCEPTION-HANDLER] Request shed: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
 
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ApiResponse<Void>> handleService(InternalServerException ex) {
@@ -49,7 +49,7 @@ public class ExternalPaymentGateway {
      * Use last IBAN character signal and fail when signal % 5 == 0 (~20%).
      * This makes simulator behavior repeatable for the same IBAN.
      */
-    private boolean shouldFailDeterministically(String receiverIban) {
+    public static boolean shouldFailDeterministically(String receiverIban) {
         String normalized = receiverIban == null
                 ? ""
                 : receiverIban.trim().replace(" ", "").toUpperCase();
@@ -0,0 +1,104 @@
+package com.jk.finice.transactionservice.externalGateway;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Local stand-in for a bank file channel.
+ * <p>
+ * Submitted files are moved into {@code <directory>/outbox}, where an SFTP/EBICS
+ * uploader would pick them up. The simulated bank answers immediately with a status
+ * report in {@code <directory>/reports/<messageId>.txt}, one {@code endToEndId;ACCP;reference}
+ * or {@code endToEndId;RJCT;reason} line per item, using the same acceptance rule as
+ * {@link ExternalPaymentGateway}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "transaction.settlement", name = "gateway", havingValue = "file-drop", matchIfMissing = true)
+public class FileDropSettlementGateway implements SettlementGateway {
+
+    private static final String ACCEPTED = "ACCP";
+    private static final String REJECTED = "RJCT";
+
+    private final Path outbox;
+    private final Path reports;
+
+    public FileDropSettlementGateway(TransactionProperties transactionProperties) {
+        Path root = Path.of(transactionProperties.getSettlement().getDirectory());
+        this.outbox = root.resolve("outbox");
+        this.reports = root.resolve("reports");
+    }
+
+    @Override
+    public Optional<SettlementReport> submit(SettlementFile file) {
+        try {
+            Files.createDirectories(outbox);
+            Files.move(file.path(), outbox.resolve(file.path().getFileName()), StandardCopyOption.ATOMIC_MOVE);
+            log.info("[SETTLEMENT-GATEWAY] Dropped settlement file {} with {} item(s)",
+                    file.messageId(), file.instructions().size());
+
+            writeSimulatedReport(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to drop settlement file " + file.messageId(), e);
+        }
+        return fetchReport(file.messageId());
+    }
+
+    @Override
+    public Optional<SettlementReport> fetchReport(String messageId) {
+        Path report = reports.resolve(messageId + ".txt");
+        if (!Files.exists(report)) {
+            return Optional.empty();
+        }
+
+        Map<String, ItemResult> items = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(report, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(";", 3);
+                if (parts.length < 3) {
+                    continue;
+                }
+                boolean accepted = ACCEPTED.equals(parts[1]);
+                items.put(parts[0], new ItemResult(accepted, accepted ? parts[2] : null, accepted ? null : parts[2]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read settlement report " + messageId, e);
+        }
+        return Optional.of(new SettlementReport(messageId, items));
+    }
+
+    private void writeSimulatedReport(SettlementFile file) throws IOException {
+        Files.createDirectories(reports);
+        Path partial = reports.resolve(file.messageId() + ".txt.part");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+            for (Instruction instruction : file.instructions()) {
+                writer.write(instruction.endToEndId());
+                if (ExternalPaymentGateway.shouldFailDeterministically(instruction.creditorIban())) {
+                    writer.write(";" + REJECTED + ";Payment rejected by network simulator");
+                } else {
+                    writer.write(";" + ACCEPTED + ";SWIFT-" + UUID.randomUUID().toString().substring(0, 8));
+                }
+                writer.newLine();
+            }
+        }
+        // Readers only ever see a complete report
+        Files.move(partial, reports.resolve(file.messageId() + ".txt"), StandardCopyOption.ATOMIC_MOVE);
+    }
+}
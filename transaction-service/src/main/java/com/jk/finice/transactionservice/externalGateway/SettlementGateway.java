@@ -0,0 +1,46 @@
+package com.jk.finice.transactionservice.externalGateway;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hands settlement files (pain.001 credit transfer initiations) to the payment network
+ * and reads back its per-item status report (pain.002).
+ * <p>
+ * Implementations are picked with {@code transaction.settlement.gateway}.
+ */
+public interface SettlementGateway {
+
+    /**
+     * Delivers a fully written file. Returns the status report if the network answers
+     * right away, empty if it arrives later and has to be polled with {@link #fetchReport}.
+     * Throws if delivery itself failed.
+     */
+    Optional<SettlementReport> submit(SettlementFile file);
+
+    Optional<SettlementReport> fetchReport(String messageId);
+
+    record SettlementFile(String messageId, Path path, List<Instruction> instructions) {
+    }
+
+    record Instruction(String endToEndId,
+                       String debtorIban,
+                       String creditorIban,
+                       String creditorName,
+                       BigDecimal amount,
+                       String currency,
+                       String remittanceInfo) {
+    }
+
+    /**
+     * @param items per end-to-end ID (our transaction ID)
+     */
+    record SettlementReport(String messageId, Map<String, ItemResult> items) {
+    }
+
+    record ItemResult(boolean accepted, String networkReference, String reason) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.jk.finice.transactionservice.mapper;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque history cursor: the (created_at, id) of the last row a client has seen,
+ * base64url encoded so clients don't start building their own
+ */
+public final class HistoryCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private HistoryCursorCodec() {
+        // utility class
+    }
+
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+
+    public static String encode(TransactionHistoryRow last) {
+        String raw = last.createdAt().toString() + SEPARATOR + last.id();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Position decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split <= 0) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new Position(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.jk.finice.transactionservice.mapper;
 
 
+import com.jk.finice.commonlibrary.dto.CursorPaginatedResponse;
 import com.jk.finice.commonlibrary.dto.PaginatedResponse;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.function.Function;
+
 public final class PaginationMapper {
 
     private PaginationMapper() {
@@ -23,5 +27,24 @@ public final class PaginationMapper {
                 page.getSize()
         );
     }
-}
 
+    /**
+     * rows is expected to hold up to pageSize + 1 items, the extra one only signals a next page
+     */
+    public static <E, T> CursorPaginatedResponse<T> fromSeek(List<E> rows, int pageSize,
+                                                             Function<E, T> mapper,
+                                                             Function<E, String> cursorOf) {
+        if (rows == null || rows.isEmpty()) {
+            return CursorPaginatedResponse.empty(pageSize);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPaginatedResponse.of(
+                page.stream().map(mapper).toList(),
+                pageSize,
+                hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null
+        );
+    }
+}
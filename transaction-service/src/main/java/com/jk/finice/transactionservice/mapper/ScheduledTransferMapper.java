@@ -0,0 +1,77 @@
+package com.jk.finice.transactionservice.mapper;
+
+import com.jk.finice.commonlibrary.utils.MaskingUtils;
+import com.jk.finice.transactionservice.dto.request.ExternalTransferRequest;
+import com.jk.finice.transactionservice.dto.request.InternalTransferRequest;
+import com.jk.finice.transactionservice.dto.request.ScheduledTransferRequest;
+import com.jk.finice.transactionservice.dto.response.ScheduledTransferResponse;
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+
+public class ScheduledTransferMapper {
+
+    public static ScheduledTransfer toEntity(ScheduledTransferRequest request, String scheduleId, Long userId) {
+        boolean once = request.getFrequency() == ScheduleFrequency.ONCE;
+        return ScheduledTransfer.builder()
+                .scheduleId(scheduleId)
+                .createdBy(userId)
+                .transferScope(request.getTransferScope())
+                .sourceAccountId(request.getSourceAccountId())
+                .destinationAccountId(request.getDestinationAccountId())
+                .receiverIban(request.getReceiverIban())
+                .receiverName(request.getReceiverName())
+                .amount(request.getAmount())
+                .description(request.getDescription())
+                .frequency(request.getFrequency())
+                .startDate(request.getStartDate())
+                .endDate(once ? null : request.getEndDate())
+                .maxOccurrences(once ? null : request.getMaxOccurrences())
+                .occurrence(0)
+                .status(ScheduleStatus.ACTIVE)
+                .build();
+    }
+
+    public static InternalTransferRequest toInternalRequest(ScheduledTransfer schedule) {
+        return InternalTransferRequest.builder()
+                .sourceAccountId(schedule.getSourceAccountId())
+                .destinationAccountId(schedule.getDestinationAccountId())
+                .amount(schedule.getAmount())
+                .description(schedule.getDescription())
+                .build();
+    }
+
+    public static ExternalTransferRequest toExternalRequest(ScheduledTransfer schedule) {
+        return ExternalTransferRequest.builder()
+                .sourceAccountId(schedule.getSourceAccountId())
+                .receiverIban(schedule.getReceiverIban())
+                .receiverName(schedule.getReceiverName())
+                .amount(schedule.getAmount())
+                .description(schedule.getDescription())
+                .build();
+    }
+
+    public static ScheduledTransferResponse toResponse(ScheduledTransfer schedule) {
+        return ScheduledTransferResponse.builder()
+                .scheduleId(schedule.getScheduleId())
+                .transferScope(schedule.getTransferScope())
+                .sourceAccountId(schedule.getSourceAccountId())
+                .destinationAccountId(schedule.getDestinationAccountId())
+                .maskedReceiverIban(
+                        schedule.getReceiverIban() == null ? null : MaskingUtils.maskIban(schedule.getReceiverIban()))
+                .amount(schedule.getAmount())
+                .description(schedule.getDescription())
+                .frequency(schedule.getFrequency())
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .maxOccurrences(schedule.getMaxOccurrences())
+                .status(schedule.getStatus())
+                .completedRuns(schedule.getOccurrence())
+                .nextRunAt(schedule.getNextRunAt())
+                .lastTransactionId(schedule.getLastTransactionId())
+                .lastTransactionStatus(schedule.getLastTransactionStatus())
+                .lastFailureReason(schedule.getLastFailureReason())
+                .createdAt(schedule.getCreatedAt())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.jk.finice.transactionservice.dto.response.TransactionHistoryItemRespo
 import com.jk.finice.transactionservice.dto.response.TransactionHistoryResponse;
 import com.jk.finice.transactionservice.dto.response.TransferResponse;
 import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -46,6 +47,23 @@ public class TransactionMapper {
                 .build();
     }
 
+    // For history list, projection read path
+    public static TransactionHistoryResponse toHistoryResponse(TransactionHistoryRow row) {
+        return TransactionHistoryResponse.builder()
+                .transactionId(row.transactionId())
+                .transactionType(row.transactionType())
+                .transferScope(row.transferScope())
+                .status(row.status())
+                .maskedSenderIban(
+                        MaskingUtils.maskIban(row.senderIban()))
+                .maskedReceiverIban(
+                        MaskingUtils.maskIban(row.receiverIban()))
+                .amount(row.amount())
+                .currency(row.currency())
+                .createdAt(row.createdAt())
+                .build();
+    }
+
     // For single transaction detail
     public static TransactionHistoryItemResponse toHistoryItemResponse(Transaction t) {
         return TransactionHistoryItemResponse.builder()
@@ -0,0 +1,72 @@
+package com.jk.finice.transactionservice.mapper;
+
+import com.jk.finice.transactionservice.dto.request.BatchTransferItemRequest;
+import com.jk.finice.transactionservice.dto.request.ExternalTransferRequest;
+import com.jk.finice.transactionservice.dto.request.InternalTransferRequest;
+import com.jk.finice.transactionservice.dto.response.BatchTransferItemResponse;
+import com.jk.finice.transactionservice.dto.response.BatchTransferResponse;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+
+public class TransferBatchMapper {
+
+    public static TransferBatchItem toItem(Long batchId, int itemIndex, BatchTransferItemRequest request) {
+        return TransferBatchItem.builder()
+                .batchId(batchId)
+                .itemIndex(itemIndex)
+                .transferScope(request.getTransferScope())
+                .sourceAccountId(request.getSourceAccountId())
+                .destinationAccountId(request.getDestinationAccountId())
+                .receiverIban(request.getReceiverIban())
+                .receiverName(request.getReceiverName())
+                .amount(request.getAmount())
+                .description(request.getDescription())
+                .status(BatchItemStatus.QUEUED)
+                .build();
+    }
+
+    public static InternalTransferRequest toInternalRequest(TransferBatchItem item) {
+        return InternalTransferRequest.builder()
+                .sourceAccountId(item.getSourceAccountId())
+                .destinationAccountId(item.getDestinationAccountId())
+                .amount(item.getAmount())
+                .description(item.getDescription())
+                .build();
+    }
+
+    public static ExternalTransferRequest toExternalRequest(TransferBatchItem item) {
+        return ExternalTransferRequest.builder()
+                .sourceAccountId(item.getSourceAccountId())
+                .receiverIban(item.getReceiverIban())
+                .receiverName(item.getReceiverName())
+                .amount(item.getAmount())
+                .description(item.getDescription())
+                .build();
+    }
+
+    public static BatchTransferResponse toResponse(TransferBatch batch) {
+        return BatchTransferResponse.builder()
+                .batchId(batch.getBatchId())
+                .status(batch.getStatus())
+                .totalItems(batch.getTotalItems())
+                .succeededItems(batch.getSucceededItems())
+                .failedItems(batch.getFailedItems())
+                .remainingItems(batch.getTotalItems() - batch.getSucceededItems() - batch.getFailedItems())
+                .createdAt(batch.getCreatedAt())
+                .completedAt(batch.getCompletedAt())
+                .build();
+    }
+
+    public static BatchTransferItemResponse toItemResponse(TransferBatchItem item) {
+        return BatchTransferItemResponse.builder()
+                .itemIndex(item.getItemIndex())
+                .transferScope(item.getTransferScope())
+                .sourceAccountId(item.getSourceAccountId())
+                .amount(item.getAmount())
+                .status(item.getStatus())
+                .transactionId(item.getTransactionId())
+                .failureReason(item.getFailureReason())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.CompensationTask;
+import com.jk.finice.transactionservice.enums.CompensationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CompensationTaskRepository extends JpaRepository<CompensationTask, Long> {
+
+    /**
+     * Oldest open task of every account whose turn has come.
+     * Later tasks of the same account stay blocked behind it.
+     */
+    @Query("SELECT t FROM CompensationTask t " +
+            "WHERE t.status = 'PENDING' " +
+            "AND t.nextAttemptAt <= :now " +
+            "AND t.id = (SELECT MIN(o.id) FROM CompensationTask o " +
+            "            WHERE o.accountId = t.accountId AND o.status = 'PENDING') " +
+            "ORDER BY t.nextAttemptAt")
+    List<CompensationTask> findDueHeads(LocalDateTime now, Pageable pageable);
+
+    // Lease the task: pushing next_attempt_at forward hides it from other instances
+    @Modifying
+    @Query("UPDATE CompensationTask t SET t.nextAttemptAt = :leaseUntil " +
+            "WHERE t.id = :id AND t.status = 'PENDING' AND t.nextAttemptAt <= :now")
+    int claim(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+
+    boolean existsByTransactionIdAndStatusNot(String transactionId, CompensationStatus status);
+
+    List<CompensationTask> findByStatusOrderByIdAsc(CompensationStatus status, Pageable pageable);
+
+    long countByStatus(CompensationStatus status);
+}
@@ -0,0 +1,44 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.DailyTransferCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface DailyTransferCounterRepository extends JpaRepository<DailyTransferCounter, DailyTransferCounter.Key> {
+
+    // Check and increment in one statement, the row lock makes concurrent reservations queue up
+    @Modifying
+    @Query(value = "UPDATE daily_transfer_counters " +
+            "SET reserved_amount = reserved_amount + :amount, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE account_id = :accountId AND business_date = :businessDate " +
+            "AND reserved_amount + :amount <= :dailyLimit", nativeQuery = true)
+    int tryReserve(Long accountId, LocalDate businessDate, BigDecimal amount, BigDecimal dailyLimit);
+
+    @Modifying
+    @Query(value = "UPDATE daily_transfer_counters " +
+            "SET reserved_amount = GREATEST(reserved_amount - :amount, 0), updated_at = CURRENT_TIMESTAMP " +
+            "WHERE account_id = :accountId AND business_date = :businessDate", nativeQuery = true)
+    int release(Long accountId, LocalDate businessDate, BigDecimal amount);
+
+    /**
+     * Creates the day's row, seeded with whatever was already transferred that day
+     * (covers transfers made before the counter existed). Runs once per account per day.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_transfer_counters (account_id, business_date, reserved_amount, updated_at) " +
+            "SELECT :accountId, :businessDate, COALESCE(SUM(t.amount), 0), CURRENT_TIMESTAMP " +
+            "FROM transactions t " +
+            "WHERE t.source_account_id = :accountId " +
+            "AND t.transaction_type = 'TRANSFER' " +
+            "AND t.status IN ('COMPLETE', 'PENDING') " +
+            "AND t.created_at >= :startOfDay AND t.created_at < :endOfDay " +
+            "ON CONFLICT (account_id, business_date) DO NOTHING", nativeQuery = true)
+    int initCounter(Long accountId, LocalDate businessDate, LocalDateTime startOfDay, LocalDateTime endOfDay);
+}
@@ -0,0 +1,13 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.SagaStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SagaStepRepository extends JpaRepository<SagaStep, Long> {
+
+    List<SagaStep> findByTransactionIdOrderByIdAsc(String transactionId);
+}
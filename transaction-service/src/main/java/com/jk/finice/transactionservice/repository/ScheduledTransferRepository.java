@@ -0,0 +1,51 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    Optional<ScheduledTransfer> findByScheduleIdAndCreatedBy(String scheduleId, Long createdBy);
+
+    Page<ScheduledTransfer> findByCreatedByOrderByCreatedAtDesc(Long createdBy, Pageable pageable);
+
+    // Served by idx_scheduled_transfers_due, earliest first
+    @Query("SELECT s FROM ScheduledTransfer s " +
+            "WHERE s.status = 'ACTIVE' AND s.nextRunAt <= :now " +
+            "AND (s.lockedUntil IS NULL OR s.lockedUntil < :now) " +
+            "ORDER BY s.nextRunAt")
+    List<ScheduledTransfer> findDue(LocalDateTime now, Pageable pageable);
+
+    // Lease one occurrence; expires on its own if the instance dies mid-run
+    @Modifying
+    @Query("UPDATE ScheduledTransfer s SET s.lockedUntil = :leaseUntil " +
+            "WHERE s.id = :id AND s.status = 'ACTIVE' AND s.occurrence = :occurrence " +
+            "AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+    int claim(Long id, int occurrence, LocalDateTime now, LocalDateTime leaseUntil);
+
+    // Guarded on occurrence and ACTIVE: a late or cancelled run can't move the schedule
+    @Modifying
+    @Query("UPDATE ScheduledTransfer s SET s.occurrence = :occurrence + 1, s.nextRunAt = :nextRunAt, " +
+            "s.status = :status, s.lockedUntil = NULL, s.lastTransactionId = :transactionId, " +
+            "s.lastTransactionStatus = :transactionStatus, s.lastFailureReason = :failureReason, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.occurrence = :occurrence AND s.status = 'ACTIVE'")
+    int advance(Long id, int occurrence, LocalDateTime nextRunAt, ScheduleStatus status,
+                String transactionId, TransactionStatus transactionStatus, String failureReason, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ScheduledTransfer s SET s.status = 'CANCELLED', s.nextRunAt = NULL, s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.status = 'ACTIVE'")
+    int cancel(Long id, LocalDateTime now);
+}
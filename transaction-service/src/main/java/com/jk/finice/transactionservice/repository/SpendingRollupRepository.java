@@ -0,0 +1,56 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.SpendingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpendingRollupRepository extends JpaRepository<SpendingRollup, SpendingRollup.Key> {
+
+    List<SpendingRollup> findByCreatedByAndMonthBetweenOrderByMonthAsc(Long createdBy, LocalDate fromMonth, LocalDate toMonth);
+
+    // One statement whether or not the row exists yet, concurrent finishes of the same bucket queue on its row lock
+    @Modifying
+    @Query(value = "INSERT INTO spending_rollups (created_by, month, transaction_type, transfer_scope, currency, " +
+            "completed_count, completed_amount, failed_count, updated_at) " +
+            "VALUES (:createdBy, :month, :transactionType, :transferScope, :currency, " +
+            ":completedCount, :completedAmount, :failedCount, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (created_by, month, transaction_type, transfer_scope, currency) DO UPDATE SET " +
+            "completed_count = spending_rollups.completed_count + EXCLUDED.completed_count, " +
+            "completed_amount = spending_rollups.completed_amount + EXCLUDED.completed_amount, " +
+            "failed_count = spending_rollups.failed_count + EXCLUDED.failed_count, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int add(Long createdBy, LocalDate month, String transactionType, String transferScope, String currency,
+            long completedCount, BigDecimal completedAmount, long failedCount);
+
+    // Live upserts take ROW EXCLUSIVE, so they wait here while a month is recomputed and count
+    // on top of it afterwards; in-flight ones are waited for and show up in the rebuild's snapshot
+    @Modifying
+    @Query(value = "LOCK TABLE spending_rollups IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM spending_rollups WHERE month = :month", nativeQuery = true)
+    int deleteMonth(LocalDate month);
+
+    // Only run after lockForRebuild and deleteMonth in the same DB transaction
+    @Modifying
+    @Query(value = "INSERT INTO spending_rollups (created_by, month, transaction_type, transfer_scope, currency, " +
+            "completed_count, completed_amount, failed_count, updated_at) " +
+            "SELECT t.created_by, :month, t.transaction_type, COALESCE(t.transfer_scope, 'NONE'), t.currency, " +
+            "COUNT(*) FILTER (WHERE t.status = 'COMPLETE'), " +
+            "COALESCE(SUM(t.amount) FILTER (WHERE t.status = 'COMPLETE'), 0), " +
+            "COUNT(*) FILTER (WHERE t.status = 'FAILED'), CURRENT_TIMESTAMP " +
+            "FROM transactions t " +
+            "WHERE t.created_at >= :monthStart AND t.created_at < :monthEnd " +
+            "AND t.status IN ('COMPLETE', 'FAILED') " +
+            "GROUP BY t.created_by, t.transaction_type, COALESCE(t.transfer_scope, 'NONE'), t.currency", nativeQuery = true)
+    int rebuildMonth(LocalDate month, LocalDateTime monthStart, LocalDateTime monthEnd);
+}
@@ -0,0 +1,23 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Projection queries for history lists, mixed into {@link TransactionRepository}
+ */
+public interface TransactionHistoryRepository {
+
+    Page<TransactionHistoryRow> findHistoryRows(Specification<Transaction> spec, Pageable pageable);
+
+    // Best search matches first, the pageable's sort only breaks ties
+    Page<TransactionHistoryRow> findHistoryRowsByRelevance(Specification<Transaction> spec, String search, Pageable pageable);
+
+    List<TransactionHistoryRow> findHistoryRows(Specification<Transaction> spec, Sort sort, int limit);
+}
@@ -0,0 +1,110 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
+import com.jk.finice.transactionservice.specification.TransactionSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TransactionHistoryRepositoryImpl implements TransactionHistoryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TransactionHistoryRow> findHistoryRows(Specification<Transaction> spec, Pageable pageable) {
+        return findPage(spec, pageable, null);
+    }
+
+    @Override
+    public Page<TransactionHistoryRow> findHistoryRowsByRelevance(Specification<Transaction> spec, String search, Pageable pageable) {
+        return findPage(spec, pageable, search);
+    }
+
+    private Page<TransactionHistoryRow> findPage(Specification<Transaction> spec, Pageable pageable, String rankBy) {
+        TypedQuery<TransactionHistoryRow> query = createRowQuery(spec, pageable.getSort(), rankBy);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<TransactionHistoryRow> content = query.getResultList();
+
+        // Count only runs when the page alone can't tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TransactionHistoryRow> findHistoryRows(Specification<Transaction> spec, Sort sort, int limit) {
+        return createRowQuery(spec, sort, null)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // rankBy: search text to order by relevance before the sort, null for the sort alone
+    private TypedQuery<TransactionHistoryRow> createRowQuery(Specification<Transaction> spec, Sort sort, String rankBy) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionHistoryRow> query = cb.createQuery(TransactionHistoryRow.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        query.select(cb.construct(TransactionHistoryRow.class,
+                root.get("id"),
+                root.get("transactionId"),
+                root.get("transactionType"),
+                root.get("transferScope"),
+                root.get("status"),
+                root.get("senderIban"),
+                root.get("receiverIban"),
+                root.get("amount"),
+                root.get("currency"),
+                root.get("createdAt")
+        ));
+        applySpec(spec, root, query, cb);
+
+        List<Order> orders = new ArrayList<>();
+        if (rankBy != null) {
+            orders.add(cb.desc(TransactionSpecification.searchRank(root, cb, rankBy)));
+        }
+        sort.forEach(order -> orders.add(order.isAscending()
+                ? cb.asc(root.get(order.getProperty()))
+                : cb.desc(root.get(order.getProperty()))));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Transaction> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        query.select(cb.count(root));
+        applySpec(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpec(Specification<Transaction> spec, Root<Transaction> root,
+                                  CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -1,35 +1,94 @@
 package com.jk.finice.transactionservice.repository;
 
 import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
 import com.jk.finice.transactionservice.enums.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionHistoryRepository {
     Optional<Transaction> findByIdempotencyKey(String resolvedKey);
 
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            "WHERE t.senderIban = :iban " +
-            "AND t.sourceAccountId = :accountId " +
-            "AND t.transactionType = 'TRANSFER' " +
-            "AND t.status in ('COMPLETE', 'PENDING') " +
-            "AND t.createdAt >= :startOfDay")
-    BigDecimal dailyTransferredAmount(String iban, Long accountId,
-                                      LocalDateTime startOfDay);
-
     Page<Transaction> findAll(Specification<Transaction> spec, Pageable pageable);
 
     @Query("SELECT t FROM Transaction t WHERE t.transactionId = :transactionId AND t.createdBy = :userId")
     Optional<Transaction> findByTransactionIdAndCreatedBy(String transactionId, Long userId);
 
+    // Walks idx_pending_updated_at oldest first; rows another instance is claiming right now are skipped, not waited on
+    @Query(value = "SELECT * FROM transactions " +
+            "WHERE status = 'PENDING' " +
+            "AND transaction_type = 'TRANSFER' " +
+            "AND updated_at < :staleBefore " +
+            "ORDER BY updated_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Transaction> lockStalePendingTransfers(LocalDateTime staleBefore, int limit);
+
+    // Touching updated_at pushes the rows out of every other instance's stale window.
+    // The created_at range of the claimed rows lets Postgres prune to their monthly partitions.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.createdAt BETWEEN :createdFrom AND :createdTo AND t.status = 'PENDING'")
+    int touchPending(Collection<Long> ids, LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime now);
+
+    // Fresh updated_at keeps the row out of saga recovery's stale window while it is being worked on.
+    // updated_at must still be what the caller saw: recovery's claim touches it too, so whichever
+    // of the two claims a row first makes the other one miss.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.createdAt = :createdAt AND t.status = 'PENDING' AND t.updatedAt = :seen")
+    int touchPendingIfUnchanged(Long id, LocalDateTime createdAt, LocalDateTime seen, LocalDateTime now);
+
+    // Final transitions only from an open status, so two finalizers of one row cannot both win.
+    // created_at lets Postgres prune to the row's monthly partition.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = 'COMPLETE', t.networkReference = :networkReference, " +
+            "t.completedAt = :now, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.createdAt = :createdAt AND t.status IN ('PENDING', 'UNDER_REVIEW')")
+    int completeIfOpen(Long id, LocalDateTime createdAt, String networkReference, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = 'FAILED', t.failureReason = :reason, " +
+            "t.completedAt = :now, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.createdAt = :createdAt AND t.status IN ('PENDING', 'UNDER_REVIEW')")
+    int failIfOpen(Long id, LocalDateTime createdAt, String reason, LocalDateTime now);
+
+    // created_at lets Postgres prune to the row's monthly partition
+    @Modifying
+    @Query("UPDATE Transaction t SET t.riskScore = :score, t.riskFlags = :flags, t.status = :status " +
+            "WHERE t.id = :id AND t.createdAt = :createdAt AND t.status = 'PENDING'")
+    int recordRisk(Long id, LocalDateTime createdAt, Integer score, String flags, TransactionStatus status);
+
+    Optional<Transaction> findByTransactionId(String transactionId);
+
+    // Primary key lookup, created_at prunes to the row's partition
+    Optional<Transaction> findByIdAndCreatedAt(Long id, LocalDateTime createdAt);
+
+    List<Transaction> findByStatusOrderByCreatedAtAsc(TransactionStatus status, Pageable pageable);
+
+    long countByStatus(TransactionStatus status);
+
+    // Conditional, so two reviewers deciding the same transfer cannot both win
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = 'PENDING', t.updatedAt = :now " +
+            "WHERE t.transactionId = :transactionId AND t.status = 'UNDER_REVIEW'")
+    int releaseFromReview(String transactionId, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = 'FAILED', t.failureReason = :reason, t.completedAt = :now, t.updatedAt = :now " +
+            "WHERE t.transactionId = :transactionId AND t.status = 'UNDER_REVIEW'")
+    int rejectFromReview(String transactionId, String reason, LocalDateTime now);
 }
@@ -0,0 +1,36 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransferBatchItemRepository extends JpaRepository<TransferBatchItem, Long> {
+
+    List<TransferBatchItem> findByBatchIdAndStatusOrderByItemIndexAsc(Long batchId, BatchItemStatus status);
+
+    Page<TransferBatchItem> findByBatchIdOrderByItemIndexAsc(Long batchId, Pageable pageable);
+
+    Optional<TransferBatchItem> findByTransactionIdAndStatus(String transactionId, BatchItemStatus status);
+
+    // Guarded on the open statuses so a resumed batch can never count the same item twice
+    @Modifying
+    @Query("UPDATE TransferBatchItem i SET i.status = :status, i.transactionId = :transactionId, " +
+            "i.failureReason = :failureReason, i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :id AND i.status IN ('QUEUED', 'SUBMITTED')")
+    int finishItem(Long id, BatchItemStatus status, String transactionId, String failureReason);
+
+    @Modifying
+    @Query("UPDATE TransferBatchItem i SET i.status = 'SUBMITTED', i.transactionId = :transactionId, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :id AND i.status = 'QUEUED'")
+    int submitItem(Long id, String transactionId);
+}
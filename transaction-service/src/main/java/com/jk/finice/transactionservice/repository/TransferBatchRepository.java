@@ -0,0 +1,50 @@
+package com.jk.finice.transactionservice.repository;
+
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransferBatchRepository extends JpaRepository<TransferBatch, Long> {
+
+    Optional<TransferBatch> findByBatchIdAndCreatedBy(String batchId, Long createdBy);
+
+    Optional<TransferBatch> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Query("UPDATE TransferBatch b SET b.succeededItems = b.succeededItems + 1, b.updatedAt = :now WHERE b.id = :id")
+    int incrementSucceeded(Long id, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TransferBatch b SET b.failedItems = b.failedItems + 1, b.updatedAt = :now WHERE b.id = :id")
+    int incrementFailed(Long id, LocalDateTime now);
+
+    // Runs after each item; only the last one actually flips the status
+    @Modifying
+    @Query("UPDATE TransferBatch b SET " +
+            "b.status = CASE WHEN b.failedItems > 0 " +
+            "   THEN com.jk.finice.transactionservice.enums.BatchStatus.COMPLETED_WITH_ERRORS " +
+            "   ELSE com.jk.finice.transactionservice.enums.BatchStatus.COMPLETED END, " +
+            "b.completedAt = :now, b.updatedAt = :now " +
+            "WHERE b.id = :id AND b.status = 'PROCESSING' " +
+            "AND b.succeededItems + b.failedItems >= b.totalItems")
+    int finishIfDone(Long id, LocalDateTime now);
+
+    @Query("SELECT b FROM TransferBatch b " +
+            "WHERE b.status = 'PROCESSING' AND b.updatedAt < :staleBefore " +
+            "ORDER BY b.updatedAt")
+    List<TransferBatch> findStaleProcessing(LocalDateTime staleBefore, Pageable pageable);
+
+    // Same lease trick as claimStalePending: touching updated_at hides the batch from other instances
+    @Modifying
+    @Query("UPDATE TransferBatch b SET b.updatedAt = :now " +
+            "WHERE b.id = :id AND b.status = 'PROCESSING' AND b.updatedAt < :staleBefore")
+    int claimStale(Long id, LocalDateTime staleBefore, LocalDateTime now);
+}
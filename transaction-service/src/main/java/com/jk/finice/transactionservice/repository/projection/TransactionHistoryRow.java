@@ -0,0 +1,27 @@
+package com.jk.finice.transactionservice.repository.projection;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import com.jk.finice.transactionservice.enums.TransferScope;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Just the columns a history list needs, selected straight into this record
+ * (no entity hydration, nothing for the persistence context to track)
+ */
+public record TransactionHistoryRow(
+        Long id,
+        String transactionId,
+        TransactionType transactionType,
+        TransferScope transferScope,
+        TransactionStatus status,
+        String senderIban,
+        String receiverIban,
+        BigDecimal amount,
+        Currency currency,
+        LocalDateTime createdAt
+) {
+}
@@ -1,6 +1,7 @@
 package com.jk.finice.transactionservice.service;
 
 import com.jk.finice.commonlibrary.dto.ApiResponse;
+import com.jk.finice.commonlibrary.dto.CursorPaginatedResponse;
 import com.jk.finice.commonlibrary.dto.PaginatedResponse;
 import com.jk.finice.transactionservice.dto.request.ExternalTransferRequest;
 import com.jk.finice.transactionservice.dto.request.InternalTransferRequest;
@@ -8,15 +9,33 @@ import com.jk.finice.transactionservice.dto.request.TransactionHistoryFilterRequ
 import com.jk.finice.transactionservice.dto.response.TransactionHistoryItemResponse;
 import com.jk.finice.transactionservice.dto.response.TransactionHistoryResponse;
 import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
 import jakarta.validation.Valid;
 
 public interface TransactionService {
 
     PaginatedResponse<TransactionHistoryResponse> getTransactionHistory(TransactionHistoryFilterRequest filterRequest, Long userId);
 
+    CursorPaginatedResponse<TransactionHistoryResponse> getTransactionHistoryByCursor(TransactionHistoryFilterRequest filterRequest, Long userId);
+
     TransactionHistoryItemResponse getDetailedHistoryResponse(String transactionId, Long userId);
 
-    TransferResponse internalTransfer(InternalTransferRequest transferRequest, Long userId, String idempotencyKey);
+    default TransferResponse internalTransfer(InternalTransferRequest transferRequest, Long userId, String idempotencyKey) {
+        return internalTransfer(transferRequest, userId, idempotencyKey, TransferOrigin.API);
+    }
+
+    TransferResponse internalTransfer(InternalTransferRequest transferRequest, Long userId, String idempotencyKey,
+                                      TransferOrigin origin);
+
+    default TransferResponse externalTransfer(ExternalTransferRequest transferRequest, Long userId, String idempotencyKey) {
+        return externalTransfer(transferRequest, userId, idempotencyKey, TransferOrigin.API);
+    }
+
+    TransferResponse externalTransfer(ExternalTransferRequest transferRequest, Long userId, String idempotencyKey,
+                                      TransferOrigin origin);
+
+    // Decisions on transfers the risk stage held UNDER_REVIEW
+    TransferResponse approveHeldTransfer(String transactionId);
 
-    TransferResponse externalTransfer(ExternalTransferRequest transferRequest, Long userId, String idempotencyKey);
+    TransferResponse rejectHeldTransfer(String transactionId, String reason);
 }
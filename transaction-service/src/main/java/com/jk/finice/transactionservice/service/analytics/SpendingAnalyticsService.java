@@ -0,0 +1,104 @@
+package com.jk.finice.transactionservice.service.analytics;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.MonthlySpendingResponse;
+import com.jk.finice.transactionservice.dto.response.SpendingAnalyticsResponse;
+import com.jk.finice.transactionservice.dto.response.SpendingBucketResponse;
+import com.jk.finice.transactionservice.entity.SpendingRollup;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.service.persistence.SpendingRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "Spent per month" dashboard, read from spending_rollups: the cost is a few rows per
+ * month of the range, however many transactions the user made.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpendingAnalyticsService {
+
+    private final SpendingRollupService spendingRollupService;
+    private final TransactionProperties transactionProperties;
+
+    public SpendingAnalyticsResponse getSpending(Long userId, YearMonth from, YearMonth to) {
+        TransactionProperties.Analytics settings = transactionProperties.getAnalytics();
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(settings.getDefaultMonths() - 1L);
+
+        if (start.isAfter(end)) {
+            throw new ValidationException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.MONTHS.between(start, end) >= settings.getMaxMonths()) {
+            throw new ValidationException("At most " + settings.getMaxMonths() + " months can be requested at once");
+        }
+
+        Map<YearMonth, List<SpendingBucketResponse>> byMonth = new LinkedHashMap<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            byMonth.put(month, new ArrayList<>());
+        }
+        for (SpendingRollup rollup : spendingRollupService.findMonths(userId, start, end)) {
+            byMonth.get(YearMonth.from(rollup.getMonth())).add(toBucket(rollup));
+        }
+
+        List<MonthlySpendingResponse> months = byMonth.entrySet().stream()
+                .map(entry -> MonthlySpendingResponse.builder()
+                        .month(entry.getKey())
+                        .buckets(entry.getValue())
+                        .build())
+                .toList();
+
+        return SpendingAnalyticsResponse.builder()
+                .from(start)
+                .to(end)
+                .months(months)
+                .build();
+    }
+
+    /**
+     * Recomputes the rollups of [from, to] month by month, one DB transaction each.
+     * Months already moved to the archive are skipped, their rollups are all that is left of them.
+     *
+     * @return buckets written per rebuilt month
+     */
+    public Map<YearMonth, Integer> rebuild(YearMonth from, YearMonth to) {
+        YearMonth start = from;
+        int retentionMonths = transactionProperties.getPartition().getRetentionMonths();
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+            if (start.isBefore(oldestKept)) {
+                log.warn("[SPENDING-ANALYTICS] Months before {} are archived, their rollups are kept as they are", oldestKept);
+                start = oldestKept;
+            }
+        }
+        YearMonth end = to.isAfter(YearMonth.now()) ? YearMonth.now() : to;
+
+        Map<YearMonth, Integer> written = new LinkedHashMap<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            written.put(month, spendingRollupService.rebuildMonth(month));
+        }
+        return written;
+    }
+
+    private static SpendingBucketResponse toBucket(SpendingRollup rollup) {
+        return SpendingBucketResponse.builder()
+                .transactionType(rollup.getTransactionType())
+                .transferScope(SpendingRollup.NO_SCOPE.equals(rollup.getTransferScope())
+                        ? null : TransferScope.valueOf(rollup.getTransferScope()))
+                .currency(rollup.getCurrency())
+                .completedCount(rollup.getCompletedCount())
+                .completedAmount(rollup.getCompletedAmount())
+                .failedCount(rollup.getFailedCount())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.jk.finice.transactionservice.service.batch;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.dto.request.BatchTransferItemRequest;
+import com.jk.finice.transactionservice.enums.TransferScope;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads batch uploads in the column order
+ * {@code transferScope,sourceAccountId,destinationAccountId,receiverIban,receiverName,amount,description}.
+ * A header row starting with "transferScope" is optional; fields may be quoted (RFC 4180).
+ */
+public final class BatchCsvParser {
+
+    private static final int COLUMNS = 7;
+
+    private BatchCsvParser() {
+        // utility class
+    }
+
+    public static List<BatchTransferItemRequest> parse(InputStream inputStream, int maxItems) {
+        List<BatchTransferItemRequest> items = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.trim().toLowerCase().startsWith("transferscope"))) {
+                    continue;
+                }
+                if (items.size() == maxItems) {
+                    throw new ValidationException("Batch cannot exceed " + maxItems + " items");
+                }
+                items.add(toItem(splitLine(line, lineNumber), lineNumber));
+            }
+        } catch (IOException e) {
+            throw new ValidationException("Could not read batch file");
+        }
+        return items;
+    }
+
+    private static BatchTransferItemRequest toItem(List<String> fields, int lineNumber) {
+        if (fields.size() != COLUMNS) {
+            throw new ValidationException("Line " + lineNumber + ": expected " + COLUMNS + " columns but found " + fields.size());
+        }
+        try {
+            return BatchTransferItemRequest.builder()
+                    .transferScope(fields.get(0).isBlank() ? null : TransferScope.valueOf(fields.get(0).trim().toUpperCase()))
+                    .sourceAccountId(toLong(fields.get(1)))
+                    .destinationAccountId(toLong(fields.get(2)))
+                    .receiverIban(blankToNull(fields.get(3)))
+                    .receiverName(blankToNull(fields.get(4)))
+                    .amount(fields.get(5).isBlank() ? null : new BigDecimal(fields.get(5).trim()))
+                    .description(blankToNull(fields.get(6)))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is one of these too
+            throw new ValidationException("Line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    private static List<String> splitLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException("Line " + lineNumber + ": unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static Long toLong(String value) {
+        return value.isBlank() ? null : Long.valueOf(value.trim());
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,47 @@
+package com.jk.finice.transactionservice.service.batch;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.service.persistence.TransferBatchPersistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Picks up batches whose instance died and runs the remaining QUEUED items again, after
+ * resolving SUBMITTED items whose transfer closed before the item was marked. Progress
+ * updates keep a live batch's updated_at fresh, so only abandoned ones go stale.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transaction.batch.resume", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BatchResumeWorker {
+
+    private final TransactionProperties transactionProperties;
+    private final TransferBatchPersistenceService batchPersistenceService;
+    private final BatchTransferExecutor batchTransferExecutor;
+
+    @Scheduled(initialDelayString = "${transaction.batch.resume.initial-delay:PT30S}",
+            fixedDelayString = "${transaction.batch.resume.interval:PT1M}")
+    public void resumeStaleBatches() {
+        TransactionProperties.Resume resume = transactionProperties.getBatch().getResume();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(resume.getStaleAfter());
+
+        List<TransferBatch> stale = batchPersistenceService.findStaleProcessing(staleBefore, resume.getBatchSize());
+        for (TransferBatch batch : stale) {
+            if (batchTransferExecutor.isRunning(batch.getId())
+                    || !batchPersistenceService.claimStale(batch.getId(), staleBefore)) {
+                continue;
+            }
+            log.warn("[BATCH-RESUME] Resuming stale batch: {}", batch.getBatchId());
+            batchPersistenceService.resolveClosedSubmittedItems(batch.getId());
+            batchTransferExecutor.execute(batch);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.jk.finice.transactionservice.service.batch;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.mapper.TransferBatchMapper;
+import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.persistence.TransferBatchPersistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the queued items of a batch through the regular transfer flow.
+ * <p>
+ * Items are split into one lane per source account. A lane runs its items strictly in
+ * submission order (so a payroll debiting one account is applied in the order given),
+ * while up to {@code max-concurrency} lanes run in parallel on virtual threads.
+ * Each item uses the idempotency key {@code <batchId>-<itemIndex>}, so a resumed batch
+ * replays finished transfers instead of repeating them. When account-service sheds load
+ * the lane stops where it is, its remaining items stay QUEUED for the resume sweep.
+ * An item whose transfer is accepted but still in flight is recorded as SUBMITTED with its
+ * transaction ID and counted when that transfer closes.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BatchTransferExecutor {
+
+    private final ExecutorService virtualThreadExecutor;
+    private final TransactionService transactionService;
+    private final TransferBatchPersistenceService batchPersistenceService;
+    private final TransactionProperties transactionProperties;
+
+    // Batches this instance is currently working on, so a resume sweep never doubles a lane
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public boolean isRunning(Long batchId) {
+        return running.contains(batchId);
+    }
+
+    public void execute(TransferBatch batch) {
+        if (!running.add(batch.getId())) {
+            return;
+        }
+
+        List<TransferBatchItem> queued = batchPersistenceService.findQueuedItems(batch.getId());
+        if (queued.isEmpty()) {
+            running.remove(batch.getId());
+            return;
+        }
+
+        // Items arrive in index order, LinkedHashMap + toList keeps it inside each lane
+        Map<Long, List<TransferBatchItem>> lanes = queued.stream()
+                .collect(Collectors.groupingBy(TransferBatchItem::getSourceAccountId, LinkedHashMap::new, Collectors.toList()));
+
+        Semaphore permits = new Semaphore(transactionProperties.getBatch().getMaxConcurrency());
+        AtomicInteger openLanes = new AtomicInteger(lanes.size());
+        log.info("[BATCH-EXECUTOR] Running batch {} with {} queued item(s) over {} lane(s)",
+                batch.getBatchId(), queued.size(), lanes.size());
+
+        for (List<TransferBatchItem> lane : lanes.values()) {
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    permits.acquire();
+                    try {
+                        for (TransferBatchItem item : lane) {
+                            if (!runItem(batch, item)) {
+                                break;
+                            }
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("[BATCH-EXECUTOR] Lane of batch {} interrupted, resume sweep will pick it up",
+                            batch.getBatchId());
+                } finally {
+                    if (openLanes.decrementAndGet() == 0) {
+                        running.remove(batch.getId());
+                    }
+                }
+            });
+        }
+    }
+
+    // false when the account or account-service is at capacity and the lane should pause
+    private boolean runItem(TransferBatch batch, TransferBatchItem item) {
+        String idempotencyKey = batch.getBatchId() + "-" + item.getItemIndex();
+        try {
+            TransferResponse response = item.getTransferScope() == TransferScope.INTERNAL
+                    ? transactionService.internalTransfer(
+                            TransferBatchMapper.toInternalRequest(item), batch.getCreatedBy(), idempotencyKey, TransferOrigin.BATCH)
+                    : transactionService.externalTransfer(
+                            TransferBatchMapper.toExternalRequest(item), batch.getCreatedBy(), idempotencyKey, TransferOrigin.BATCH);
+
+            if (response.getTransactionStatus() == TransactionStatus.COMPLETE) {
+                batchPersistenceService.recordItemResult(
+                        item, BatchItemStatus.COMPLETE, response.getTransactionId(), null);
+            } else if (response.getTransactionStatus().isInFlight()) {
+                // Settling in the background (or being recovered or reviewed), resolved when the transfer closes
+                batchPersistenceService.markItemSubmitted(item, response.getTransactionId());
+                log.info("[BATCH-EXECUTOR] Item {} of batch {} submitted as {}",
+                        item.getItemIndex(), batch.getBatchId(), response.getTransactionId());
+            } else {
+                batchPersistenceService.recordItemResult(
+                        item, BatchItemStatus.FAILED, response.getTransactionId(), response.getFailureReason());
+            }
+        } catch (AccountBusyException | AccountServiceBusyException e) {
+            // Source account lane full or account-service shedding load, nothing was attempted yet
+            log.warn("[BATCH-EXECUTOR] Account at capacity, lane of batch {} paused at item {}: {}",
+                    batch.getBatchId(), item.getItemIndex(), e.getMessage());
+            return false;
+        } catch (Exception e) {
+            log.warn("[BATCH-EXECUTOR] Item {} of batch {} failed: {}",
+                    item.getItemIndex(), batch.getBatchId(), e.getMessage());
+            batchPersistenceService.recordItemResult(item, BatchItemStatus.FAILED, null, e.getMessage());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,186 @@
+package com.jk.finice.transactionservice.service.batch;
+
+import com.jk.finice.commonlibrary.dto.PaginatedResponse;
+import com.jk.finice.commonlibrary.exception.ResourceNotFoundException;
+import com.jk.finice.commonlibrary.exception.UnauthorizedException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.request.BatchTransferItemRequest;
+import com.jk.finice.transactionservice.dto.response.BatchTransferItemResponse;
+import com.jk.finice.transactionservice.dto.response.BatchTransferResponse;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchStatus;
+import com.jk.finice.transactionservice.mapper.PaginationMapper;
+import com.jk.finice.transactionservice.mapper.TransferBatchMapper;
+import com.jk.finice.transactionservice.service.component.AccountMetadataCache;
+import com.jk.finice.transactionservice.service.component.PublicIdGenerator;
+import com.jk.finice.transactionservice.service.component.TransferInstructionValidator;
+import com.jk.finice.transactionservice.service.persistence.TransferBatchPersistenceService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.jk.finice.commonlibrary.constants.AppConstants.MAX_PAGE_SIZE;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BatchTransferService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final TransferBatchPersistenceService batchPersistenceService;
+    private final BatchTransferExecutor batchTransferExecutor;
+    private final AccountMetadataCache accountMetadataCache;
+    private final TransferInstructionValidator transferInstructionValidator;
+    private final Validator validator;
+    private final TransactionProperties transactionProperties;
+    private final PublicIdGenerator publicIdGenerator;
+
+    public BatchTransferResponse submit(List<BatchTransferItemRequest> items, Long userId, String idempotencyKey) {
+        boolean clientKey = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (clientKey) {
+            var existing = batchPersistenceService.findByIdempotencyKey(idempotencyKey);
+            if (existing.isPresent()) {
+                log.info("[BATCH-SERVICE] Duplicate batch submission, returning existing batch: {}",
+                        existing.get().getBatchId());
+                return TransferBatchMapper.toResponse(existing.get());
+            }
+        }
+
+        // Whole batch is rejected on malformed items, business failures are reported per item later
+        validateItems(items);
+        validateSourceOwnership(items, userId);
+
+        TransferBatch batch = TransferBatch.builder()
+                .batchId(publicIdGenerator.nextBatchId())
+                .idempotencyKey(clientKey ? idempotencyKey : null)
+                .createdBy(userId)
+                .status(BatchStatus.PROCESSING)
+                .totalItems(items.size())
+                .build();
+
+        TransferBatch saved;
+        try {
+            saved = batchPersistenceService.createBatch(batch, batchId -> IntStream.range(0, items.size())
+                    .mapToObj(index -> TransferBatchMapper.toItem(batchId, index, items.get(index)))
+                    .toList());
+        } catch (DataIntegrityViolationException e) {
+            if (!clientKey) {
+                throw e;
+            }
+            // Concurrent submit with the same key won the insert
+            TransferBatch winner = batchPersistenceService.findByIdempotencyKey(idempotencyKey)
+                    .orElseThrow(() -> new ValidationException("Duplicate idempotency key"));
+            return TransferBatchMapper.toResponse(winner);
+        }
+
+        log.info("[BATCH-SERVICE] Batch {} accepted with {} item(s) for user ID: {}",
+                saved.getBatchId(), saved.getTotalItems(), userId);
+        batchTransferExecutor.execute(saved);
+
+        return TransferBatchMapper.toResponse(saved);
+    }
+
+    public BatchTransferResponse submitCsv(MultipartFile file, Long userId, String idempotencyKey) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Batch file is empty");
+        }
+        try {
+            List<BatchTransferItemRequest> items =
+                    BatchCsvParser.parse(file.getInputStream(), transactionProperties.getBatch().getMaxItems());
+            return submit(items, userId, idempotencyKey);
+        } catch (IOException e) {
+            throw new ValidationException("Could not read batch file");
+        }
+    }
+
+    public BatchTransferResponse getBatch(String batchId, Long userId) {
+        return TransferBatchMapper.toResponse(findBatch(batchId, userId));
+    }
+
+    public PaginatedResponse<BatchTransferItemResponse> getBatchItems(String batchId, Long userId, int page, int size) {
+        TransferBatch batch = findBatch(batchId, userId);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return PaginationMapper.fromPage(
+                batchPersistenceService.findItems(batch.getId(), pageRequest)
+                        .map(TransferBatchMapper::toItemResponse)
+        );
+    }
+
+    // =====================================================
+    //                     HELPER METHODS
+    // =====================================================
+
+    private TransferBatch findBatch(String batchId, Long userId) {
+        return batchPersistenceService.findBatch(batchId, userId)
+                .orElseThrow(() -> {
+                    log.error("[BATCH-SERVICE] Failed to find batch with ID: {} for User ID: {}", batchId, userId);
+                    return new ResourceNotFoundException("Batch not found");
+                });
+    }
+
+    private void validateItems(List<BatchTransferItemRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new ValidationException("Batch must contain at least one item");
+        }
+        int maxItems = transactionProperties.getBatch().getMaxItems();
+        if (items.size() > maxItems) {
+            throw new ValidationException("Batch cannot exceed " + maxItems + " items");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < items.size() && errors.size() < MAX_REPORTED_ERRORS; i++) {
+            String error = validateItem(items.get(i));
+            if (error != null) {
+                errors.add("item " + i + ": " + error);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid batch: " + String.join("; ", errors));
+        }
+    }
+
+    // Same rules as the single-transfer endpoints, CSV rows never went through @Valid
+    private String validateItem(BatchTransferItemRequest item) {
+        if (item == null) {
+            return "item is empty";
+        }
+        Set<ConstraintViolation<BatchTransferItemRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+
+        return transferInstructionValidator.validate(
+                item.getTransferScope(), item.getSourceAccountId(), item.getDestinationAccountId(),
+                item.getReceiverIban(), item.getReceiverName(), item.getDescription()
+        );
+    }
+
+    // A batch normally debits a handful of accounts, check each once before accepting
+    private void validateSourceOwnership(List<BatchTransferItemRequest> items, Long userId) {
+        Set<Long> sourceAccountIds = new LinkedHashSet<>();
+        items.forEach(item -> sourceAccountIds.add(item.getSourceAccountId()));
+
+        for (Long sourceAccountId : sourceAccountIds) {
+            if (!Objects.equals(accountMetadataCache.getOwner(sourceAccountId), userId)) {
+                log.error("[BATCH-SERVICE] Unauthorized batch on account ID: {} by user ID: {}", sourceAccountId, userId);
+                throw new UnauthorizedException("Unauthorized access attempt");
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Adaptive concurrency limits (AIMD) for the calls made to account-service, one bulkhead
+ * for reads and one for money-moving writes, so slow reads cannot starve transfers and
+ * the other way round.
+ * <p>
+ * Each bulkhead lets at most {@code limit} calls run at once. A call that finishes in time
+ * while the bulkhead is at least half used raises the limit by {@code 1 / limit} (about one
+ * per round of calls); a timeout, I/O error, 5xx, 429 or a call slower than {@code slow-call}
+ * multiplies it by {@code backoff-ratio}, at most once per round: calls already running
+ * when the limit was cut do not cut it again. So the limit settles just below the point where
+ * account-service starts queueing, instead of piling calls onto it until its pool gives out.
+ * <p>
+ * A saturated bulkhead turns new work away with {@link AccountServiceBusyException} (503,
+ * retryable) instead of waiting. Calls that finish or undo work already started (debit,
+ * credit, compensations) are counted but never rejected. A transfer takes its write slot with
+ * {@link #reserveWrite()} before its PENDING row is persisted; the first write on that thread
+ * uses it, so once the row exists nothing on the way is shed any more.
+ */
+@Component
+public class AccountCallLimiter {
+
+    public enum Bulkhead { READ, WRITE }
+
+    private final boolean enabled;
+    private final AimdLimit reads;
+    private final AimdLimit writes;
+    private final ThreadLocal<Boolean> reservedWrite = new ThreadLocal<>(); // write slot held by this thread's transfer
+
+    public AccountCallLimiter(TransactionProperties transactionProperties, MeterRegistry meterRegistry) {
+        TransactionProperties.AccountLimiter config = transactionProperties.getAccountLimiter();
+        this.enabled = config.isEnabled();
+        this.reads = new AimdLimit(Bulkhead.READ, config.getReads(), meterRegistry);
+        this.writes = new AimdLimit(Bulkhead.WRITE, config.getWrites(), meterRegistry);
+    }
+
+    /**
+     * @param mandatory true for calls that must run whatever the load (counted, never rejected)
+     * @throws AccountServiceBusyException if the bulkhead is full and the call is not mandatory
+     */
+    public Permit acquire(Bulkhead bulkhead, boolean mandatory) {
+        if (bulkhead == Bulkhead.WRITE && !mandatory && reservedWrite.get() != null) {
+            reservedWrite.remove();
+            return new Permit(writes, System.nanoTime()); // the slot is already counted
+        }
+        AimdLimit limit = limitOf(bulkhead);
+        if (!limit.tryAcquire(mandatory || !enabled)) {
+            limit.rejected.increment();
+            throw new AccountServiceBusyException("account-service is at capacity, retry shortly");
+        }
+        return new Permit(limit, System.nanoTime());
+    }
+
+    /**
+     * Takes a write slot for the transfer about to start on this thread, before anything is
+     * persisted or reserved for it. Its first write (hold or atomic transfer) runs on the slot
+     * instead of asking again; pair with {@link #releaseReservedWrite()} in a finally block.
+     *
+     * @throws AccountServiceBusyException if the write bulkhead is full
+     */
+    public void reserveWrite() {
+        releaseReservedWrite();
+        if (!writes.tryAcquire(!enabled)) {
+            writes.rejected.increment();
+            throw new AccountServiceBusyException("account-service is at capacity, retry shortly");
+        }
+        reservedWrite.set(Boolean.TRUE);
+    }
+
+    /**
+     * Gives back this thread's write slot if no call used it (the transfer was a replay,
+     * failed validation, was held for review or went to the async pipeline)
+     */
+    public void releaseReservedWrite() {
+        if (reservedWrite.get() != null) {
+            reservedWrite.remove();
+            writes.releaseUnused();
+        }
+    }
+
+    private AimdLimit limitOf(Bulkhead bulkhead) {
+        return bulkhead == Bulkhead.READ ? reads : writes;
+    }
+
+    public static final class Permit {
+
+        private final AimdLimit limit;
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(AimdLimit limit, long startedAt) {
+            this.limit = limit;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * @param congested the call timed out, failed on I/O or account-service answered 5xx / 429
+         */
+        public void release(boolean congested) {
+            if (released) {
+                return;
+            }
+            released = true;
+            limit.release(startedAt, System.nanoTime(), congested);
+        }
+    }
+
+    private static final class AimdLimit {
+
+        private final int minLimit;
+        private final int maxLimit;
+        private final double backoffRatio;
+        private final long slowCallNanos;
+        private final Counter rejected;
+
+        private double limit;
+        private int inFlight;
+        private long lastDecrease;
+
+        AimdLimit(Bulkhead bulkhead, TransactionProperties.BulkheadLimits config, MeterRegistry meterRegistry) {
+            this.minLimit = Math.max(1, config.getMinLimit());
+            this.maxLimit = Math.max(minLimit, config.getMaxLimit());
+            this.backoffRatio = config.getBackoffRatio();
+            this.slowCallNanos = config.getSlowCall().toNanos();
+            this.limit = Math.clamp(config.getInitialLimit(), minLimit, maxLimit);
+            this.lastDecrease = System.nanoTime();
+
+            String tag = bulkhead.name().toLowerCase(Locale.ROOT);
+            this.rejected = Counter.builder("transaction.account.limiter.rejected")
+                    .description("account-service calls turned away by a full bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+            Gauge.builder("transaction.account.limiter.limit", this, AimdLimit::currentLimit)
+                    .description("Current concurrency limit of the bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+            Gauge.builder("transaction.account.limiter.in.flight", this, AimdLimit::currentInFlight)
+                    .description("account-service calls running in the bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+        }
+
+        synchronized boolean tryAcquire(boolean force) {
+            if (!force && inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        synchronized void releaseUnused() {
+            inFlight--;
+        }
+
+        synchronized void release(long startedAt, long finishedAt, boolean congested) {
+            int inFlightBefore = inFlight--;
+            if (congested || finishedAt - startedAt > slowCallNanos) {
+                // one cut per round: calls started before the last cut saw the old limit
+                if (startedAt - lastDecrease > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecrease = finishedAt;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+
+        synchronized double currentLimit() {
+            return Math.floor(limit);
+        }
+
+        synchronized double currentInFlight() {
+            return inFlight;
+        }
+    }
+}
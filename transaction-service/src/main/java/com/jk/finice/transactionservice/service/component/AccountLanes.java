@@ -0,0 +1,77 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.enums.TransferDispatchMode;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer lanes per source account.
+ * <p>
+ * In ACCOUNT_LANE mode {@link #run(Long, Supplier)} gives every account a FIFO of turns:
+ * a caller takes the next ticket, parks until the turn before it is done and then runs
+ * its work on its own (virtual) thread. So one account's transfers see each other's
+ * balance changes and reach account-service one at a time, while different accounts never
+ * wait on each other. A lane exists only while someone holds or waits for a turn.
+ * <p>
+ * At most {@code max-queued-per-account} callers may hold or wait for a lane, beyond
+ * that the caller is turned away with {@link AccountBusyException} instead of piling up.
+ * Work run in a lane must not enter the same lane again.
+ */
+@Component
+public class AccountLanes {
+
+    private static final CompletableFuture<Void> IDLE = CompletableFuture.completedFuture(null);
+
+    private final boolean enabled;
+    private final int maxQueued;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    public AccountLanes(TransactionProperties transactionProperties) {
+        TransactionProperties.Transfer config = transactionProperties.getTransfer();
+        this.enabled = config.getDispatchMode() == TransferDispatchMode.ACCOUNT_LANE;
+        this.maxQueued = config.getMaxQueuedPerAccount();
+    }
+
+    public <T> T run(Long accountId, Supplier<T> work) {
+        if (!enabled || accountId == null) {
+            return work.get();
+        }
+
+        CompletableFuture<Void> myTurnDone = new CompletableFuture<>();
+        Ticket ticket = new Ticket();
+        // compute runs under the map bin's lock, so taking a ticket is atomic per account
+        lanes.compute(accountId, (id, lane) -> {
+            Lane current = lane == null ? new Lane() : lane;
+            if (current.holders >= maxQueued) {
+                throw new AccountBusyException("Too many transfers in progress for this account, retry shortly");
+            }
+            current.holders++;
+            ticket.previous = current.tail;
+            current.tail = myTurnDone;
+            return current;
+        });
+
+        try {
+            ticket.previous.join(); // turns only ever complete normally
+            return work.get();
+        } finally {
+            myTurnDone.complete(null);
+            lanes.computeIfPresent(accountId, (id, lane) -> --lane.holders == 0 ? null : lane);
+        }
+    }
+
+    private static final class Lane {
+        private int holders;                         // running + waiting, guarded by the map bin
+        private CompletableFuture<Void> tail = IDLE; // completes when the last ticket's turn is over
+    }
+
+    private static final class Ticket {
+        private CompletableFuture<Void> previous;
+    }
+}
@@ -0,0 +1,242 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.commonlibrary.exception.ResourceNotFoundException;
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.client.AccountClientResponse;
+import com.jk.finice.transactionservice.dto.client.AccountClientResponse.AccountStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Near-cache of account metadata fetched from account-service, for the pre-flight lookups
+ * that do not need a balance (receivers, ownership checks, "is this IBAN ours").
+ * <p>
+ * Fields are split by how they change: identity (owner, IBAN, currency) never does and is
+ * trusted for {@code identity-ttl}; settings (status, limits) follow user actions and are
+ * trusted for {@code settings-ttl} only. Balances are never cached, callers that check one
+ * keep calling account-service and hand the response to {@link #refresh} on the way.
+ * account-service still rejects closed accounts and missing funds on every money call,
+ * so a stale entry can only turn an early 4xx into a failed transfer, never move money.
+ * <p>
+ * Concurrent misses for the same key share one Feign call. An invalidation while that
+ * call is running wins, its result is handed to the waiting callers but not stored.
+ */
+@Component
+public class AccountMetadataCache {
+
+    private final AccountServiceClient accountServiceClient;
+    private final boolean enabled;
+    private final long identityTtlNanos;
+    private final long settingsTtlNanos;
+
+    private final Map<Long, Entry> accounts;
+    private final Map<String, IbanEntry> ibans;
+    private final Map<Long, CompletableFuture<Entry>> loadingAccounts = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<IbanEntry>> loadingIbans = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public AccountMetadataCache(AccountServiceClient accountServiceClient,
+                                TransactionProperties transactionProperties,
+                                MeterRegistry meterRegistry) {
+        TransactionProperties.AccountCache config = transactionProperties.getAccountCache();
+        int maxEntries = config.getMaxEntries();
+
+        this.accountServiceClient = accountServiceClient;
+        this.enabled = config.isEnabled();
+        this.identityTtlNanos = config.getIdentityTtl().toNanos();
+        this.settingsTtlNanos = config.getSettingsTtl().toNanos();
+        this.accounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ibans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IbanEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.coalesced = cacheCounter(meterRegistry, "coalesced");
+        Gauge.builder("transaction.account.cache.size", this, AccountMetadataCache::size)
+                .description("Accounts and IBANs held in the account metadata cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Account without its balance ({@code availableBalance} is always null), status and
+     * limits at most {@code settings-ttl} old. Throws what account-service answered on a miss.
+     */
+    public AccountClientResponse getAccountMetadata(Long accountId) {
+        Entry entry = lookup(accountId, settingsTtlNanos);
+        return AccountClientResponse.builder()
+                .accountId(entry.identity().accountId())
+                .userId(entry.identity().userId())
+                .iban(entry.identity().iban())
+                .currency(entry.identity().currency())
+                .status(entry.settings().status())
+                .dailyTransferLimit(entry.settings().dailyTransferLimit())
+                .dailyWithdrawalLimit(entry.settings().dailyWithdrawalLimit())
+                .build();
+    }
+
+    public Long getOwner(Long accountId) {
+        return lookup(accountId, identityTtlNanos).identity().userId();
+    }
+
+    /**
+     * @param normalizedIban upper case, no spaces
+     * @return true if the IBAN belongs to an open FinIce account
+     * @throws com.jk.finice.commonlibrary.exception.AccountClosedException if it belongs to a closed one (not cached)
+     */
+    public boolean isFinIceIban(String normalizedIban) {
+        if (!enabled) {
+            return fetchIban(normalizedIban).accountId() != null;
+        }
+        IbanEntry cached;
+        synchronized (ibans) {
+            cached = ibans.get(normalizedIban);
+        }
+        if (cached != null && System.nanoTime() - cached.loadedAt() <= identityTtlNanos) {
+            hits.increment();
+            return cached.accountId() != null;
+        }
+        return load(loadingIbans, normalizedIban, () -> fetchIban(normalizedIban), ibans).accountId() != null;
+    }
+
+    /**
+     * Stores an authoritative response the caller fetched anyway (e.g. the sender's, for its balance)
+     */
+    public void refresh(AccountClientResponse account) {
+        if (!enabled || account == null || account.getAccountId() == null) {
+            return;
+        }
+        Entry entry = Entry.of(account);
+        synchronized (accounts) {
+            accounts.put(account.getAccountId(), entry);
+        }
+    }
+
+    /**
+     * Drops an account whose settings or status changed, or that account-service just
+     * rejected (closed or missing); the next lookup goes to account-service
+     */
+    public void invalidate(Long accountId) {
+        if (accountId == null) {
+            return;
+        }
+        synchronized (accounts) {
+            accounts.remove(accountId);
+            loadingAccounts.remove(accountId);
+        }
+    }
+
+    private Entry lookup(Long accountId, long maxAgeNanos) {
+        if (!enabled) {
+            return Entry.of(accountServiceClient.getAccountInternal(accountId));
+        }
+        Entry cached;
+        synchronized (accounts) {
+            cached = accounts.get(accountId);
+        }
+        if (cached != null && System.nanoTime() - cached.loadedAt() <= maxAgeNanos) {
+            hits.increment();
+            return cached;
+        }
+        return load(loadingAccounts, accountId, () -> Entry.of(accountServiceClient.getAccountInternal(accountId)), accounts);
+    }
+
+    // The first caller fetches on its own thread, the others wait for its result
+    private <K, V> V load(Map<K, CompletableFuture<V>> loading, K key, Supplier<V> fetch, Map<K, V> store) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        misses.increment();
+        try {
+            V value = fetch.get();
+            synchronized (store) {
+                if (loading.get(key) == mine) { // not invalidated meanwhile
+                    store.put(key, value);
+                }
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private IbanEntry fetchIban(String normalizedIban) {
+        try {
+            return new IbanEntry(accountServiceClient.getAccountInternalByIban(normalizedIban).getAccountId(), System.nanoTime());
+        } catch (ResourceNotFoundException e) {
+            return new IbanEntry(null, System.nanoTime()); // not ours, an external receiver
+        }
+    }
+
+    private int size() {
+        int size;
+        synchronized (accounts) {
+            size = accounts.size();
+        }
+        synchronized (ibans) {
+            return size + ibans.size();
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("transaction.account.cache")
+                .description("Account metadata cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Identity(Long accountId, Long userId, String iban, Currency currency) {
+    }
+
+    private record Settings(AccountStatus status, BigDecimal dailyTransferLimit, BigDecimal dailyWithdrawalLimit) {
+    }
+
+    private record Entry(Identity identity, Settings settings, long loadedAt) {
+
+        static Entry of(AccountClientResponse account) {
+            return new Entry(
+                    new Identity(account.getAccountId(), account.getUserId(), account.getIban(), account.getCurrency()),
+                    new Settings(account.getStatus(), account.getDailyTransferLimit(), account.getDailyWithdrawalLimit()),
+                    System.nanoTime()
+            );
+        }
+    }
+
+    private record IbanEntry(Long accountId, long loadedAt) { // accountId null: not a FinIce IBAN
+    }
+}
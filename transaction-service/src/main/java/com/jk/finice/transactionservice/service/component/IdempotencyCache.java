@@ -0,0 +1,159 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-process front for the idempotency-key lookup.
+ * <p>
+ * Tier 1: bounded LRU of serialized responses for keys that reached a final status, so
+ * retries are answered without touching the DB.
+ * Tier 2: Bloom filter of keys this instance saw recently. A negative means the key is
+ * new here and the DB lookup can be skipped; the unique constraint on idempotency_key
+ * still catches duplicates that went through another instance.
+ */
+@Component
+@Slf4j
+public class IdempotencyCache {
+
+    private final ObjectMapper objectMapper;
+    private final RecentKeyFilter recentKeys;
+    private final Map<String, CachedResponse> responses;
+    private final long responseTtlNanos;
+
+    private final Counter responseHits;
+    private final Counter responseMisses;
+    private final Counter filterNegatives;
+    private final Counter filterPositives;
+    private final Counter filterFalsePositives;
+
+    public IdempotencyCache(ObjectMapper objectMapper,
+                            TransactionProperties transactionProperties,
+                            MeterRegistry meterRegistry) {
+        TransactionProperties.Idempotency config = transactionProperties.getIdempotency();
+        int maxEntries = config.getResponseCacheMaxEntries();
+
+        this.objectMapper = objectMapper;
+        this.recentKeys = new RecentKeyFilter(
+                config.getFilterExpectedKeys(), config.getFilterFalsePositiveRate(), config.getFilterWindow()
+        );
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.responseTtlNanos = config.getResponseCacheTtl().toNanos();
+
+        this.responseHits = cacheCounter(meterRegistry, "hit");
+        this.responseMisses = cacheCounter(meterRegistry, "miss");
+        this.filterNegatives = filterCounter(meterRegistry, "negative");
+        this.filterPositives = filterCounter(meterRegistry, "positive");
+        this.filterFalsePositives = filterCounter(meterRegistry, "false_positive");
+        Gauge.builder("transaction.idempotency.cache.size", this, IdempotencyCache::size)
+                .description("Completed responses held in the idempotency cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Response of an already finished request with this key, if still cached
+     */
+    public Optional<TransferResponse> findCompleted(String key) {
+        CachedResponse cached;
+        synchronized (responses) {
+            cached = responses.get(key);
+            if (cached != null && System.nanoTime() - cached.cachedAt() > responseTtlNanos) {
+                responses.remove(key);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            responseMisses.increment();
+            return Optional.empty();
+        }
+
+        try {
+            TransferResponse response = objectMapper.readValue(cached.payload(), TransferResponse.class);
+            responseHits.increment();
+            return Optional.of(response);
+        } catch (IOException e) {
+            log.warn("[TRANSACTION-SERVICE] Dropping unreadable idempotency cache entry: {}", e.getMessage());
+            synchronized (responses) {
+                responses.remove(key);
+            }
+            responseMisses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * False only when this instance has definitely not seen the key recently
+     */
+    public boolean mightContain(String key) {
+        boolean maybe = recentKeys.mightContain(key);
+        (maybe ? filterPositives : filterNegatives).increment();
+        return maybe;
+    }
+
+    public void recordFalsePositive() {
+        filterFalsePositives.increment();
+    }
+
+    public void remember(String key) {
+        recentKeys.add(key);
+    }
+
+    /**
+     * Keeps the response for replay; PENDING and UNDER_REVIEW ones are skipped since their status still moves
+     */
+    public void cacheResponse(String key, TransferResponse response) {
+        recentKeys.add(key);
+        if (response.getTransactionStatus().isInFlight()) {
+            return;
+        }
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(response);
+            synchronized (responses) {
+                responses.put(key, new CachedResponse(payload, System.nanoTime()));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("[TRANSACTION-SERVICE] Could not cache idempotent response for transaction {}: {}",
+                    response.getTransactionId(), e.getMessage());
+        }
+    }
+
+    private int size() {
+        synchronized (responses) {
+            return responses.size();
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("transaction.idempotency.cache")
+                .description("Idempotency response cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter filterCounter(MeterRegistry registry, String result) {
+        return Counter.builder("transaction.idempotency.filter")
+                .description("Recent-key Bloom filter outcomes")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record CachedResponse(byte[] payload, long cachedAt) {
+    }
+}
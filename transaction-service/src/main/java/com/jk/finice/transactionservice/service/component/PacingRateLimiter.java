@@ -0,0 +1,36 @@
+package com.jk.finice.transactionservice.service.component;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands out permits evenly spaced at a fixed rate, without bursts.
+ * <p>
+ * {@link #acquire()} reserves the next free slot and parks the caller until it comes up,
+ * which is cheap on the virtual threads the background workers run on.
+ */
+public class PacingRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeSlot;
+
+    public PacingRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.nextFreeSlot = System.nanoTime();
+    }
+
+    public void acquire() {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
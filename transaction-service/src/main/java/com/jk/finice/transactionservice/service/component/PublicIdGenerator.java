@@ -0,0 +1,80 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.commonlibrary.utils.TimeOrderedIdGenerator;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+
+/**
+ * Public identifiers of transactions, batches, schedules and settlement files.
+ * <p>
+ * All of them are time-ordered (see {@link TimeOrderedIdGenerator}), so the unique indexes
+ * grow at their right edge. The node ID is {@code transaction.ids.node-id} and must be unique
+ * per running instance, two instances sharing one generate the same IDs. Only with
+ * {@code derive-node-id} (the dev profile) may it be left unset, it is then hashed from the
+ * host name and the Eureka instance ID.
+ */
+@Component
+@Slf4j
+public class PublicIdGenerator {
+
+    private final TimeOrderedIdGenerator generator;
+
+    public PublicIdGenerator(TransactionProperties transactionProperties,
+                             @Value("${eureka.instance.instance-id:${spring.application.name}}") String instanceId) {
+        TransactionProperties.Ids config = transactionProperties.getIds();
+        int configured = config.getNodeId();
+        if (configured < 0 && !config.isDeriveNodeId()) {
+            throw new IllegalStateException(
+                    "transaction.ids.node-id (ID_NODE_ID) must be set to a value 0-" + TimeOrderedIdGenerator.MAX_NODE_ID
+                            + " unique to this instance");
+        }
+        int nodeId = configured >= 0 ? configured : deriveNodeId(instanceId);
+        this.generator = new TimeOrderedIdGenerator(nodeId);
+        log.info("[ID-GENERATOR] Using node ID {} ({})", nodeId, configured >= 0 ? "configured" : "derived");
+    }
+
+    /**
+     * System identifier, not customer facing: TXN-20250422-0A3F8C2E1D4B
+     */
+    public String nextTransactionId() {
+        return generator.nextId("TXN");
+    }
+
+    /**
+     * Customer facing, short enough to quote to support: REF-20250422-0K7Q2X9A
+     */
+    public String nextReference() {
+        return generator.nextReference("REF");
+    }
+
+    public String nextBatchId() {
+        return generator.nextId("BAT");
+    }
+
+    public String nextScheduleId() {
+        return generator.nextId("SCH");
+    }
+
+    public String nextSettlementMessageId() {
+        return generator.nextId("STL");
+    }
+
+    private static int deriveNodeId(String instanceId) {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        // Spread the String hash over all bits before cutting it down to 10
+        int hash = (host + "/" + instanceId).hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return (hash & 0x7FFFFFFF) % (TimeOrderedIdGenerator.MAX_NODE_ID + 1);
+    }
+}
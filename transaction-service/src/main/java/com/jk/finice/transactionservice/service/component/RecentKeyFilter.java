@@ -0,0 +1,113 @@
+package com.jk.finice.transactionservice.service.component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over the keys seen in the last one to two {@code window}s.
+ * <p>
+ * Two generations are kept: new keys go into the current one, lookups check both,
+ * and every {@code window} the older generation is dropped. This bounds memory and
+ * the false-positive rate no matter how long the service runs.
+ * <p>
+ * "false" is definite (key not added recently on this instance), "true" only means maybe.
+ */
+public class RecentKeyFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long windowNanos;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RecentKeyFilter(int expectedKeys, double falsePositiveRate, Duration window) {
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+        this.windowNanos = window.toNanos();
+        this.current = new Generation(bitCount, System.nanoTime());
+        this.previous = new Generation(bitCount, System.nanoTime());
+    }
+
+    public void add(String key) {
+        rotateIfDue();
+        current.set(key);
+    }
+
+    public boolean mightContain(String key) {
+        rotateIfDue();
+        return current.contains(key) || previous.contains(key);
+    }
+
+    private void rotateIfDue() {
+        Generation gen = current;
+        if (System.nanoTime() - gen.startedAt < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (current == gen) {
+                previous = gen;
+                current = new Generation(bitCount, System.nanoTime());
+            }
+        }
+    }
+
+    private final class Generation {
+        private final AtomicLongArray words;
+        private final long startedAt;
+
+        private Generation(int bits, long startedAt) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+            this.startedAt = startedAt;
+        }
+
+        private void set(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long prev;
+                do {
+                    prev = words.get(word);
+                    if ((prev & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, prev, prev | mask));
+            }
+        }
+
+        private boolean contains(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // FNV-1a 64 over the UTF-8 bytes, finished with a murmur3 mix so both halves are usable
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
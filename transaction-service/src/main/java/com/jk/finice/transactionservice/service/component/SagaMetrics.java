@@ -0,0 +1,185 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.enums.CompensationAction;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.exception.TransactionFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer view of the transfer flow, for finding the slow hop during an incident and
+ * for capacity planning per stage:
+ * <ul>
+ *   <li>{@code transaction.saga.stage} - one timer per stage (idempotency lookup, account fetch,
+ *   daily limit, hold, debit, credit, gateway, persistence...) and outcome</li>
+ *   <li>{@code transaction.saga.duration} - money movement of one transfer end to end, by flow and outcome</li>
+ *   <li>{@code transaction.saga.in.flight} - transfers moving money right now</li>
+ *   <li>{@code transaction.transfer.outcomes} - how transfer requests ended, shed and rejected ones included</li>
+ *   <li>{@code transaction.saga.compensations} - reversals by action, applied inline, queued or retried</li>
+ * </ul>
+ * Timers publish a percentile histogram plus the {@code transaction.metrics} SLO buckets,
+ * so latency objectives can be read straight off the bucket counters.
+ */
+@Component
+public class SagaMetrics {
+
+    public enum Stage {
+        IDEMPOTENCY_LOOKUP, ACCOUNT_FETCH, IBAN_LOOKUP, DAILY_LIMIT, PERSIST_PENDING,
+        HOLD, DEBIT, CREDIT, ATOMIC_TRANSFER, EXTERNAL_GATEWAY, JOURNAL, PERSIST_RESULT, COMPENSATION
+    }
+
+    public enum Flow { INTERNAL_SAGA, INTERNAL_ATOMIC, EXTERNAL, SETTLEMENT_RESERVE }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageSucceeded = new EnumMap<>(Stage.class);
+    private final Map<Stage, Timer> stageFailed = new EnumMap<>(Stage.class);
+    private final Map<Flow, Timer> sagaCompleted = new EnumMap<>(Flow.class);
+    private final Map<Flow, Timer> sagaFailed = new EnumMap<>(Flow.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public SagaMetrics(MeterRegistry meterRegistry, TransactionProperties transactionProperties) {
+        TransactionProperties.Metrics config = transactionProperties.getMetrics();
+        this.meterRegistry = meterRegistry;
+
+        for (Stage stage : Stage.values()) {
+            stageSucceeded.put(stage, stageTimer(stage, "success", config.getStageSlos()));
+            stageFailed.put(stage, stageTimer(stage, "failure", config.getStageSlos()));
+        }
+        for (Flow flow : Flow.values()) {
+            sagaCompleted.put(flow, sagaTimer(flow, "complete", config.getSagaSlos()));
+            sagaFailed.put(flow, sagaTimer(flow, "failed", config.getSagaSlos()));
+        }
+        Gauge.builder("transaction.saga.in.flight", inFlight, AtomicInteger::get)
+                .description("Transfers currently moving money on account-service or the payment network")
+                .register(meterRegistry);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = work.get();
+            succeeded = true;
+            return result;
+        } finally {
+            (succeeded ? stageSucceeded : stageFailed).get(stage)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void time(Stage stage, Runnable work) {
+        time(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Counts the saga as in flight until {@link Saga#end()}, call it from a finally block
+     */
+    public Saga startSaga(Flow flow) {
+        inFlight.incrementAndGet();
+        return new Saga(flow, System.nanoTime());
+    }
+
+    /**
+     * Runs a transfer request and counts how it ended: the returned status (COMPLETE,
+     * FAILED, PENDING, UNDER_REVIEW, replays included), or shed / failed / rejected when it throws
+     */
+    public TransferResponse countOutcome(TransferScope scope, Supplier<TransferResponse> transfer) {
+        String outcome = "rejected";
+        try {
+            TransferResponse response = transfer.get();
+            outcome = response.getTransactionStatus().name().toLowerCase(Locale.ROOT);
+            return response;
+        } catch (AccountBusyException | AccountServiceBusyException e) {
+            outcome = "shed";
+            throw e;
+        } catch (TransactionFailedException e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            Counter.builder("transaction.transfer.outcomes")
+                    .description("Transfer requests by scope and how they ended")
+                    .tag("scope", scope.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * @param result applied, queued, retry_applied or retry_failed
+     */
+    public void countCompensation(CompensationAction action, String result) {
+        Counter.builder("transaction.saga.compensations")
+                .description("Saga reversals by action and result")
+                .tag("action", action.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer stageTimer(Stage stage, String outcome, List<Duration> slos) {
+        return Timer.builder("transaction.saga.stage")
+                .description("Latency of one transfer stage")
+                .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slos.toArray(Duration[]::new))
+                .register(meterRegistry);
+    }
+
+    private Timer sagaTimer(Flow flow, String outcome, List<Duration> slos) {
+        return Timer.builder("transaction.saga.duration")
+                .description("Money movement of one transfer, from the first account-service call to the final status")
+                .tag("flow", flow.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slos.toArray(Duration[]::new))
+                .register(meterRegistry);
+    }
+
+    public final class Saga {
+
+        private final Flow flow;
+        private final long startedAt;
+        private boolean completed;
+        private boolean ended;
+
+        private Saga(Flow flow, long startedAt) {
+            this.flow = flow;
+            this.startedAt = startedAt;
+        }
+
+        public void complete() {
+            completed = true;
+        }
+
+        public void end() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            inFlight.decrementAndGet();
+            (completed ? sagaCompleted : sagaFailed).get(flow)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
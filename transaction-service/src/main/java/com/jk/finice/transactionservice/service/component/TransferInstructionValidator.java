@@ -0,0 +1,41 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.dto.response.IbanValidationResult;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shape checks for transfers that are stored now and executed later (batches, schedules),
+ * mirroring what the single-transfer endpoints enforce at request time.
+ * Returns an error message instead of throwing, caller decides how to report it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferInstructionValidator {
+
+    private final IbanValidator ibanValidator;
+
+    public String validate(TransferScope scope, Long sourceAccountId, Long destinationAccountId,
+                           String receiverIban, String receiverName, String description) {
+        if (scope == TransferScope.INTERNAL) {
+            if (destinationAccountId == null) {
+                return "Destination account ID is required";
+            }
+            if (destinationAccountId.equals(sourceAccountId)) {
+                return "Cannot transfer to the same account";
+            }
+            return null;
+        }
+
+        if (receiverName == null || receiverName.isBlank()) {
+            return "Receiver name is required";
+        }
+        if (description == null || description.isBlank()) {
+            return "Description is required";
+        }
+        String iban = receiverIban == null ? "" : receiverIban.trim().replace(" ", "").toUpperCase();
+        IbanValidationResult ibanResult = ibanValidator.validate(iban);
+        return ibanResult.valid() ? null : "Invalid receiver IBAN: " + ibanResult.errorMessage();
+    }
+}
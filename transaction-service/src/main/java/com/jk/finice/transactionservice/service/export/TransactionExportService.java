@@ -0,0 +1,180 @@
+package com.jk.finice.transactionservice.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.request.TransactionHistoryFilterRequest;
+import com.jk.finice.transactionservice.dto.response.TransactionHistoryResponse;
+import com.jk.finice.transactionservice.enums.ExportFormat;
+import com.jk.finice.transactionservice.exception.ExportCapacityException;
+import com.jk.finice.transactionservice.mapper.TransactionMapper;
+import com.jk.finice.transactionservice.repository.TransactionRepository;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
+import com.jk.finice.transactionservice.specification.TransactionSpecification;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams a user's filtered history to the response one keyset page at a time.
+ * <p>
+ * Each page is read as projections (nothing is attached to the persistence context) in its own
+ * short read-only transaction and written after the connection is back in the pool, so a slow
+ * client never pins a Hikari connection and memory stays flat regardless of export size.
+ * Pages seek past the last (createdAt, id) written, the same way the cursor history does.
+ */
+@Service
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "transactionId,transactionType,transferScope,status,maskedSenderIban,maskedReceiverIban,amount,currency,createdAt";
+
+    private static final String EXPORT_SLOT = TransactionExportService.class.getName() + ".slot";
+
+    private static final Sort EXPORT_ORDER = Sort.by("createdAt").ascending().and(Sort.by("id").ascending());
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final TransactionProperties.Export config;
+    private final Semaphore exportSlots;
+
+    public TransactionExportService(TransactionRepository transactionRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    TransactionProperties transactionProperties) {
+        this.transactionRepository = transactionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.config = transactionProperties.getExport();
+        this.exportSlots = new Semaphore(config.getMaxConcurrent());
+    }
+
+    /**
+     * Reserves an export slot up front so an overloaded instance answers 429 before any bytes are sent.
+     * The slot is given back when the async request completes, times out or fails, whether or not
+     * the body ever ran.
+     */
+    public StreamingResponseBody export(TransactionHistoryFilterRequest filterRequest, Long userId,
+                                        ExportFormat format, HttpServletRequest request) {
+        if (!exportSlots.tryAcquire()) {
+            throw new ExportCapacityException("Too many exports in progress, please retry shortly");
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_SLOT,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        exportSlots.release();
+                    }
+                });
+
+        return outputStream -> {
+            try {
+                long rows = write(filterRequest, userId, format, outputStream);
+                log.info("[TRANSACTION-SERVICE] Exported {} {} rows for user ID: {}", rows, format, userId);
+            } catch (UncheckedIOException e) {
+                // Client went away mid-download, no transaction is open while writing
+                log.warn("[TRANSACTION-SERVICE] Export aborted for user ID: {}: {}", userId, e.getMessage());
+            }
+        };
+    }
+
+    private long write(TransactionHistoryFilterRequest filterRequest, Long userId,
+                       ExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        Specification<Transaction> filter = TransactionSpecification.buildFilter(userId, filterRequest);
+        int pageSize = config.getPageSize();
+        long rows = 0;
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            LocalDateTime lastCreatedAt = null;
+            Long lastId = null;
+            List<TransactionHistoryRow> page;
+            do {
+                Specification<Transaction> spec = filter.and(TransactionSpecification.seekAfter(lastCreatedAt, lastId, true));
+                page = readOnlyTransaction.execute(status ->
+                        transactionRepository.findHistoryRows(spec, EXPORT_ORDER, pageSize));
+
+                for (TransactionHistoryRow next : page) {
+                    TransactionHistoryResponse row = TransactionMapper.toHistoryResponse(next);
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                    }
+                    writer.write('\n');
+                }
+                writer.flush();
+                rows += page.size();
+
+                if (!page.isEmpty()) {
+                    TransactionHistoryRow last = page.getLast();
+                    lastCreatedAt = last.createdAt();
+                    lastId = last.id();
+                }
+            } while (page.size() == pageSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, TransactionHistoryResponse row) throws IOException {
+        writer.write(csv(row.getTransactionId()));
+        writer.write(',');
+        writer.write(csv(row.getTransactionType()));
+        writer.write(',');
+        writer.write(csv(row.getTransferScope()));
+        writer.write(',');
+        writer.write(csv(row.getStatus()));
+        writer.write(',');
+        writer.write(csv(row.getMaskedSenderIban()));
+        writer.write(',');
+        writer.write(csv(row.getMaskedReceiverIban()));
+        writer.write(',');
+        writer.write(row.getAmount() == null ? "" : row.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(csv(row.getCurrency()));
+        writer.write(',');
+        writer.write(csv(row.getCreatedAt()));
+    }
+
+    // RFC 4180 quoting, only when the value needs it
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
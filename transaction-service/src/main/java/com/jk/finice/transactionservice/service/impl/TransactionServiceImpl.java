@@ -1,5 +1,6 @@
 package com.jk.finice.transactionservice.service.impl;
 
+import com.jk.finice.commonlibrary.dto.CursorPaginatedResponse;
 import com.jk.finice.commonlibrary.dto.PaginatedResponse;
 import com.jk.finice.commonlibrary.enums.Currency;
 import com.jk.finice.commonlibrary.exception.AccountClosedException;
@@ -8,23 +9,49 @@ import com.jk.finice.commonlibrary.exception.UnauthorizedException;
 import com.jk.finice.commonlibrary.exception.ValidationException;
 import com.jk.finice.commonlibrary.utils.MaskingUtils;
 import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.config.TransactionProperties;
 import com.jk.finice.transactionservice.dto.client.AccountClientResponse;
 import com.jk.finice.transactionservice.dto.client.CreditRequest;
 import com.jk.finice.transactionservice.dto.client.DebitRequest;
 import com.jk.finice.transactionservice.dto.client.HoldRequest;
+import com.jk.finice.transactionservice.dto.client.TransferClientResponse;
+import com.jk.finice.transactionservice.dto.client.TransferRequest;
 import com.jk.finice.transactionservice.dto.request.ExternalTransferRequest;
 import com.jk.finice.transactionservice.dto.request.InternalTransferRequest;
 import com.jk.finice.transactionservice.dto.request.TransactionHistoryFilterRequest;
 import com.jk.finice.transactionservice.dto.response.*;
 import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.ExternalTransferMode;
+import com.jk.finice.transactionservice.enums.InternalTransferMode;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
 import com.jk.finice.transactionservice.exception.TransactionFailedException;
-import com.jk.finice.transactionservice.externalGateway.ExternalPaymentGateway;
+import com.jk.finice.transactionservice.mapper.HistoryCursorCodec;
 import com.jk.finice.transactionservice.mapper.PaginationMapper;
 import com.jk.finice.transactionservice.mapper.TransactionMapper;
 import com.jk.finice.transactionservice.repository.TransactionRepository;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
 import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter;
+import com.jk.finice.transactionservice.service.component.AccountLanes;
+import com.jk.finice.transactionservice.service.component.AccountMetadataCache;
 import com.jk.finice.transactionservice.service.component.IbanValidator;
+import com.jk.finice.transactionservice.service.component.PublicIdGenerator;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import com.jk.finice.transactionservice.service.component.SagaMetrics.Flow;
+import com.jk.finice.transactionservice.service.component.SagaMetrics.Stage;
+import com.jk.finice.transactionservice.service.component.IdempotencyCache;
+import com.jk.finice.transactionservice.service.persistence.DailyTransferLimitService;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
 import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import com.jk.finice.transactionservice.service.risk.RiskAssessment;
+import com.jk.finice.transactionservice.service.risk.RiskScoringEngine;
+import com.jk.finice.transactionservice.service.saga.ExternalPaymentPipeline;
+import com.jk.finice.transactionservice.service.saga.ExternalTransferSaga;
+import com.jk.finice.transactionservice.service.saga.TransferCompensator;
 import com.jk.finice.transactionservice.specification.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,15 +65,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
-import static com.jk.finice.commonlibrary.utils.TokenUtils.generateSecureToken;
 
 @Service
 @Slf4j
@@ -57,8 +85,20 @@ public class TransactionServiceImpl implements TransactionService {
     private final IbanValidator ibanValidator;
     private final AccountServiceClient accountServiceClient;
     private final TransactionPersistenceService persistenceService;
-    private final ExternalPaymentGateway externalPaymentGateway;
     private final TransactionRepository transactionRepository;
+    private final TransactionProperties transactionProperties;
+    private final SagaJournalService sagaJournalService;
+    private final TransferCompensator transferCompensator;
+    private final DailyTransferLimitService dailyTransferLimitService;
+    private final IdempotencyCache idempotencyCache;
+    private final ExternalTransferSaga externalTransferSaga;
+    private final ExternalPaymentPipeline externalPaymentPipeline;
+    private final PublicIdGenerator publicIdGenerator;
+    private final RiskScoringEngine riskScoringEngine;
+    private final AccountLanes accountLanes;
+    private final AccountMetadataCache accountMetadataCache;
+    private final AccountCallLimiter accountCallLimiter;
+    private final SagaMetrics sagaMetrics;
 
     @Transactional(readOnly = true)
     @Override
@@ -68,6 +108,15 @@ public class TransactionServiceImpl implements TransactionService {
         String sortDirection = filterRequest.getSortDirection();
         String sortBy = filterRequest.getSortBy();
 
+        // Relevance only means something for a search, newest first breaks its ties (and stands in without one)
+        String search = filterRequest.getSearch();
+        boolean byRelevance = sortBy.equals("relevance");
+        boolean ranked = byRelevance && search != null && !search.isBlank();
+        if (byRelevance) {
+            sortBy = "createdAt";
+            sortDirection = "desc";
+        }
+
         // Setup the filter and pagination
         Sort sort = sortDirection.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
@@ -75,14 +124,39 @@ public class TransactionServiceImpl implements TransactionService {
         Pageable pageable = PageRequest.of(page, size, sort);
         Specification<Transaction> spec = TransactionSpecification.buildFilter(userId, filterRequest);
 
-        // Fetch the transactions
-        Page<Transaction> pagedTransactions = transactionRepository.findAll(spec, pageable);
+        // Fetch only the listed columns, no entity hydration
+        Page<TransactionHistoryRow> pagedTransactions = ranked
+                ? transactionRepository.findHistoryRowsByRelevance(spec, search, pageable)
+                : transactionRepository.findHistoryRows(spec, pageable);
 
         // Map to DTO and return paginated response
         Page<TransactionHistoryResponse> dtoResponse = pagedTransactions.map(TransactionMapper::toHistoryResponse);
         return PaginationMapper.fromPage(dtoResponse);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginatedResponse<TransactionHistoryResponse> getTransactionHistoryByCursor(TransactionHistoryFilterRequest filterRequest, Long userId){
+        int size = filterRequest.getSize();
+        boolean ascending = filterRequest.getSortDirection().equalsIgnoreCase("asc");
+
+        // Seek past the last row of the previous page, id breaks ties on equal timestamps
+        Specification<Transaction> spec = TransactionSpecification.buildFilter(userId, filterRequest);
+        String cursor = filterRequest.getCursor();
+        if (cursor != null && !cursor.isBlank()) {
+            HistoryCursorCodec.Position position = HistoryCursorCodec.decode(cursor);
+            spec = spec.and(TransactionSpecification.seekAfter(position.createdAt(), position.id(), ascending));
+        }
+        Sort sort = ascending
+                ? Sort.by("createdAt").ascending().and(Sort.by("id").ascending())
+                : Sort.by("createdAt").descending().and(Sort.by("id").descending());
+
+        // One extra row tells us whether there is a next page, no COUNT(*)
+        List<TransactionHistoryRow> rows = transactionRepository.findHistoryRows(spec, sort, size + 1);
+
+        return PaginationMapper.fromSeek(rows, size, TransactionMapper::toHistoryResponse, HistoryCursorCodec::encode);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public TransactionHistoryItemResponse getDetailedHistoryResponse(String transactionId, Long userId){
@@ -100,8 +174,23 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
 
+    // Everything from the balance check to the last account-service call runs in the sender's lane
     @Override
-    public TransferResponse internalTransfer(InternalTransferRequest transferRequest, Long userId, String idempotencyKey) {
+    public TransferResponse internalTransfer(InternalTransferRequest transferRequest, Long userId, String idempotencyKey,
+                                             TransferOrigin origin) {
+        return sagaMetrics.countOutcome(TransferScope.INTERNAL, () -> accountLanes.run(transferRequest.getSourceAccountId(),
+                () -> releasingWriteSlot(() -> runInternalTransfer(transferRequest, userId, idempotencyKey, origin))));
+    }
+
+    @Override
+    public TransferResponse externalTransfer(ExternalTransferRequest transferRequest, Long userId, String idempotencyKey,
+                                             TransferOrigin origin) {
+        return sagaMetrics.countOutcome(TransferScope.EXTERNAL, () -> accountLanes.run(transferRequest.getSourceAccountId(),
+                () -> releasingWriteSlot(() -> runExternalTransfer(transferRequest, userId, idempotencyKey, origin))));
+    }
+
+    private TransferResponse runInternalTransfer(InternalTransferRequest transferRequest, Long userId,
+                                                 String idempotencyKey, TransferOrigin origin) {
 
         // self-transfer guard first, no point fetching accounts
         if(transferRequest.getSourceAccountId()
@@ -112,131 +201,111 @@ public class TransactionServiceImpl implements TransactionService {
         // Generate or use client provided idempotency key
         String resolvedKey = resolveKey(idempotencyKey);
 
-        // Check DB for existing transaction with this key
-        Optional<Transaction> existing = persistenceService.checkIdempotency(resolvedKey);
+        // Check cache / DB for an existing transaction with this key
+        Optional<TransferResponse> existing = sagaMetrics.time(Stage.IDEMPOTENCY_LOOKUP,
+                () -> findExistingTransfer(idempotencyKey, resolvedKey));
 
         if (existing.isPresent()) {
-            Transaction existingTxn = existing.get();
             log.info("[TRANSACTION-SERVICE] Duplicate request detected, returning existing transaction: {}",
-                    existingTxn.getTransactionId());
-            return TransactionMapper.toTransferResponse(existingTxn); // return original result, no processing
+                    existing.get().getTransactionId());
+            return existing.get(); // return original result, no processing
         }
 
-        // Parallel fetch on virtual threads
-        CompletableFuture<AccountClientResponse> senderFuture =
-                CompletableFuture.supplyAsync(
-                        () -> accountServiceClient.getAccountInternal(transferRequest.getSourceAccountId()),
-                        virtualThreadExecutor
-                );
-
-        CompletableFuture<AccountClientResponse> receiverFuture =
-                CompletableFuture.supplyAsync(
-                        () -> accountServiceClient.getAccountInternal(
-                                transferRequest.getDestinationAccountId()),
-                        virtualThreadExecutor
-                );
-
-        // Wait for both
         AccountClientResponse senderClient;
         AccountClientResponse receiverClient;
+        LocalDateTime requestedAt;
 
         try {
-            CompletableFuture.allOf(senderFuture, receiverFuture).join();
-            senderClient = senderFuture.join();
-            receiverClient = receiverFuture.join();
-        } catch (CompletionException e) {
-            Throwable cause = e.getCause();
-            log.error("[TRANSACTION-SERVICE] Failed to fetch account details: {}",
-                    cause.getMessage());
-            // unwrap and rethrow known exceptions
-            if (cause instanceof ResourceNotFoundException ex) throw ex;
-            if (cause instanceof UnauthorizedException ex) throw ex;
-            if (cause instanceof ValidationException ex) throw ex;
-            if (cause instanceof AccountClosedException ex) throw ex;
-            throw new TransactionFailedException(
-                    "Failed to fetch account details: " + cause.getMessage(), cause);
-        }
-
-        // Validate sender and receiver accounts
-
-        BigDecimal dailyUsed = persistenceService.getDailyTransferredAmount(
-                senderClient.getIban(), senderClient.getAccountId()
-        );
-
-        validateSenderAccount(senderClient, transferRequest.getSourceAccountId(), transferRequest.getAmount(), userId, dailyUsed);
-        validateReceiverAccount(receiverClient, senderClient.getCurrency());
+            // Shed here, before the limit reservation and the PENDING row, never after
+            accountCallLimiter.reserveWrite();
+
+            // Parallel fetch on virtual threads
+            // The sender's balance always comes from account-service, the receiver only needs metadata
+            CompletableFuture<AccountClientResponse> senderFuture =
+                    CompletableFuture.supplyAsync(
+                            () -> fetchSender(transferRequest.getSourceAccountId()),
+                            virtualThreadExecutor
+                    );
+
+            CompletableFuture<AccountClientResponse> receiverFuture =
+                    CompletableFuture.supplyAsync(
+                            () -> accountMetadataCache.getAccountMetadata(
+                                    transferRequest.getDestinationAccountId()),
+                            virtualThreadExecutor
+                    );
+
+            // Wait for both
+            try {
+                sagaMetrics.time(Stage.ACCOUNT_FETCH, () -> CompletableFuture.allOf(senderFuture, receiverFuture).join());
+                senderClient = senderFuture.join();
+                receiverClient = receiverFuture.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                log.error("[TRANSACTION-SERVICE] Failed to fetch account details: {}",
+                        cause.getMessage());
+                // unwrap and rethrow known exceptions
+                if (cause instanceof ResourceNotFoundException ex) throw ex;
+                if (cause instanceof UnauthorizedException ex) throw ex;
+                if (cause instanceof ValidationException ex) throw ex;
+                if (cause instanceof AccountClosedException ex) throw ex;
+                if (cause instanceof AccountServiceBusyException ex) throw ex;
+                throw new TransactionFailedException(
+                        "Failed to fetch account details: " + cause.getMessage(), cause);
+            }
 
+            // Validate sender and receiver accounts
+            validateSenderAccount(senderClient, transferRequest.getSourceAccountId(), transferRequest.getAmount(), userId);
+            validateReceiverAccount(receiverClient, senderClient.getCurrency());
+
+            // Check + reserve today's limit atomically, released again by markFailed.
+            // The row is created with this timestamp, so the release hits the same day's counter
+            requestedAt = LocalDateTime.now();
+            sagaMetrics.time(Stage.DAILY_LIMIT, () -> dailyTransferLimitService.reserve(
+                    senderClient.getAccountId(), transferRequest.getAmount(), senderClient.getDailyTransferLimit(),
+                    requestedAt.toLocalDate()
+            ));
+        } catch (RuntimeException e) {
+            return replayIfDuplicate(idempotencyKey, resolvedKey, e);
+        }
 
-        String transactionId = generateTransactionId();
-        String reference = generateReference();
+        String transactionId = publicIdGenerator.nextTransactionId();
+        String reference = publicIdGenerator.nextReference();
 
-        // Persist PENDING transaction
+        // Persist PENDING transaction, the risk stage may move it to UNDER_REVIEW
         Transaction transaction = Transaction.buildPendingInternalTransaction(
                 transferRequest, resolvedKey, transactionId,
                 reference, senderClient, receiverClient, userId
         );
+        transaction.setCreatedAt(requestedAt);
+        markScored(transaction, origin);
 
-
-        PersistResult persistResult = persistenceService.persistPending(transaction, resolvedKey);
+        PersistResult persistResult = sagaMetrics.time(Stage.PERSIST_PENDING,
+                () -> persistPendingReserved(transaction, resolvedKey));
 
         // Loser returns immediately no side effects
         if (!persistResult.isOwner()) {
             log.info("[TRANSACTION-SERVICE] Concurrent duplicate detected, returning existing: {}",
                     persistResult.getTransaction().getTransactionId());
-            return TransactionMapper.toTransferResponse(persistResult.getTransaction());
+            return cachedResponse(resolvedKey, persistResult.getTransaction());
         }
 
         // Only winner Thread continues from here
         Transaction savedTransaction = persistResult.getTransaction();
 
-        boolean holdPlaced = false;
-        boolean debitExecuted = false;
-        boolean creditExecuted = false;
-
-        // Execute debit -> credit
-        try {
-            accountServiceClient.placeHold(
-                    senderClient.getAccountId(),
-                    new HoldRequest(transferRequest.getAmount(), transactionId)
-            );
-            holdPlaced = true;
-
-            accountServiceClient.debitAccount(
-                    senderClient.getAccountId(),
-                    new DebitRequest(transferRequest.getAmount(), transactionId)
-            );
-            debitExecuted = true;
-
-            accountServiceClient.creditAccount(
-                    receiverClient.getAccountId(),
-                    new CreditRequest(transferRequest.getAmount(), transactionId)
-            );
-            creditExecuted = true;
-
-            persistenceService.markComplete(savedTransaction);
-
-        } catch (Exception e) {
-            log.error("[TRANSACTION-SERVICE] Transfer failed for transaction ID: {}", transactionId, e);
-            handleCompensation(
-                    holdPlaced, debitExecuted, creditExecuted, senderClient,
-                    receiverClient, transferRequest.getAmount(), transactionId
-            );
-
-            persistenceService.markFailed(savedTransaction, e.getMessage());
-
-            if (e instanceof ValidationException ||
-                    e instanceof UnauthorizedException ||
-                    e instanceof ResourceNotFoundException) {
-                throw e;
-            }
-            throw new TransactionFailedException("Transfer failed: " + e.getMessage(), e);
+        // In-memory velocity rules, before any money moves
+        applyRisk(savedTransaction, assessRisk(origin, senderClient.getAccountId(), userId,
+                receiverClient.getIban(), transferRequest.getAmount()));
+        if (savedTransaction.getStatus() == TransactionStatus.UNDER_REVIEW) {
+            return cachedResponse(resolvedKey, savedTransaction);
         }
 
-        return TransactionMapper.toTransferResponse(savedTransaction);
+        executeInternal(savedTransaction);
+
+        return cachedResponse(resolvedKey, savedTransaction);
     }
 
-    @Override
-    public TransferResponse externalTransfer(ExternalTransferRequest transferRequest, Long userId, String idempotencyKey) {
+    private TransferResponse runExternalTransfer(ExternalTransferRequest transferRequest, Long userId,
+                                                 String idempotencyKey, TransferOrigin origin) {
 
         // Validate receiver IBAN format first before any external calls
         String normalizedReceiverIban = normalizeIban(transferRequest.getReceiverIban());
@@ -247,102 +316,117 @@ public class TransactionServiceImpl implements TransactionService {
 
         // Idempotency check first to fail fast on duplicates before any external calls
         String resolvedKey = resolveKey(idempotencyKey);
-        Optional<Transaction> existing = persistenceService.checkIdempotency(resolvedKey);
+        Optional<TransferResponse> existing = sagaMetrics.time(Stage.IDEMPOTENCY_LOOKUP,
+                () -> findExistingTransfer(idempotencyKey, resolvedKey));
         if (existing.isPresent()) {
-            Transaction existingTxn = existing.get();
             log.info("[TRANSACTION-SERVICE] Duplicate external transfer request detected, returning existing transaction: {}",
-                    existingTxn.getTransactionId());
-            return TransactionMapper.toTransferResponse(existingTxn);
+                    existing.get().getTransactionId());
+            return existing.get();
         }
 
-        // Validate sender account
-        AccountClientResponse senderClient = accountServiceClient.getAccountInternal(transferRequest.getSourceAccountId());
-        BigDecimal dailyUsed = persistenceService.getDailyTransferredAmount(
-                senderClient.getIban(), senderClient.getAccountId()
-        );
-        validateSenderAccount(
-                senderClient, transferRequest.getSourceAccountId(),
-                transferRequest.getAmount(), userId, dailyUsed
-        );
-
-        // Once we get the sender account, validate the IBAN against the receiver IBAN.
-        String normalizedSenderIban = normalizeIban(senderClient.getIban());
-        if (normalizedSenderIban.equals(normalizedReceiverIban)) {
-            throw new ValidationException("Cannot transfer to the same IBAN");
-        }
+        AccountClientResponse senderClient;
+        LocalDateTime requestedAt;
 
         try {
-            accountServiceClient.getAccountInternalByIban(normalizedReceiverIban);
-            // If we reach here - account exists in FinIce
-            throw new ValidationException(
-                    "Receiver account belongs to FinIce. Please use internal transfer."
+            // Shed here, before the limit reservation and the PENDING row, never after
+            accountCallLimiter.reserveWrite();
+
+            // Validate sender account
+            senderClient = sagaMetrics.time(Stage.ACCOUNT_FETCH, () -> fetchSender(transferRequest.getSourceAccountId()));
+            validateSenderAccount(
+                    senderClient, transferRequest.getSourceAccountId(),
+                    transferRequest.getAmount(), userId
             );
-        } catch (ResourceNotFoundException e) {
+
+            // Once we get the sender account, validate the IBAN against the receiver IBAN.
+            String normalizedSenderIban = normalizeIban(senderClient.getIban());
+            if (normalizedSenderIban.equals(normalizedReceiverIban)) {
+                throw new ValidationException("Cannot transfer to the same IBAN");
+            }
+
+            if (sagaMetrics.time(Stage.IBAN_LOOKUP, () -> accountMetadataCache.isFinIceIban(normalizedReceiverIban))) {
+                throw new ValidationException(
+                        "Receiver account belongs to FinIce. Please use internal transfer."
+                );
+            }
             // Account not in FinIce - continue as external
             log.debug("[TRANSACTION-SERVICE] Receiver IBAN is external, proceeding: {}",
                     MaskingUtils.maskIban(normalizedReceiverIban));
+
+            requestedAt = LocalDateTime.now();
+            sagaMetrics.time(Stage.DAILY_LIMIT, () -> dailyTransferLimitService.reserve(
+                    senderClient.getAccountId(), transferRequest.getAmount(), senderClient.getDailyTransferLimit(),
+                    requestedAt.toLocalDate()
+            ));
+        } catch (RuntimeException e) {
+            return replayIfDuplicate(idempotencyKey, resolvedKey, e);
         }
 
-        String transactionId = generateTransactionId();
-        String reference = generateReference();
+        String transactionId = publicIdGenerator.nextTransactionId();
+        String reference = publicIdGenerator.nextReference();
         Transaction transaction = Transaction.buildPendingExternalTransaction(
                 transferRequest, resolvedKey, transactionId, reference,
                 senderClient, normalizedReceiverIban, userId
         );
+        transaction.setCreatedAt(requestedAt);
+        markScored(transaction, origin);
 
-        PersistResult persistResult = persistenceService.persistPending(transaction, resolvedKey);
+        PersistResult persistResult = sagaMetrics.time(Stage.PERSIST_PENDING,
+                () -> persistPendingReserved(transaction, resolvedKey));
         if (!persistResult.isOwner()) {
             log.info("[TRANSACTION-SERVICE] Concurrent duplicate external transfer detected, returning existing: {}",
                     persistResult.getTransaction().getTransactionId());
-            return TransactionMapper.toTransferResponse(persistResult.getTransaction());
+            return cachedResponse(resolvedKey, persistResult.getTransaction());
         }
         Transaction savedTransaction = persistResult.getTransaction();
 
-        boolean holdPlaced = false;
-        boolean debitExecuted = false;
-
-        try {
-            accountServiceClient.placeHold(
-                    senderClient.getAccountId(),
-                    new HoldRequest(transferRequest.getAmount(), transactionId)
-            );
-            holdPlaced = true;
-
-            accountServiceClient.debitAccount(
-                    senderClient.getAccountId(),
-                    new DebitRequest(transferRequest.getAmount(), transactionId)
-            );
-            debitExecuted = true;
+        applyRisk(savedTransaction, assessRisk(origin, senderClient.getAccountId(), userId,
+                normalizedReceiverIban, transferRequest.getAmount()));
+        if (savedTransaction.getStatus() == TransactionStatus.UNDER_REVIEW) {
+            return cachedResponse(resolvedKey, savedTransaction);
+        }
 
-            ExternalPaymentGateway.ExternalPaymentResult networkResult = externalPaymentGateway.sendPayment(
-                    ExternalPaymentGateway.ExternalPaymentRequest.builder()
-                            .receiverIban(normalizedReceiverIban)
-                            .build()
-            );
-            if (!networkResult.isSuccess()) {
-                throw new TransactionFailedException("External payment failed: " + networkResult.getMessage());
-            }
+        executeExternal(savedTransaction);
 
-            savedTransaction.setNetworkReference(networkResult.getNetworkReference());
-            persistenceService.markComplete(savedTransaction);
-        } catch (Exception e) {
-            log.error("[TRANSACTION-SERVICE] External transfer failed for transaction ID: {}", transactionId, e);
-            handleCompensation(
-                    holdPlaced, debitExecuted, false, senderClient,
-                    null, transferRequest.getAmount(), transactionId
-            );
-            persistenceService.markFailed(savedTransaction, e.getMessage());
+        return cachedResponse(resolvedKey, savedTransaction);
+    }
 
-            if (e instanceof ValidationException ||
-                    e instanceof UnauthorizedException ||
-                    e instanceof ResourceNotFoundException ||
-                    e instanceof TransactionFailedException){
-                throw e;
+    @Override
+    public TransferResponse approveHeldTransfer(String transactionId) {
+        // A shed approval leaves the transfer UNDER_REVIEW, it can simply be approved again
+        accountCallLimiter.reserveWrite();
+        try {
+            Transaction released = persistenceService.releaseFromReview(transactionId)
+                    .orElseThrow(() -> new ValidationException("Transaction is not held for review"));
+            log.info("[TRANSACTION-SERVICE] Held transfer {} approved, executing", transactionId);
+
+            try {
+                accountLanes.run(released.getSourceAccountId(), () -> {
+                    if (released.getTransferScope() == TransferScope.INTERNAL) {
+                        executeInternal(released);
+                    } else {
+                        executeExternal(released);
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // Compensated and FAILED by the executor, the response carries the reason
+                log.warn("[TRANSACTION-SERVICE] Approved transfer {} failed: {}", transactionId, e.getMessage());
             }
-            throw new TransactionFailedException("External transfer failed: " + e.getMessage(), e);
+            return cachedResponse(released.getIdempotencyKey(), released);
+        } finally {
+            accountCallLimiter.releaseReservedWrite();
         }
+    }
+
+    @Override
+    public TransferResponse rejectHeldTransfer(String transactionId, String reason) {
+        String failureReason = (reason == null || reason.isBlank()) ? "Rejected after risk review" : reason;
+        Transaction rejected = persistenceService.rejectFromReview(transactionId, failureReason)
+                .orElseThrow(() -> new ValidationException("Transaction is not held for review"));
+        log.info("[TRANSACTION-SERVICE] Held transfer {} rejected: {}", transactionId, failureReason);
 
-        return TransactionMapper.toTransferResponse(savedTransaction);
+        return cachedResponse(rejected.getIdempotencyKey(), rejected);
     }
 
 
@@ -350,61 +434,259 @@ public class TransactionServiceImpl implements TransactionService {
     //                     HELPER METHODS
     // =====================================================
 
-    private String generateTransactionId() {
-        // System identifier: longer, more entropy, not customer facing
-        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String random = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        return "TXN-" + date + "-" + random;
-        // Output: TXN-20250422-A3F8C2E1D4B7
-    }
-
-    private String generateReference() {
-        // Customer facing: shorter, easier to read/quote to support
-        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String suffix = generateSecureToken().substring(0, 6).toUpperCase();
-        return "REF-" + date + "-" + suffix;
-        // Output: REF-20250422-X7K2P9
-    }
-
     private String resolveKey(String idempotencyKey) {
         return (idempotencyKey != null && !idempotencyKey.isBlank())
                 ? idempotencyKey
                 : UUID.randomUUID().toString();
     }
 
+    private boolean isClientKey(String idempotencyKey) {
+        return idempotencyKey != null && !idempotencyKey.isBlank();
+    }
+
+    // Response cache -> recent-key filter -> DB. A filter negative skips the DB read,
+    // the unique idempotency_key constraint still stops duplicates at persist time.
+    private Optional<TransferResponse> findExistingTransfer(String idempotencyKey, String resolvedKey) {
+        if (!isClientKey(idempotencyKey)) {
+            return Optional.empty(); // freshly generated UUID, cannot be a retry
+        }
+
+        Optional<TransferResponse> cached = idempotencyCache.findCompleted(resolvedKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        if (!idempotencyCache.mightContain(resolvedKey)) {
+            return Optional.empty();
+        }
+
+        Optional<Transaction> persisted = persistenceService.checkIdempotency(resolvedKey);
+        if (persisted.isEmpty()) {
+            idempotencyCache.recordFalsePositive();
+        }
+        return persisted.map(txn -> cachedResponse(resolvedKey, txn));
+    }
+
+    // A retry that reached another instance first skips the DB read here and would now fail
+    // validation against the already moved balance, so answer with the original result instead.
+    private TransferResponse replayIfDuplicate(String idempotencyKey, String resolvedKey, RuntimeException e) {
+        if (isClientKey(idempotencyKey)) {
+            Optional<Transaction> persisted = persistenceService.checkIdempotency(resolvedKey);
+            if (persisted.isPresent()) {
+                log.info("[TRANSACTION-SERVICE] Duplicate request detected after failed pre-checks, returning existing transaction: {}",
+                        persisted.get().getTransactionId());
+                return cachedResponse(resolvedKey, persisted.get());
+            }
+        }
+        throw e;
+    }
+
+    private TransferResponse cachedResponse(String resolvedKey, Transaction transaction) {
+        TransferResponse response = TransactionMapper.toTransferResponse(transaction);
+        idempotencyCache.cacheResponse(resolvedKey, response);
+        return response;
+    }
+
+    // Batch items and scheduled runs were authorised with the batch / schedule, only live calls are scored
+    private boolean isScored(TransferOrigin origin) {
+        return origin == TransferOrigin.API && transactionProperties.getRisk().isEnabled();
+    }
+
+    // Scored transfers are stored with score 0, only a fired rule costs an update afterwards
+    private void markScored(Transaction transaction, TransferOrigin origin) {
+        if (isScored(origin)) {
+            transaction.setRiskScore(0);
+        }
+    }
+
+    // Runs after persistPending so that only the request owning the row is counted into the
+    // velocity windows, a duplicate (retry, or a race with another instance) never is
+    private RiskAssessment assessRisk(TransferOrigin origin, Long sourceAccountId, Long userId,
+                                      String receiverIban, BigDecimal amount) {
+        if (!isScored(origin)) {
+            return RiskAssessment.NONE;
+        }
+        return riskScoringEngine.assess(sourceAccountId, userId, receiverIban, amount);
+    }
+
+    private void applyRisk(Transaction transaction, RiskAssessment risk) {
+        if (risk.rules().isEmpty()) {
+            return;
+        }
+        persistenceService.recordRisk(transaction, risk);
+        if (risk.review()) {
+            log.warn("[TRANSACTION-SERVICE] Transfer {} held for review, risk score {} ({})",
+                    transaction.getTransactionId(), risk.score(), risk.flags());
+        }
+    }
+
+    private void executeInternal(Transaction savedTransaction) {
+        if (transactionProperties.getTransfer().getInternalMode() == InternalTransferMode.ATOMIC) {
+            executeAtomicTransfer(savedTransaction, savedTransaction.getAmount(), savedTransaction.getCreatedBy());
+        } else {
+            executeSagaTransfer(savedTransaction);
+        }
+    }
+
+    private void executeExternal(Transaction savedTransaction) {
+        if (transactionProperties.getTransfer().getExternalMode() != ExternalTransferMode.SYNC) {
+            // Settled in the background, the client polls for the final status
+            externalPaymentPipeline.submit(savedTransaction);
+            return;
+        }
+        externalTransferSaga.execute(savedTransaction);
+    }
+
     private String normalizeIban(String iban) {
         return iban == null ? "" : iban.trim().replace(" ", "").toUpperCase();
     }
 
-    private void handleCompensation(boolean holdPlaced, boolean debitExecuted,
-                                    boolean creditExecuted,
-                                    AccountClientResponse sender,
-                                    AccountClientResponse receiver,
-                                    BigDecimal amount,
-                                    String transactionId) {
+    // Hold -> debit -> credit, each step is its own account-service call and commit
+    private void executeSagaTransfer(Transaction savedTransaction) {
+        String transactionId = savedTransaction.getTransactionId();
+        BigDecimal amount = savedTransaction.getAmount();
+
+        boolean holdPlaced = false;
+        boolean debitExecuted = false;
+        boolean creditExecuted = false;
+        SagaMetrics.Saga saga = sagaMetrics.startSaga(Flow.INTERNAL_SAGA);
+
+        // Execute debit -> credit
         try {
-            if (holdPlaced && !debitExecuted) {
-                accountServiceClient.releaseHold(sender.getAccountId(),
-                        new HoldRequest(amount, transactionId));
-
-            } else if (debitExecuted && !creditExecuted) {
-                accountServiceClient.reverseDebit(sender.getAccountId(),
-                        new DebitRequest(amount, transactionId));
-
-            } else if (debitExecuted && creditExecuted) {
-                accountServiceClient.reverseCredit(receiver.getAccountId(),
-                        new CreditRequest(amount, transactionId));
-                accountServiceClient.reverseDebit(sender.getAccountId(),
-                        new DebitRequest(amount, transactionId));
+            sagaMetrics.time(Stage.HOLD, () -> accountServiceClient.placeHold(
+                    savedTransaction.getSourceAccountId(),
+                    new HoldRequest(amount, transactionId)
+            ));
+            holdPlaced = true;
+            sagaJournalService.record(transactionId, SagaStepType.HOLD_PLACED);
+
+            sagaMetrics.time(Stage.DEBIT, () -> accountServiceClient.debitAccount(
+                    savedTransaction.getSourceAccountId(),
+                    new DebitRequest(amount, transactionId)
+            ));
+            debitExecuted = true;
+            sagaJournalService.record(transactionId, SagaStepType.DEBIT_EXECUTED);
+
+            sagaMetrics.time(Stage.CREDIT, () -> accountServiceClient.creditAccount(
+                    savedTransaction.getDestinationAccountId(),
+                    new CreditRequest(amount, transactionId)
+            ));
+            creditExecuted = true;
+            sagaJournalService.record(transactionId, SagaStepType.CREDIT_EXECUTED);
+
+            sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markComplete(savedTransaction));
+            saga.complete();
+
+        } catch (Exception e) {
+            log.error("[TRANSACTION-SERVICE] Transfer failed for transaction ID: {}", transactionId, e);
+            forgetRejectedAccounts(savedTransaction, e);
+            switch (transferCompensator.compensateAfter(e, savedTransaction, holdPlaced, debitExecuted, creditExecuted)) {
+                case APPLIED -> {
+                    // The timed out step had committed, and so had everything before it
+                    sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markComplete(savedTransaction));
+                    saga.complete();
+                    return;
+                }
+                case UNKNOWN -> {
+                    // Stays PENDING, recovery reads the ledger later and rolls forward or back
+                    log.warn("[TRANSACTION-SERVICE] Transfer {} left PENDING for recovery", transactionId);
+                    return;
+                }
+                case COMPENSATED -> {
+                }
             }
-        } catch (Exception ex) {
-            log.error("[TRANSACTION-SERVICE] CRITICAL: Compensation failed for: {}",
-                    transactionId, ex);
+
+            sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markFailed(savedTransaction, e.getMessage()));
+            throw toTransferFailure(e);
+        } finally {
+            saga.end();
+        }
+    }
+
+    // One account-service call: both accounts are locked and updated in a single DB transaction,
+    // so a failure leaves nothing behind to compensate.
+    private void executeAtomicTransfer(Transaction savedTransaction, BigDecimal amount, Long userId) {
+        String transactionId = savedTransaction.getTransactionId();
+        SagaMetrics.Saga saga = sagaMetrics.startSaga(Flow.INTERNAL_ATOMIC);
+
+        try {
+            TransferClientResponse result = sagaMetrics.time(Stage.ATOMIC_TRANSFER, () -> accountServiceClient.executeTransfer(
+                    new TransferRequest(
+                            savedTransaction.getSourceAccountId(),
+                            savedTransaction.getDestinationAccountId(),
+                            amount, userId, transactionId
+                    )
+            ));
+            sagaJournalService.record(transactionId, SagaStepType.TRANSFER_EXECUTED);
+            log.debug("[TRANSACTION-SERVICE] Atomic transfer committed on account-service: {}",
+                    result.getTransactionId());
+
+            sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markComplete(savedTransaction));
+            saga.complete();
+
+        } catch (Exception e) {
+            log.error("[TRANSACTION-SERVICE] Atomic transfer failed for transaction ID: {}", transactionId, e);
+            forgetRejectedAccounts(savedTransaction, e);
+            sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markFailed(savedTransaction, e.getMessage()));
+            throw toTransferFailure(e);
+        } finally {
+            saga.end();
         }
     }
 
+    // A transfer that never reached its first write (replay, rejected, held, handed to the
+    // async pipeline) gives its reserved write slot back here
+    private TransferResponse releasingWriteSlot(Supplier<TransferResponse> transfer) {
+        try {
+            return transfer.get();
+        } finally {
+            accountCallLimiter.releaseReservedWrite();
+        }
+    }
+
+    // Authoritative read for the balance check, passed on to the metadata cache
+    private AccountClientResponse fetchSender(Long sourceAccountId) {
+        AccountClientResponse sender = accountServiceClient.getAccountInternal(sourceAccountId);
+        accountMetadataCache.refresh(sender);
+        return sender;
+    }
+
+    // account-service found an account closed or gone that the cache may still hold as open
+    private void forgetRejectedAccounts(Transaction transaction, Exception e) {
+        if (e instanceof AccountClosedException || e instanceof ResourceNotFoundException) {
+            accountMetadataCache.invalidate(transaction.getSourceAccountId());
+            accountMetadataCache.invalidate(transaction.getDestinationAccountId());
+        }
+    }
+
+    // The daily-limit reservation only survives if this request owns the new PENDING row
+    private PersistResult persistPendingReserved(Transaction transaction, String resolvedKey) {
+        LocalDate reservedOn = transaction.getCreatedAt().toLocalDate();
+        PersistResult persistResult;
+        try {
+            persistResult = persistenceService.persistPending(transaction, resolvedKey);
+        } catch (RuntimeException e) {
+            dailyTransferLimitService.release(transaction.getSourceAccountId(), transaction.getAmount(), reservedOn);
+            throw e;
+        }
+        idempotencyCache.remember(resolvedKey);
+        if (!persistResult.isOwner()) {
+            dailyTransferLimitService.release(transaction.getSourceAccountId(), transaction.getAmount(), reservedOn);
+        }
+        return persistResult;
+    }
+
+    private RuntimeException toTransferFailure(Exception e) {
+        if (e instanceof ValidationException ||
+                e instanceof UnauthorizedException ||
+                e instanceof ResourceNotFoundException ||
+                e instanceof AccountServiceBusyException) {
+            return (RuntimeException) e;
+        }
+        return new TransactionFailedException("Transfer failed: " + e.getMessage(), e);
+    }
+
     private void validateSenderAccount(AccountClientResponse senderClient, Long sourceAccountId, BigDecimal amount,
-                                       Long userId, BigDecimal dailyTransferredAmountSoFar) {
+                                       Long userId) {
 
         // Validate sender Account
         if(!Objects.equals(senderClient.getUserId(), userId)){
@@ -418,15 +700,6 @@ public class TransactionServiceImpl implements TransactionService {
                     sourceAccountId);
             throw new ValidationException("Insufficient funds in source account");
         }
-
-        // checks if adding THIS transfer would exceed limit
-        if(dailyTransferredAmountSoFar
-                .add(amount)
-                .compareTo(senderClient.getDailyTransferLimit()) > 0){
-            log.error("[TRANSACTION-SERVICE] Daily transfer limit exceeded for account ID: {}. Amount transferred today: {}, Daily limit: {}",
-                    senderClient.getAccountId(), dailyTransferredAmountSoFar, senderClient.getDailyTransferLimit());
-            throw new ValidationException("Daily transfer limit exceeded");
-        }
     }
 
     private void validateReceiverAccount(AccountClientResponse receiverClient, Currency senderCurrency) {
@@ -0,0 +1,138 @@
+package com.jk.finice.transactionservice.service.maintenance;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of {@code transactions} (V5) rolling.
+ * <p>
+ * Creates partitions {@code months-ahead} in advance so inserts never land in the default
+ * partition, and moves partitions older than {@code retention-months} out of the live table
+ * into the {@code transactions_archive} schema. Detached tables are kept, not dropped;
+ * archiving them off the database is left to ops tooling.
+ * <p>
+ * Runs under a transaction-scoped advisory lock, so only one instance does the DDL.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "transaction.partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceWorker {
+
+    private static final long ADVISORY_LOCK_KEY = 0x7472_616e_7061_7274L; // "tranpart"
+    private static final String PARTITION_PREFIX = "transactions_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionProperties transactionProperties;
+
+    public PartitionMaintenanceWorker(JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      TransactionProperties transactionProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionProperties = transactionProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${transaction.partition.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("[PARTITION-MAINTENANCE] Another instance holds the lock, skipping");
+                    return;
+                }
+                createUpcomingPartitions();
+                archiveExpiredPartitions();
+                warnIfDefaultPartitionUsed();
+            });
+        } catch (Exception e) {
+            log.error("[PARTITION-MAINTENANCE] Partition maintenance failed", e);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= transactionProperties.getPartition().getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            // Names and bounds come from YearMonth, nothing user supplied ends up in the DDL
+            jdbcTemplate.execute(
+                    "CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF transactions " +
+                    "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')"
+            );
+        }
+    }
+
+    private void archiveExpiredPartitions() {
+        int retentionMonths = transactionProperties.getPartition().getRetentionMonths();
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+
+        for (String name : attachedPartitions()) {
+            YearMonth month = parseMonth(name);
+            if (month == null || !month.isBefore(oldestKept)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + name);
+            jdbcTemplate.execute("ALTER TABLE " + name + " SET SCHEMA transactions_archive");
+            log.info("[PARTITION-MAINTENANCE] Archived partition {} to transactions_archive", name);
+        }
+    }
+
+    // Rows here mean a month was missing when they were inserted; that month can no longer
+    // be attached until they are moved out by hand
+    private void warnIfDefaultPartitionUsed() {
+        Boolean used = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM transactions_default)", Boolean.class);
+        if (Boolean.TRUE.equals(used)) {
+            log.warn("[PARTITION-MAINTENANCE] transactions_default contains rows, check partition coverage");
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'transactions'::regclass",
+                String.class
+        );
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return null; // default partition or something created by hand
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
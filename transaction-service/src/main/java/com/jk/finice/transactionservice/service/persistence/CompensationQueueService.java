@@ -0,0 +1,110 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.CompensationTask;
+import com.jk.finice.transactionservice.enums.CompensationStatus;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.repository.CompensationTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompensationQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CompensationTaskRepository compensationTaskRepository;
+    private final SagaJournalService sagaJournalService;
+    private final TransactionProperties transactionProperties;
+
+    @Transactional
+    public void enqueue(List<CompensationTask> tasks, String error) {
+        LocalDateTime firstAttempt = nextAttemptAfter(0);
+        tasks.forEach(task -> {
+            task.setStatus(CompensationStatus.PENDING);
+            task.setAttempts(0);
+            task.setNextAttemptAt(firstAttempt);
+            task.setLastError(truncate(error));
+        });
+        compensationTaskRepository.saveAll(tasks);
+        log.warn("[COMPENSATION-QUEUE] Queued {} compensation task(s) for transaction: {}",
+                tasks.size(), tasks.getFirst().getTransactionId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompensationTask> findDueHeads(int limit) {
+        return compensationTaskRepository.findDueHeads(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public boolean claim(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        Duration lease = transactionProperties.getCompensation().getRetry().getLease();
+        return compensationTaskRepository.claim(taskId, now, now.plus(lease)) == 1;
+    }
+
+    public void markDone(CompensationTask task) {
+        task.setStatus(CompensationStatus.DONE);
+        task.setLastError(null);
+        compensationTaskRepository.save(task);
+
+        // Last open reversal of this transaction, the saga is now fully compensated
+        if (!compensationTaskRepository.existsByTransactionIdAndStatusNot(
+                task.getTransactionId(), CompensationStatus.DONE)) {
+            sagaJournalService.record(task.getTransactionId(), SagaStepType.COMPENSATED);
+        }
+    }
+
+    @Transactional
+    public void reschedule(CompensationTask task, String error) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setLastError(truncate(error));
+
+        if (attempts >= transactionProperties.getCompensation().getRetry().getMaxAttempts()) {
+            task.setStatus(CompensationStatus.DEAD);
+            log.error("[COMPENSATION-QUEUE] CRITICAL: Giving up on {} for transaction: {} after {} attempts",
+                    task.getAction(), task.getTransactionId(), attempts);
+        } else {
+            task.setNextAttemptAt(nextAttemptAfter(attempts));
+        }
+        compensationTaskRepository.save(task);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CompensationTask> findDead(int limit) {
+        return compensationTaskRepository.findByStatusOrderByIdAsc(CompensationStatus.DEAD, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(CompensationStatus status) {
+        return compensationTaskRepository.countByStatus(status);
+    }
+
+    // Exponential backoff with equal jitter: half of the delay is fixed, half random,
+    // so a burst of failures from one outage does not come back in lockstep
+    private LocalDateTime nextAttemptAfter(int attempts) {
+        TransactionProperties.Retry retry = transactionProperties.getCompensation().getRetry();
+        long base = retry.getBaseBackoff().toMillis();
+        long capped = Math.min(retry.getMaxBackoff().toMillis(), base << Math.min(attempts, 20));
+        long delay = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return LocalDateTime.now().plus(Duration.ofMillis(delay));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
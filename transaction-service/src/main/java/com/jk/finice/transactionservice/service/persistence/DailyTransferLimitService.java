@@ -0,0 +1,58 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.entity.DailyTransferCounter;
+import com.jk.finice.transactionservice.repository.DailyTransferCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Daily transfer limit as an atomic reservation instead of a SUM over today's transactions.
+ * The check and the increment are one conditional UPDATE, so two concurrent transfers
+ * can no longer both squeeze under the limit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyTransferLimitService {
+
+    private final DailyTransferCounterRepository counterRepository;
+
+    /**
+     * Reserves {@code amount} against the account's limit for {@code businessDate}, which must be
+     * the date of the transfer's created_at: every release goes by that date.
+     *
+     * @throws ValidationException if the reservation would exceed the limit
+     */
+    @Transactional
+    public void reserve(Long accountId, BigDecimal amount, BigDecimal dailyLimit, LocalDate businessDate) {
+        if (counterRepository.tryReserve(accountId, businessDate, amount, dailyLimit) == 1) {
+            return;
+        }
+
+        // Either the row does not exist yet (first transfer of the day) or the limit is reached
+        if (!counterRepository.existsById(new DailyTransferCounter.Key(accountId, businessDate))) {
+            counterRepository.initCounter(accountId, businessDate,
+                    businessDate.atStartOfDay(), businessDate.plusDays(1).atStartOfDay());
+            if (counterRepository.tryReserve(accountId, businessDate, amount, dailyLimit) == 1) {
+                return;
+            }
+        }
+
+        log.error("[DAILY-LIMIT] Daily transfer limit exceeded for account ID: {}. Requested: {}, Daily limit: {}",
+                accountId, amount, dailyLimit);
+        throw new ValidationException("Daily transfer limit exceeded");
+    }
+
+    @Transactional
+    public void release(Long accountId, BigDecimal amount, LocalDate businessDate) {
+        if (counterRepository.release(accountId, businessDate, amount) == 0) {
+            log.warn("[DAILY-LIMIT] No counter to release for account ID: {} on {}", accountId, businessDate);
+        }
+    }
+}
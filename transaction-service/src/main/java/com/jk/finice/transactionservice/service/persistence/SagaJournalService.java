@@ -0,0 +1,51 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.entity.SagaStep;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.repository.SagaStepRepository;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SagaJournalService {
+
+    private final SagaStepRepository sagaStepRepository;
+    private final SagaMetrics sagaMetrics;
+
+    public void record(String transactionId, SagaStepType step) {
+        record(transactionId, step, null);
+    }
+
+    // No surrounding transaction on purpose: each step commits on its own,
+    // and a duplicate insert (replayed by recovery) must not poison a caller's transaction.
+    public void record(String transactionId, SagaStepType step, String detail) {
+        sagaMetrics.time(SagaMetrics.Stage.JOURNAL, () -> {
+            try {
+                sagaStepRepository.save(SagaStep.builder()
+                        .transactionId(transactionId)
+                        .step(step)
+                        .detail(detail)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("[SAGA-JOURNAL] Step {} already recorded for transaction: {}", step, transactionId);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Map<SagaStepType, SagaStep> loadSteps(String transactionId) {
+        Map<SagaStepType, SagaStep> steps = new EnumMap<>(SagaStepType.class);
+        sagaStepRepository.findByTransactionIdOrderByIdAsc(transactionId)
+                .forEach(step -> steps.put(step.getStep(), step));
+        return steps;
+    }
+}
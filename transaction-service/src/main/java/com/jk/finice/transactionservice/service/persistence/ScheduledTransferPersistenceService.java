@@ -0,0 +1,79 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.repository.ScheduledTransferRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledTransferPersistenceService {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+
+    @Transactional
+    public ScheduledTransfer save(ScheduledTransfer schedule) {
+        return scheduledTransferRepository.save(schedule);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ScheduledTransfer> findSchedule(String scheduleId, Long userId) {
+        return scheduledTransferRepository.findByScheduleIdAndCreatedBy(scheduleId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ScheduledTransfer> findSchedules(Long userId, Pageable pageable) {
+        return scheduledTransferRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduledTransfer> findDue(int limit) {
+        return scheduledTransferRepository.findDue(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public boolean claim(ScheduledTransfer schedule, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return scheduledTransferRepository.claim(schedule.getId(), schedule.getOccurrence(), now, now.plus(lease)) > 0;
+    }
+
+    /**
+     * Records the run's result and moves to the next occurrence, or finishes the schedule when nextRunAt is null
+     */
+    @Transactional
+    public boolean advance(ScheduledTransfer schedule, LocalDateTime nextRunAt,
+                           String transactionId, TransactionStatus transactionStatus, String failureReason) {
+        ScheduleStatus status = nextRunAt == null ? ScheduleStatus.COMPLETED : ScheduleStatus.ACTIVE;
+        return scheduledTransferRepository.advance(
+                schedule.getId(), schedule.getOccurrence(), nextRunAt, status,
+                transactionId, transactionStatus, truncate(failureReason), LocalDateTime.now()
+        ) > 0;
+    }
+
+    @Transactional
+    public boolean cancel(ScheduledTransfer schedule) {
+        return scheduledTransferRepository.cancel(schedule.getId(), LocalDateTime.now()) > 0;
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,77 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.entity.SpendingRollup;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.repository.SpendingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Spending totals per user and month, kept in step with the transactions instead of
+ * aggregated on read. Each COMPLETE or FAILED transition adds itself to its bucket in the
+ * DB transaction that makes it, a month can be recomputed from its partition if they drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpendingRollupService {
+
+    private final SpendingRollupRepository rollupRepository;
+
+    /**
+     * Adds a transaction that has just become COMPLETE or FAILED to its month's bucket.
+     * Must join the transaction that changed the status, call it once per transition.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Transaction transaction) {
+        boolean completed = transaction.getStatus() == TransactionStatus.COMPLETE;
+        if (!completed && transaction.getStatus() != TransactionStatus.FAILED) {
+            return;
+        }
+
+        rollupRepository.add(
+                transaction.getCreatedBy(),
+                monthOf(transaction),
+                transaction.getTransactionType().name(),
+                transaction.getTransferScope() != null ? transaction.getTransferScope().name() : SpendingRollup.NO_SCOPE,
+                transaction.getCurrency().name(),
+                completed ? 1 : 0,
+                completed ? transaction.getAmount() : BigDecimal.ZERO,
+                completed ? 0 : 1
+        );
+    }
+
+    /**
+     * Replaces one month's rollups of every user with a fresh aggregate of its partition.
+     * Transfers finishing meanwhile wait for it, so keep it to off-peak hours on big months.
+     *
+     * @return number of buckets written
+     */
+    @Transactional
+    public int rebuildMonth(YearMonth month) {
+        LocalDate first = month.atDay(1);
+        rollupRepository.lockForRebuild();
+        int deleted = rollupRepository.deleteMonth(first);
+        int written = rollupRepository.rebuildMonth(first, first.atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        log.info("[SPENDING-ROLLUP] Rebuilt {}: {} bucket(s) replaced by {}", month, deleted, written);
+        return written;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SpendingRollup> findMonths(Long userId, YearMonth from, YearMonth to) {
+        return rollupRepository.findByCreatedByAndMonthBetweenOrderByMonthAsc(userId, from.atDay(1), to.atDay(1));
+    }
+
+    private static LocalDate monthOf(Transaction transaction) {
+        return YearMonth.from(transaction.getCreatedAt()).atDay(1);
+    }
+}
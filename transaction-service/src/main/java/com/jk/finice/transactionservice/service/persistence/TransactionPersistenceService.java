@@ -3,15 +3,22 @@ package com.jk.finice.transactionservice.service.persistence;
 import com.jk.finice.commonlibrary.exception.ValidationException;
 import com.jk.finice.transactionservice.dto.response.PersistResult;
 import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import com.jk.finice.transactionservice.exception.TransactionFailedException;
 import com.jk.finice.transactionservice.repository.TransactionRepository;
+import com.jk.finice.transactionservice.service.risk.RiskAssessment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,26 +26,33 @@ import java.util.Optional;
 @Slf4j
 public class TransactionPersistenceService {
 
+    // transaction_keys (V5), the trigger copies every new row's key into it
+    private static final String IDEMPOTENCY_KEY_CONSTRAINT = "uk_transaction_keys_idempotency_key";
+
     private final TransactionRepository transactionRepository;
+    private final DailyTransferLimitService dailyTransferLimitService;
+    private final SpendingRollupService spendingRollupService;
+    private final TransferBatchPersistenceService batchPersistenceService;
 
     @Transactional(readOnly = true)
     public Optional<Transaction> checkIdempotency(String resolvedKey) {
         return transactionRepository.findByIdempotencyKey(resolvedKey);
     }
 
-    @Transactional(readOnly = true)
-    public BigDecimal getDailyTransferredAmount(String iban, Long accountId) {
-        return transactionRepository.dailyTransferredAmount(
-                iban, accountId, LocalDate.now().atStartOfDay()
-        );
-    }
-
-    @Transactional
+    // Deliberately not @Transactional: the insert commits in save's own transaction. A duplicate
+    // key rolls that one back (Postgres would refuse any further statement in it), so the winner's
+    // row is read in a fresh transaction and the retry gets the original response, not a 500.
     public PersistResult persistPending(Transaction transaction, String resolvedKey) {
         try {
             Transaction saved = transactionRepository.save(transaction);
             return new PersistResult(saved, true);   // <- winner
         } catch (DataIntegrityViolationException e) {
+            if (!violates(e, IDEMPOTENCY_KEY_CONSTRAINT)) {
+                // A transaction_id or reference clash is not a replay, most likely two instances share a node ID
+                log.error("[PERSISTENCE] Could not insert transaction {}: {}",
+                        transaction.getTransactionId(), e.getMostSpecificCause().getMessage());
+                throw new TransactionFailedException("Transfer could not be stored, please retry", e);
+            }
             log.info("[PERSISTENCE] Duplicate idempotency key: {}", resolvedKey);
             Transaction existing = transactionRepository.findByIdempotencyKey(resolvedKey)
                     .orElseThrow(() -> new ValidationException("Duplicate idempotency key"));
@@ -46,16 +60,166 @@ public class TransactionPersistenceService {
         }
     }
 
+    /**
+     * Stores the score and fired rules of a PENDING transfer, moving it to UNDER_REVIEW if the
+     * risk stage asks for it; the in-memory copy follows only if the row was still PENDING
+     */
     @Transactional
-    public void markComplete(Transaction transaction) {
+    public void recordRisk(Transaction transaction, RiskAssessment risk) {
+        TransactionStatus status = risk.review() ? TransactionStatus.UNDER_REVIEW : TransactionStatus.PENDING;
+        int updated = transactionRepository.recordRisk(transaction.getId(), transaction.getCreatedAt(),
+                risk.score(), risk.flags(), status);
+        if (updated == 1) {
+            transaction.setRiskScore(risk.score());
+            transaction.setRiskFlags(risk.flags());
+            if (risk.review()) {
+                transaction.holdForReview();
+            }
+        }
+    }
+
+    /**
+     * Moves the transfer to COMPLETE if the database still has it open (PENDING or UNDER_REVIEW).
+     * The request path, the async pipeline and saga recovery may all try to close the same row,
+     * only the one whose update matched counts it into the spending rollups (and its batch item, if any).
+     *
+     * @return false if someone else closed it first, the in-memory copy then shows their outcome
+     */
+    @Transactional
+    public boolean markComplete(Transaction transaction) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = transactionRepository.completeIfOpen(
+                transaction.getId(), transaction.getCreatedAt(), transaction.getNetworkReference(), now);
+        if (updated == 0) {
+            return lostFinalization(transaction, TransactionStatus.COMPLETE);
+        }
         transaction.markCompleted();
-        transactionRepository.save(transaction);
+        transaction.setCompletedAt(now);
+        transaction.setUpdatedAt(now);
+        spendingRollupService.record(transaction);
+        batchPersistenceService.resolveSubmittedItem(transaction.getTransactionId(), TransactionStatus.COMPLETE, null);
+        return true;
     }
 
+    /**
+     * Moves the transfer to FAILED if the database still has it open. Releasing the daily-limit
+     * reservation in the same DB transaction, and only on the transition, keeps the counter in
+     * step with the FAILED status whoever fails the transfer (request path, pipeline or recovery).
+     *
+     * @return false if someone else closed it first, the in-memory copy then shows their outcome
+     */
     @Transactional
-    public void markFailed(Transaction transaction, String reason) {
+    public boolean markFailed(Transaction transaction, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = transactionRepository.failIfOpen(transaction.getId(), transaction.getCreatedAt(), reason, now);
+        if (updated == 0) {
+            return lostFinalization(transaction, TransactionStatus.FAILED);
+        }
         transaction.markFailed(reason);
-        transactionRepository.save(transaction);
+        transaction.setCompletedAt(now);
+        transaction.setUpdatedAt(now);
+        spendingRollupService.record(transaction);
+        batchPersistenceService.resolveSubmittedItem(transaction.getTransactionId(), TransactionStatus.FAILED, reason);
+
+        if (transaction.getTransactionType() == TransactionType.TRANSFER) {
+            dailyTransferLimitService.release(
+                    transaction.getSourceAccountId(), transaction.getAmount(),
+                    transaction.getCreatedAt().toLocalDate()
+            );
+        }
+        return true;
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return constraint.equalsIgnoreCase(violation.getConstraintName());
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(constraint);
+    }
+
+    private boolean lostFinalization(Transaction transaction, TransactionStatus wanted) {
+        transactionRepository.findByIdAndCreatedAt(transaction.getId(), transaction.getCreatedAt()).ifPresent(current -> {
+            transaction.setStatus(current.getStatus());
+            transaction.setFailureReason(current.getFailureReason());
+            transaction.setNetworkReference(current.getNetworkReference());
+            transaction.setCompletedAt(current.getCompletedAt());
+            transaction.setUpdatedAt(current.getUpdatedAt());
+        });
+        log.warn("[PERSISTENCE] Transaction {} was already {}, not marked {}",
+                transaction.getTransactionId(), transaction.getStatus(), wanted);
+        return false;
+    }
+
+    /**
+     * Claims up to {@code limit} stale PENDING transfers for this instance.
+     * Rows are locked with SKIP LOCKED and leased by touching updated_at, so concurrent
+     * instances get disjoint chunks and nobody sees them again until {@code stale-after} passes.
+     */
+    @Transactional
+    public List<Transaction> claimStalePendingTransfers(LocalDateTime staleBefore, int limit) {
+        List<Transaction> claimed = transactionRepository.lockStalePendingTransfers(staleBefore, limit);
+        if (!claimed.isEmpty()) {
+            LocalDateTime createdFrom = claimed.stream().map(Transaction::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDateTime createdTo = claimed.stream().map(Transaction::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
+            transactionRepository.touchPending(claimed.stream().map(Transaction::getId).toList(),
+                    createdFrom, createdTo, LocalDateTime.now());
+        }
+        return claimed;
+    }
+
+    /**
+     * @return false if the transaction left PENDING, or saga recovery claimed it, before the
+     * async pipeline got to it
+     */
+    @Transactional
+    public boolean claimForDispatch(Transaction transaction) {
+        return transactionRepository.touchPendingIfUnchanged(transaction.getId(), transaction.getCreatedAt(),
+                transaction.getUpdatedAt(), LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Moves a held transfer back to PENDING so it can be executed
+     *
+     * @return empty if it is not (or no longer) UNDER_REVIEW
+     */
+    @Transactional
+    public Optional<Transaction> releaseFromReview(String transactionId) {
+        if (transactionRepository.releaseFromReview(transactionId, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return transactionRepository.findByTransactionId(transactionId);
     }
-}
 
+    /**
+     * FAILS a held transfer and gives back its daily-limit reservation, nothing else was applied yet
+     *
+     * @return empty if it is not (or no longer) UNDER_REVIEW
+     */
+    @Transactional
+    public Optional<Transaction> rejectFromReview(String transactionId, String reason) {
+        if (transactionRepository.rejectFromReview(transactionId, reason, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        Optional<Transaction> rejected = transactionRepository.findByTransactionId(transactionId);
+        rejected.ifPresent(transaction -> {
+            dailyTransferLimitService.release(
+                    transaction.getSourceAccountId(), transaction.getAmount(),
+                    transaction.getCreatedAt().toLocalDate()
+            );
+            spendingRollupService.record(transaction);
+            batchPersistenceService.resolveSubmittedItem(transactionId, TransactionStatus.FAILED, reason);
+        });
+        return rejected;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Transaction> findUnderReview(int limit) {
+        return transactionRepository.findByStatusOrderByCreatedAtAsc(TransactionStatus.UNDER_REVIEW, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnderReview() {
+        return transactionRepository.countByStatus(TransactionStatus.UNDER_REVIEW);
+    }
+}
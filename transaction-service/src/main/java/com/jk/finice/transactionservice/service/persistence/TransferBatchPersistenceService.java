@@ -0,0 +1,145 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.repository.TransactionRepository;
+import com.jk.finice.transactionservice.repository.TransferBatchItemRepository;
+import com.jk.finice.transactionservice.repository.TransferBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransferBatchPersistenceService {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final TransferBatchRepository transferBatchRepository;
+    private final TransferBatchItemRepository transferBatchItemRepository;
+    private final TransactionRepository transactionRepository;
+
+    // Batch and all of its items land together or not at all
+    @Transactional
+    public TransferBatch createBatch(TransferBatch batch, Function<Long, List<TransferBatchItem>> itemsFor) {
+        TransferBatch saved = transferBatchRepository.saveAndFlush(batch);
+        transferBatchItemRepository.saveAll(itemsFor.apply(saved.getId()));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TransferBatch> findByIdempotencyKey(String idempotencyKey) {
+        return transferBatchRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TransferBatch> findBatch(String batchId, Long userId) {
+        return transferBatchRepository.findByBatchIdAndCreatedBy(batchId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TransferBatchItem> findItems(Long batchId, Pageable pageable) {
+        return transferBatchItemRepository.findByBatchIdOrderByItemIndexAsc(batchId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransferBatchItem> findQueuedItems(Long batchId) {
+        return transferBatchItemRepository.findByBatchIdAndStatusOrderByItemIndexAsc(batchId, BatchItemStatus.QUEUED);
+    }
+
+    /**
+     * Item result and batch progress in one transaction; the last item also closes the batch
+     */
+    @Transactional
+    public void recordItemResult(TransferBatchItem item, BatchItemStatus status, String transactionId, String failureReason) {
+        int updated = transferBatchItemRepository.finishItem(item.getId(), status, transactionId, truncate(failureReason));
+        if (updated == 0) {
+            return; // already recorded by an earlier run of this batch
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (status == BatchItemStatus.COMPLETE) {
+            transferBatchRepository.incrementSucceeded(item.getBatchId(), now);
+        } else {
+            transferBatchRepository.incrementFailed(item.getBatchId(), now);
+        }
+        if (transferBatchRepository.finishIfDone(item.getBatchId(), now) > 0) {
+            log.info("[BATCH-PERSISTENCE] Batch {} finished", item.getBatchId());
+        }
+    }
+
+    /**
+     * The item's transfer was accepted but is still in flight; it stays out of the resume
+     * sweep's QUEUED items and is resolved by {@link #resolveSubmittedItem} when the transfer closes
+     */
+    @Transactional
+    public void markItemSubmitted(TransferBatchItem item, String transactionId) {
+        if (transferBatchItemRepository.submitItem(item.getId(), transactionId) == 0) {
+            return;
+        }
+        // A fast transfer may have closed before this, its finalization then found nothing to resolve
+        transactionRepository.findByTransactionId(transactionId)
+                .filter(Transaction::isFinal)
+                .ifPresent(transaction -> resolve(item, transactionId, transaction.getStatus(), transaction.getFailureReason()));
+    }
+
+    /**
+     * Counts a SUBMITTED item once its transfer reached a final status. Runs inside the
+     * transaction that closes the transfer, so the item and the transfer close together.
+     */
+    @Transactional
+    public void resolveSubmittedItem(String transactionId, TransactionStatus status, String failureReason) {
+        transferBatchItemRepository.findByTransactionIdAndStatus(transactionId, BatchItemStatus.SUBMITTED)
+                .ifPresent(item -> resolve(item, transactionId, status, failureReason));
+    }
+
+    /**
+     * Safety net for the resume sweep: resolves SUBMITTED items whose transfer closed while
+     * the item was being marked, so neither side saw the other
+     */
+    @Transactional
+    public void resolveClosedSubmittedItems(Long batchId) {
+        for (TransferBatchItem item : transferBatchItemRepository.findByBatchIdAndStatusOrderByItemIndexAsc(
+                batchId, BatchItemStatus.SUBMITTED)) {
+            transactionRepository.findByTransactionId(item.getTransactionId())
+                    .filter(Transaction::isFinal)
+                    .ifPresent(transaction -> resolve(item, item.getTransactionId(),
+                            transaction.getStatus(), transaction.getFailureReason()));
+        }
+    }
+
+    private void resolve(TransferBatchItem item, String transactionId, TransactionStatus status, String failureReason) {
+        BatchItemStatus outcome = status == TransactionStatus.COMPLETE ? BatchItemStatus.COMPLETE : BatchItemStatus.FAILED;
+        recordItemResult(item, outcome, transactionId, failureReason);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransferBatch> findStaleProcessing(LocalDateTime staleBefore, int limit) {
+        return transferBatchRepository.findStaleProcessing(staleBefore, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    public boolean claimStale(Long id, LocalDateTime staleBefore) {
+        return transferBatchRepository.claimStale(id, staleBefore, LocalDateTime.now()) > 0;
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jk.finice.transactionservice.service.risk;
+
+import java.util.List;
+
+/**
+ * Outcome of the risk stage for one transfer
+ *
+ * @param score  sum of the triggered rules' scores, capped at 100
+ * @param rules  names of the triggered rules
+ * @param review true if the transfer is held for review instead of executed
+ */
+public record RiskAssessment(int score, List<String> rules, boolean review) {
+
+    public static final RiskAssessment NONE = new RiskAssessment(0, List.of(), false);
+
+    private static final int MAX_FLAGS_LENGTH = 255;
+
+    /**
+     * Triggered rule names as stored in transactions.risk_flags, null if none
+     */
+    public String flags() {
+        if (rules.isEmpty()) {
+            return null;
+        }
+        String joined = String.join(",", rules);
+        return joined.length() <= MAX_FLAGS_LENGTH ? joined : joined.substring(0, MAX_FLAGS_LENGTH);
+    }
+}
@@ -0,0 +1,167 @@
+package com.jk.finice.transactionservice.service.risk;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.enums.RiskMetric;
+import com.jk.finice.transactionservice.enums.RiskScope;
+import com.jk.finice.transactionservice.service.component.RecentKeyFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Velocity scoring on the transfer path, entirely in memory.
+ * <p>
+ * Every scored transfer is counted into {@link SlidingWindowCounter}s kept per paying account,
+ * per user and per receiving IBAN, one counter per configured rule. A rule fires when its
+ * window, including this transfer, goes over the threshold; the scores of the fired rules
+ * add up, and from {@code review-threshold} on the transfer is held for review. A call is a
+ * few map lookups and CASes, no I/O.
+ * <p>
+ * Counters are per instance and start empty after a restart, so limits apply per instance
+ * behind the load balancer. Keys idle longer than {@code idle-eviction} are dropped, which
+ * also forgets the receivers an account or user has paid before: NEW_RECEIVERS rules should
+ * allow a few.
+ */
+@Component
+@Slf4j
+public class RiskScoringEngine {
+
+    private static final int MAX_SCORE = 100;
+    private static final double KNOWN_RECEIVER_FALSE_POSITIVE_RATE = 0.02;
+
+    private final TransactionProperties.Risk config;
+    private final List<CompiledRule> accountRules = new ArrayList<>();
+    private final List<CompiledRule> userRules = new ArrayList<>();
+    private final List<CompiledRule> receiverRules = new ArrayList<>();
+    private final long idleMillis;
+
+    private final Map<Long, KeyState> accounts = new ConcurrentHashMap<>();
+    private final Map<Long, KeyState> users = new ConcurrentHashMap<>();
+    private final Map<String, KeyState> receivers = new ConcurrentHashMap<>();
+
+    public RiskScoringEngine(TransactionProperties transactionProperties) {
+        this.config = transactionProperties.getRisk();
+
+        long longestWindow = 0;
+        for (TransactionProperties.RiskRule rule : config.getRules()) {
+            if (rule.getMetric() == RiskMetric.NEW_RECEIVERS && rule.getScope() == RiskScope.RECEIVER) {
+                throw new IllegalArgumentException("Risk rule " + rule.getName() + ": NEW_RECEIVERS needs ACCOUNT or USER scope");
+            }
+            CompiledRule compiled = new CompiledRule(
+                    rule.getName(), rule.getMetric(), rule.getWindow().toMillis(),
+                    rule.getMetric() == RiskMetric.AMOUNT ? toMinorUnits(rule.getThreshold()) : rule.getThreshold().longValue(),
+                    rule.getScore());
+            switch (rule.getScope()) {
+                case ACCOUNT -> accountRules.add(compiled);
+                case USER -> userRules.add(compiled);
+                case RECEIVER -> receiverRules.add(compiled);
+            }
+            longestWindow = Math.max(longestWindow, compiled.windowMillis());
+        }
+        // A key must outlive its longest window or the counter would be dropped while still relevant
+        this.idleMillis = Math.max(longestWindow, config.getIdleEviction().toMillis());
+    }
+
+    /**
+     * Counts the transfer and scores it against the rules; NONE if the stage is switched off
+     */
+    public RiskAssessment assess(Long sourceAccountId, Long userId, String receiverIban, BigDecimal amount) {
+        if (!config.isEnabled()) {
+            return RiskAssessment.NONE;
+        }
+        long now = System.currentTimeMillis();
+        long minorUnits = toMinorUnits(amount);
+        List<String> fired = new ArrayList<>(2);
+
+        int score = score(accountRules, accounts, sourceAccountId, receiverIban, now, minorUnits, fired)
+                + score(userRules, users, userId, receiverIban, now, minorUnits, fired)
+                + score(receiverRules, receivers, receiverIban, null, now, minorUnits, fired);
+
+        score = Math.min(score, MAX_SCORE);
+        boolean review = score >= config.getReviewThreshold();
+        if (!fired.isEmpty()) {
+            log.debug("[RISK-ENGINE] Account {} scored {} ({})", sourceAccountId, score, fired);
+        }
+        return new RiskAssessment(score, List.copyOf(fired), review);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.risk.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleMillis;
+        int before = accounts.size() + users.size() + receivers.size();
+        accounts.values().removeIf(state -> state.lastSeen < idleBefore);
+        users.values().removeIf(state -> state.lastSeen < idleBefore);
+        receivers.values().removeIf(state -> state.lastSeen < idleBefore);
+        int evicted = before - (accounts.size() + users.size() + receivers.size());
+        if (evicted > 0) {
+            log.debug("[RISK-ENGINE] Evicted {} idle velocity key(s)", evicted);
+        }
+    }
+
+    private <K> int score(List<CompiledRule> rules, Map<K, KeyState> states, K key, String receiverIban,
+                          long now, long minorUnits, List<String> fired) {
+        if (rules.isEmpty() || key == null) {
+            return 0;
+        }
+        KeyState state = states.computeIfAbsent(key, k -> new KeyState(rules));
+        state.lastSeen = now;
+        boolean newReceiver = state.knownReceivers != null && isNewReceiver(state.knownReceivers, receiverIban);
+
+        int score = 0;
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule rule = rules.get(i);
+            long delta = switch (rule.metric()) {
+                case COUNT -> 1;
+                case AMOUNT -> minorUnits;
+                case NEW_RECEIVERS -> newReceiver ? 1 : 0;
+            };
+            if (state.counters[i].addAndSum(now, delta) > rule.threshold()) {
+                score += rule.score();
+                fired.add(rule.name());
+            }
+        }
+        return score;
+    }
+
+    // A concurrent first payment to the same receiver may count it twice, one more toward the threshold
+    private static boolean isNewReceiver(RecentKeyFilter knownReceivers, String receiverIban) {
+        if (receiverIban == null || knownReceivers.mightContain(receiverIban)) {
+            return false;
+        }
+        knownReceivers.add(receiverIban);
+        return true;
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private record CompiledRule(String name, RiskMetric metric, long windowMillis, long threshold, int score) {}
+
+    private final class KeyState {
+        private final SlidingWindowCounter[] counters;
+        private final RecentKeyFilter knownReceivers;
+        private volatile long lastSeen;
+
+        private KeyState(List<CompiledRule> rules) {
+            this.counters = new SlidingWindowCounter[rules.size()];
+            boolean tracksReceivers = false;
+            for (int i = 0; i < rules.size(); i++) {
+                counters[i] = new SlidingWindowCounter(rules.get(i).windowMillis(), config.getBuckets());
+                tracksReceivers |= rules.get(i).metric() == RiskMetric.NEW_RECEIVERS;
+            }
+            this.knownReceivers = tracksReceivers
+                    ? new RecentKeyFilter(config.getKnownReceivers(), KNOWN_RECEIVER_FALSE_POSITIVE_RATE,
+                            Duration.ofMillis(idleMillis))
+                    : null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.jk.finice.transactionservice.service.risk;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window sum over a ring of time buckets.
+ * <p>
+ * Each slot packs the bucket it currently holds (low 20 bits of the bucket number) and the
+ * bucket's running total (44 bits) into one long, so moving a slot on to a new bucket and
+ * adding to it is a single CAS: a writer that finds an older bucket in the slot replaces it
+ * instead of resetting and adding in two steps another writer could interleave with.
+ * <p>
+ * The window slides in bucket steps, a sum covers the current bucket and the
+ * {@code buckets - 1} before it. Totals saturate at 2^44 - 1. A writer counts as late only
+ * when its slot moved on by at most one ring turn; an empty slot, or one holding any other
+ * bucket, is simply taken over. A slot left untouched for 2^20 buckets would read as current
+ * again, owners drop idle counters long before that.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int TAG_BITS = 20;
+    private static final int VALUE_BITS = Long.SIZE - TAG_BITS;
+    private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+    private static final long MAX_VALUE = (1L << VALUE_BITS) - 1;
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(long windowMillis, int buckets) {
+        if (buckets < 1 || buckets >= TAG_MASK || windowMillis < buckets) {
+            throw new IllegalArgumentException("window must be at least one millisecond per bucket");
+        }
+        this.bucketMillis = windowMillis / buckets;
+        this.buckets = buckets;
+        this.slots = new AtomicLongArray(buckets);
+    }
+
+    /**
+     * Adds {@code delta} at {@code nowMillis} and returns the window's sum including it
+     */
+    public long addAndSum(long nowMillis, long delta) {
+        long bucket = nowMillis / bucketMillis;
+        int index = (int) (bucket % buckets);
+        long tag = bucket & TAG_MASK;
+
+        while (true) {
+            long current = slots.get(index);
+            long slotTag = current >>> VALUE_BITS;
+            long next;
+            if (slotTag == tag || ((current & MAX_VALUE) != 0 && isAhead(slotTag, tag))) {
+                // same bucket, or this writer's clock lagged behind one that already moved the slot on
+                next = (slotTag << VALUE_BITS) | Math.min((current & MAX_VALUE) + delta, MAX_VALUE);
+            } else {
+                next = (tag << VALUE_BITS) | Math.min(delta, MAX_VALUE);
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                break;
+            }
+        }
+        return sum(nowMillis);
+    }
+
+    public long sum(long nowMillis) {
+        long tag = (nowMillis / bucketMillis) & TAG_MASK;
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            long slot = slots.get(i);
+            long age = (tag - (slot >>> VALUE_BITS)) & TAG_MASK;
+            if (age < buckets) {
+                total += slot & MAX_VALUE;
+            }
+        }
+        return Math.min(total, MAX_VALUE);
+    }
+
+    // The slot already holds the bucket one ring turn after this writer's, i.e. its clock lagged
+    private boolean isAhead(long slotTag, long tag) {
+        long ahead = (slotTag - tag) & TAG_MASK;
+        return ahead != 0 && ahead <= buckets;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.dto.client.TransactionMovementsClientResponse;
+import com.jk.finice.transactionservice.entity.SagaStep;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+
+import java.util.Map;
+
+import static com.jk.finice.transactionservice.enums.AccountMovementType.*;
+import static com.jk.finice.transactionservice.enums.SagaStepType.*;
+
+/**
+ * Net effect of a transfer on account-service, derived from its movement ledger.
+ *
+ * @param holdOutstanding funds still reserved, neither captured nor released
+ * @param debited         sender paid and not refunded
+ * @param credited        receiver paid and not taken back
+ * @param reversalStarted some compensation already reached account-service, the saga must not move forward
+ */
+record AccountLedgerState(boolean holdOutstanding, boolean debited, boolean credited, boolean reversalStarted) {
+
+    static AccountLedgerState of(TransactionMovementsClientResponse ledger) {
+        return new AccountLedgerState(
+                ledger.has(HOLD) && !ledger.has(DEBIT) && !ledger.has(RELEASE_HOLD),
+                ledger.has(DEBIT) && !ledger.has(REVERSE_DEBIT),
+                ledger.has(CREDIT) && !ledger.has(REVERSE_CREDIT),
+                ledger.has(RELEASE_HOLD) || ledger.has(REVERSE_DEBIT) || ledger.has(REVERSE_CREDIT)
+        );
+    }
+
+    // Transfers started before account-service kept a ledger only have the local journal
+    static AccountLedgerState fromJournal(Map<SagaStepType, SagaStep> steps) {
+        boolean debited = steps.containsKey(DEBIT_EXECUTED) || steps.containsKey(TRANSFER_EXECUTED);
+        return new AccountLedgerState(
+                steps.containsKey(HOLD_PLACED) && !debited,
+                debited,
+                steps.containsKey(CREDIT_EXECUTED) || steps.containsKey(TRANSFER_EXECUTED),
+                false
+        );
+    }
+}
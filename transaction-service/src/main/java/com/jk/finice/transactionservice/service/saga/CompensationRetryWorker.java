@@ -0,0 +1,67 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.CompensationTask;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import com.jk.finice.transactionservice.service.persistence.CompensationQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Replays queued compensation tasks off the request path.
+ * <p>
+ * Each sweep takes the oldest due task of up to {@code batch-size} accounts and runs
+ * them in parallel: different accounts never wait on each other, while tasks of the
+ * same account are applied strictly one after another.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transaction.compensation.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompensationRetryWorker {
+
+    private final ExecutorService virtualThreadExecutor;
+    private final TransactionProperties transactionProperties;
+    private final CompensationQueueService compensationQueueService;
+    private final TransferCompensator transferCompensator;
+    private final SagaMetrics sagaMetrics;
+
+    @Scheduled(fixedDelayString = "${transaction.compensation.retry.interval:PT10S}")
+    public void retryDueCompensations() {
+        int batchSize = transactionProperties.getCompensation().getRetry().getBatchSize();
+        List<CompensationTask> due = compensationQueueService.findDueHeads(batchSize);
+        if (due.isEmpty()) {
+            return;
+        }
+        log.info("[COMPENSATION-RETRY] Retrying {} compensation task(s)", due.size());
+
+        CompletableFuture<?>[] runs = due.stream()
+                .map(task -> CompletableFuture.runAsync(() -> retry(task), virtualThreadExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(runs).join();
+    }
+
+    private void retry(CompensationTask task) {
+        if (!compensationQueueService.claim(task.getId())) {
+            return; // leased by another instance
+        }
+        try {
+            transferCompensator.apply(task);
+            compensationQueueService.markDone(task);
+            sagaMetrics.countCompensation(task.getAction(), "retry_applied");
+            log.info("[COMPENSATION-RETRY] {} applied for transaction: {}", task.getAction(), task.getTransactionId());
+        } catch (Exception e) {
+            log.warn("[COMPENSATION-RETRY] {} failed again for transaction: {} ({})",
+                    task.getAction(), task.getTransactionId(), e.getMessage());
+            compensationQueueService.reschedule(task, e.getMessage());
+            sagaMetrics.countCompensation(task.getAction(), "retry_failed");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.enums.ExternalTransferMode;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter;
+import com.jk.finice.transactionservice.service.component.AccountLanes;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import com.jk.finice.transactionservice.service.settlement.SettlementBatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Settles accepted external transfers off the request thread.
+ * <p>
+ * Each submission gets a virtual thread; at most {@code external-concurrency} of them talk to
+ * account-service and the payment network at once, the rest wait parked (no Tomcat thread
+ * is held). Before starting, the worker re-claims the row while it is still PENDING, so a
+ * transfer that saga recovery already failed in the meantime is never executed.
+ * <p>
+ * The money movement runs in the source account's {@link AccountLanes} lane, taken before
+ * a permit so one hot account queues on its lane instead of sitting on the shared permits.
+ * The row is already PENDING, so a full write bulkhead is waited out rather than shed: the
+ * worker parks until it gets a write slot, and only then claims the row and places the hold.
+ * A full lane is waited out the same way, with a growing pause between {@code lane-retry-attempts}
+ * tries.
+ * <p>
+ * Nothing here is durable: a transfer queued on an instance that dies stays PENDING and
+ * is finished by {@link SagaRecoveryWorker} (compensated and FAILED, nothing was applied yet).
+ * <p>
+ * In SETTLEMENT mode the worker only holds and debits, then hands the transfer to
+ * {@link SettlementBatcher} for the next settlement file.
+ */
+@Component
+@Slf4j
+public class ExternalPaymentPipeline {
+
+    private static final Duration WRITE_SLOT_POLL = Duration.ofMillis(50);
+
+    private final ExecutorService virtualThreadExecutor;
+    private final ExternalTransferSaga externalTransferSaga;
+    private final TransactionPersistenceService persistenceService;
+    private final SettlementBatcher settlementBatcher;
+    private final AccountLanes accountLanes;
+    private final AccountCallLimiter accountCallLimiter;
+    private final TransactionProperties.Transfer transferSettings;
+    private final boolean settleInFiles;
+    private final Semaphore permits;
+
+    public ExternalPaymentPipeline(ExecutorService virtualThreadExecutor,
+                                   ExternalTransferSaga externalTransferSaga,
+                                   TransactionPersistenceService persistenceService,
+                                   SettlementBatcher settlementBatcher,
+                                   AccountLanes accountLanes,
+                                   AccountCallLimiter accountCallLimiter,
+                                   TransactionProperties transactionProperties) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.externalTransferSaga = externalTransferSaga;
+        this.persistenceService = persistenceService;
+        this.settlementBatcher = settlementBatcher;
+        this.accountLanes = accountLanes;
+        this.accountCallLimiter = accountCallLimiter;
+        this.transferSettings = transactionProperties.getTransfer();
+        this.settleInFiles = transactionProperties.getTransfer().getExternalMode() == ExternalTransferMode.SETTLEMENT;
+        this.permits = new Semaphore(transactionProperties.getTransfer().getExternalConcurrency());
+    }
+
+    public void submit(Transaction savedTransaction) {
+        virtualThreadExecutor.execute(() -> dispatch(savedTransaction));
+    }
+
+    // A full lane is waited out on this virtual thread, backing off between tries
+    private void dispatch(Transaction savedTransaction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                accountLanes.run(savedTransaction.getSourceAccountId(), () -> {
+                    process(savedTransaction);
+                    return null;
+                });
+                return;
+            } catch (AccountBusyException e) {
+                if (attempt >= transferSettings.getLaneRetryAttempts()) {
+                    // Stays PENDING, saga recovery fails it once stale; nothing was applied yet
+                    log.warn("[EXTERNAL-PIPELINE] Lane still full after {} attempts, transaction {} left to recovery",
+                            attempt, savedTransaction.getTransactionId());
+                    return;
+                }
+                log.debug("[EXTERNAL-PIPELINE] Lane full, retrying transaction {} (attempt {})",
+                        savedTransaction.getTransactionId(), attempt);
+                if (!pause(laneBackoff(attempt))) {
+                    log.warn("[EXTERNAL-PIPELINE] Interrupted waiting for the lane, transaction {} left to recovery",
+                            savedTransaction.getTransactionId());
+                    return;
+                }
+            }
+        }
+    }
+
+    private void process(Transaction savedTransaction) {
+        permits.acquireUninterruptibly();
+        try {
+            if (!awaitWriteSlot()) {
+                log.warn("[EXTERNAL-PIPELINE] Interrupted waiting for account-service, transaction {} left to recovery",
+                        savedTransaction.getTransactionId());
+                return;
+            }
+            if (!persistenceService.claimForDispatch(savedTransaction)) {
+                log.warn("[EXTERNAL-PIPELINE] Transaction {} is no longer PENDING or was claimed by recovery, skipping",
+                        savedTransaction.getTransactionId());
+                return;
+            }
+            if (settleInFiles) {
+                externalTransferSaga.reserveForSettlement(savedTransaction);
+                settlementBatcher.enqueue(savedTransaction);
+                log.debug("[EXTERNAL-PIPELINE] External transfer debited, queued for settlement: {}",
+                        savedTransaction.getTransactionId());
+                return;
+            }
+            externalTransferSaga.execute(savedTransaction);
+            log.info("[EXTERNAL-PIPELINE] External transfer settled: {}", savedTransaction.getTransactionId());
+        } catch (Exception e) {
+            // Compensated and FAILED by the saga, or left PENDING for recovery when the outcome is unknown
+            log.warn("[EXTERNAL-PIPELINE] External transfer {} failed: {}",
+                    savedTransaction.getTransactionId(), e.getMessage());
+        } finally {
+            accountCallLimiter.releaseReservedWrite();
+            permits.release();
+        }
+    }
+
+    private boolean awaitWriteSlot() {
+        while (true) {
+            try {
+                accountCallLimiter.reserveWrite();
+                return true;
+            } catch (AccountServiceBusyException e) {
+                if (!pause(WRITE_SLOT_POLL)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    // Exponential backoff with equal jitter, so transfers turned away by one hot account do not come back together
+    private Duration laneBackoff(int attempt) {
+        long base = transferSettings.getLaneRetryBaseBackoff().toMillis();
+        long capped = Math.min(transferSettings.getLaneRetryMaxBackoff().toMillis(), base << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private static boolean pause(Duration delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.commonlibrary.exception.ResourceNotFoundException;
+import com.jk.finice.commonlibrary.exception.UnauthorizedException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.dto.client.DebitRequest;
+import com.jk.finice.transactionservice.dto.client.HoldRequest;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.exception.TransactionFailedException;
+import com.jk.finice.transactionservice.externalGateway.ExternalPaymentGateway;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import com.jk.finice.transactionservice.service.component.SagaMetrics.Flow;
+import com.jk.finice.transactionservice.service.component.SagaMetrics.Stage;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Money movement of an external transfer: hold -> debit -> payment network.
+ * Shared by the synchronous request path, {@link ExternalPaymentPipeline} and settlement
+ * file reconciliation.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ExternalTransferSaga {
+
+    private final AccountServiceClient accountServiceClient;
+    private final ExternalPaymentGateway externalPaymentGateway;
+    private final TransactionPersistenceService persistenceService;
+    private final SagaJournalService sagaJournalService;
+    private final TransferCompensator transferCompensator;
+    private final SagaMetrics sagaMetrics;
+
+    /**
+     * Completes the PENDING transaction, or compensates, marks it FAILED and throws.
+     * If a step timed out and account-service cannot tell what it applied, it throws and leaves
+     * the transfer PENDING for {@link SagaRecoveryWorker}.
+     */
+    public void execute(Transaction savedTransaction) {
+        Progress progress = new Progress();
+        SagaMetrics.Saga saga = sagaMetrics.startSaga(Flow.EXTERNAL);
+
+        try {
+            holdAndDebit(savedTransaction, progress);
+
+            ExternalPaymentGateway.ExternalPaymentResult networkResult = sagaMetrics.time(Stage.EXTERNAL_GATEWAY,
+                    () -> externalPaymentGateway.sendPayment(
+                            ExternalPaymentGateway.ExternalPaymentRequest.builder()
+                                    .receiverIban(savedTransaction.getReceiverIban())
+                                    .build()
+                    ));
+            if (!networkResult.isSuccess()) {
+                throw new TransactionFailedException("External payment failed: " + networkResult.getMessage());
+            }
+
+            completeSettled(savedTransaction, networkResult.getNetworkReference());
+            saga.complete();
+        } catch (Exception e) {
+            throw failAndRethrow(savedTransaction, progress, e);
+        } finally {
+            saga.end();
+        }
+    }
+
+    /**
+     * First half of a file-settled transfer: hold and debit, the network leg goes out
+     * later in a settlement file. Compensates, marks FAILED and throws if the debit does not go through.
+     */
+    public void reserveForSettlement(Transaction savedTransaction) {
+        Progress progress = new Progress();
+        SagaMetrics.Saga saga = sagaMetrics.startSaga(Flow.SETTLEMENT_RESERVE);
+
+        try {
+            holdAndDebit(savedTransaction, progress);
+            saga.complete();
+        } catch (Exception e) {
+            throw failAndRethrow(savedTransaction, progress, e);
+        } finally {
+            saga.end();
+        }
+    }
+
+    /**
+     * Network accepted the payment, journal it and close the transfer
+     */
+    public void completeSettled(Transaction savedTransaction, String networkReference) {
+        sagaJournalService.record(savedTransaction.getTransactionId(), SagaStepType.PAYMENT_SENT, networkReference);
+
+        savedTransaction.setNetworkReference(networkReference);
+        sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markComplete(savedTransaction));
+    }
+
+    /**
+     * Network rejected a debited payment, give the money back and mark it FAILED
+     */
+    public void rejectSettled(Transaction savedTransaction, String reason) {
+        log.warn("[TRANSACTION-SERVICE] External payment rejected for transaction ID: {} ({})",
+                savedTransaction.getTransactionId(), reason);
+        transferCompensator.compensate(savedTransaction, true, true, false);
+        sagaMetrics.time(Stage.PERSIST_RESULT,
+                () -> persistenceService.markFailed(savedTransaction, "External payment failed: " + reason));
+    }
+
+    private void holdAndDebit(Transaction savedTransaction, Progress progress) {
+        String transactionId = savedTransaction.getTransactionId();
+
+        sagaMetrics.time(Stage.HOLD, () -> accountServiceClient.placeHold(
+                savedTransaction.getSourceAccountId(),
+                new HoldRequest(savedTransaction.getAmount(), transactionId)
+        ));
+        progress.holdPlaced = true;
+        sagaJournalService.record(transactionId, SagaStepType.HOLD_PLACED);
+
+        sagaMetrics.time(Stage.DEBIT, () -> accountServiceClient.debitAccount(
+                savedTransaction.getSourceAccountId(),
+                new DebitRequest(savedTransaction.getAmount(), transactionId)
+        ));
+        progress.debitExecuted = true;
+        sagaJournalService.record(transactionId, SagaStepType.DEBIT_EXECUTED);
+    }
+
+    private RuntimeException failAndRethrow(Transaction savedTransaction, Progress progress, Exception e) {
+        log.error("[TRANSACTION-SERVICE] External transfer failed for transaction ID: {}",
+                savedTransaction.getTransactionId(), e);
+        TransferCompensator.Outcome outcome =
+                transferCompensator.compensateAfter(e, savedTransaction, progress.holdPlaced, progress.debitExecuted, false);
+        if (outcome == TransferCompensator.Outcome.UNKNOWN) {
+            // Stays PENDING, recovery reads the ledger and rolls back whatever was applied
+            return new TransactionFailedException("External transfer failed, rollback pending: " + e.getMessage(), e);
+        }
+        sagaMetrics.time(Stage.PERSIST_RESULT, () -> persistenceService.markFailed(savedTransaction, e.getMessage()));
+
+        if (e instanceof ValidationException ||
+                e instanceof UnauthorizedException ||
+                e instanceof ResourceNotFoundException ||
+                e instanceof TransactionFailedException){
+            return (RuntimeException) e;
+        }
+        return new TransactionFailedException("External transfer failed: " + e.getMessage(), e);
+    }
+
+    private static class Progress {
+        private boolean holdPlaced;
+        private boolean debitExecuted;
+    }
+}
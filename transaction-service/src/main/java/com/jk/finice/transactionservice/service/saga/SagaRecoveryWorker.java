@@ -0,0 +1,186 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.client.CreditRequest;
+import com.jk.finice.transactionservice.dto.client.TransactionMovementsClientResponse;
+import com.jk.finice.transactionservice.entity.SagaStep;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.service.component.PacingRateLimiter;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import com.jk.finice.transactionservice.service.settlement.SettlementReconciler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.jk.finice.transactionservice.enums.SagaStepType.*;
+
+/**
+ * Finishes transfer sagas whose owning instance died mid-flight.
+ * <p>
+ * Claims PENDING transfers that have not been touched for {@code stale-after} in chunks of
+ * {@code batch-size} (SKIP LOCKED plus an updated_at lease, so replicas never share a row).
+ * For each one it asks account-service which holds, debits and credits were really applied
+ * and either rolls the transfer forward or compensates what is left. The local journal only
+ * decides the network leg of external transfers, which account-service cannot see.
+ * <p>
+ * Ledger lookups are paced to {@code ledger-calls-per-second} so a large backlog after an
+ * outage drains without flooding account-service.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "transaction.saga.recovery", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SagaRecoveryWorker {
+
+    private final TransactionProperties transactionProperties;
+    private final TransactionPersistenceService persistenceService;
+    private final SagaJournalService sagaJournalService;
+    private final TransferCompensator transferCompensator;
+    private final AccountServiceClient accountServiceClient;
+    private final SettlementReconciler settlementReconciler;
+    private final PacingRateLimiter ledgerRateLimiter;
+
+    public SagaRecoveryWorker(TransactionProperties transactionProperties,
+                              TransactionPersistenceService persistenceService,
+                              SagaJournalService sagaJournalService,
+                              TransferCompensator transferCompensator,
+                              AccountServiceClient accountServiceClient,
+                              SettlementReconciler settlementReconciler) {
+        this.transactionProperties = transactionProperties;
+        this.persistenceService = persistenceService;
+        this.sagaJournalService = sagaJournalService;
+        this.transferCompensator = transferCompensator;
+        this.accountServiceClient = accountServiceClient;
+        this.settlementReconciler = settlementReconciler;
+        this.ledgerRateLimiter = new PacingRateLimiter(
+                transactionProperties.getSaga().getRecovery().getLedgerCallsPerSecond());
+    }
+
+    // First run shortly after startup picks up whatever the previous pod left behind
+    @Scheduled(initialDelayString = "${transaction.saga.recovery.initial-delay:PT15S}",
+            fixedDelayString = "${transaction.saga.recovery.interval:PT1M}")
+    public void recoverStaleSagas() {
+        TransactionProperties.Recovery recovery = transactionProperties.getSaga().getRecovery();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(recovery.getStaleAfter());
+
+        int recovered = 0;
+        for (int chunk = 0; chunk < recovery.getMaxChunksPerSweep(); chunk++) {
+            // Claimed rows leave the stale window, so the next chunk simply continues the index scan
+            List<Transaction> claimed = persistenceService.claimStalePendingTransfers(staleBefore, recovery.getBatchSize());
+            if (claimed.isEmpty()) {
+                break;
+            }
+            log.warn("[SAGA-RECOVERY] Claimed {} stale PENDING transfers", claimed.size());
+
+            for (Transaction transaction : claimed) {
+                try {
+                    recover(transaction);
+                    recovered++;
+                } catch (Exception e) {
+                    // Row keeps its lease, it becomes eligible again after stale-after
+                    log.error("[SAGA-RECOVERY] Recovery failed for transaction: {}",
+                            transaction.getTransactionId(), e);
+                }
+            }
+            if (claimed.size() < recovery.getBatchSize()) {
+                break;
+            }
+        }
+        if (recovered > 0) {
+            log.info("[SAGA-RECOVERY] Sweep finished, {} transfer(s) recovered", recovered);
+        }
+    }
+
+    private void recover(Transaction transaction) {
+        String transactionId = transaction.getTransactionId();
+        Map<SagaStepType, SagaStep> steps = sagaJournalService.loadSteps(transactionId);
+
+        if (steps.containsKey(COMPENSATED)) {
+            persistenceService.markFailed(transaction, "Compensated, finalized by recovery");
+            return;
+        }
+
+        ledgerRateLimiter.acquire();
+        TransactionMovementsClientResponse movements = accountServiceClient.getTransactionMovements(transactionId);
+        AccountLedgerState ledger = movements.getMovements() == null || movements.getMovements().isEmpty()
+                ? AccountLedgerState.fromJournal(steps)
+                : AccountLedgerState.of(movements);
+        log.info("[SAGA-RECOVERY] Recovering transaction: {} with journaled steps: {} and ledger state: {}",
+                transactionId, steps.keySet(), ledger);
+
+        if (transaction.getTransferScope() == TransferScope.EXTERNAL) {
+            recoverExternal(transaction, steps, ledger);
+        } else {
+            recoverInternal(transaction, ledger);
+        }
+    }
+
+    private void recoverInternal(Transaction transaction, AccountLedgerState ledger) {
+        if (ledger.reversalStarted()) {
+            // Someone already began rolling back, finish that instead of moving forward
+            compensateAndFail(transaction, ledger);
+            return;
+        }
+
+        if (ledger.credited()) {
+            persistenceService.markComplete(transaction);
+            return;
+        }
+
+        if (ledger.debited()) {
+            // Sender already paid, finish what the customer asked for
+            try {
+                accountServiceClient.creditAccount(
+                        transaction.getDestinationAccountId(),
+                        new CreditRequest(transaction.getAmount(), transaction.getTransactionId())
+                );
+                sagaJournalService.record(transaction.getTransactionId(), CREDIT_EXECUTED);
+                persistenceService.markComplete(transaction);
+            } catch (Exception e) {
+                log.error("[SAGA-RECOVERY] Resume credit failed for: {}, compensating",
+                        transaction.getTransactionId(), e);
+                compensateAndFail(transaction, ledger);
+            }
+            return;
+        }
+
+        compensateAndFail(transaction, ledger);
+    }
+
+    private void recoverExternal(Transaction transaction, Map<SagaStepType, SagaStep> steps, AccountLedgerState ledger) {
+        SagaStep paymentSent = steps.get(PAYMENT_SENT);
+        if (paymentSent != null) {
+            transaction.setNetworkReference(paymentSent.getDetail());
+            persistenceService.markComplete(transaction);
+            return;
+        }
+
+        SagaStep settlementSubmitted = steps.get(SETTLEMENT_SUBMITTED);
+        if (settlementSubmitted != null) {
+            // The file may have reached the network, only its report can settle this one
+            if (!settlementReconciler.reconcile(transaction, settlementSubmitted.getDetail())) {
+                log.warn("[SAGA-RECOVERY] No settlement report yet for: {} in file {}, retrying later",
+                        transaction.getTransactionId(), settlementSubmitted.getDetail());
+            }
+            return;
+        }
+
+        // Never re-send to the network blindly, we cannot tell whether the first attempt landed
+        compensateAndFail(transaction, ledger);
+    }
+
+    private void compensateAndFail(Transaction transaction, AccountLedgerState ledger) {
+        // Anything that fails inline lands in the compensation queue, so the transfer can be closed now.
+        // Replayed reversals are no-ops on account-service, its ledger is keyed by transaction ID.
+        transferCompensator.compensate(transaction, ledger.holdOutstanding(), ledger.debited(), ledger.credited());
+        persistenceService.markFailed(transaction, "Interrupted transfer rolled back by recovery");
+    }
+}
@@ -0,0 +1,158 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.commonlibrary.exception.InternalServerException;
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.dto.client.CreditRequest;
+import com.jk.finice.transactionservice.dto.client.DebitRequest;
+import com.jk.finice.transactionservice.dto.client.HoldRequest;
+import com.jk.finice.transactionservice.entity.CompensationTask;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.CompensationAction;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import com.jk.finice.transactionservice.service.persistence.CompensationQueueService;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Undoes the account-service side effects of a transfer saga.
+ * Shared by the request path and the recovery worker.
+ * <p>
+ * Reversals are tried once inline; whatever fails is handed to the durable
+ * compensation queue and retried in the background by {@link CompensationRetryWorker}.
+ * <p>
+ * After a failed step whose outcome is unknown (timeout, IO error, 5xx) the caller's progress
+ * flags cannot be trusted, {@link #compensateAfter} then goes by account-service's movement ledger.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TransferCompensator {
+
+    private final AccountServiceClient accountServiceClient;
+    private final SagaJournalService sagaJournalService;
+    private final CompensationQueueService compensationQueueService;
+    private final SagaMetrics sagaMetrics;
+
+    /**
+     * @return true if every required reversal went through inline,
+     * false if some of them were queued for retry
+     */
+    public boolean compensate(Transaction transaction, boolean holdPlaced,
+                              boolean debitExecuted, boolean creditExecuted) {
+        List<CompensationTask> plan = plan(transaction, holdPlaced, debitExecuted, creditExecuted);
+        if (plan.isEmpty()) {
+            return true;
+        }
+        return sagaMetrics.time(SagaMetrics.Stage.COMPENSATION, () -> applyInline(transaction, plan));
+    }
+
+    /**
+     * What {@link #compensateAfter} found on account-service
+     */
+    public enum Outcome {
+        COMPENSATED, // everything that was applied is undone (or queued for it)
+        APPLIED,     // the whole transfer went through after all, nothing was undone
+        UNKNOWN      // the ledger could not be read either, leave the transfer PENDING for recovery
+    }
+
+    /**
+     * Compensates a saga that stopped on {@code failure}. A rejected call (4xx) or one the bulkhead
+     * never sent changed nothing, so the flags are exact. Any other Feign failure may have committed
+     * on account-service after all, then its movement ledger decides what to undo.
+     */
+    public Outcome compensateAfter(Exception failure, Transaction transaction, boolean holdPlaced,
+                                   boolean debitExecuted, boolean creditExecuted) {
+        if (!isAmbiguous(failure)) {
+            compensate(transaction, holdPlaced, debitExecuted, creditExecuted);
+            return Outcome.COMPENSATED;
+        }
+
+        AccountLedgerState ledger;
+        try {
+            ledger = AccountLedgerState.of(accountServiceClient.getTransactionMovements(transaction.getTransactionId()));
+        } catch (Exception e) {
+            log.warn("[TRANSFER-COMPENSATOR] Outcome of transaction {} unknown and its ledger is unreadable ({}), left to recovery",
+                    transaction.getTransactionId(), e.getMessage());
+            return Outcome.UNKNOWN;
+        }
+        log.info("[TRANSFER-COMPENSATOR] Outcome of transaction {} unknown, ledger state: {}",
+                transaction.getTransactionId(), ledger);
+
+        if (ledger.credited() && !ledger.reversalStarted()) {
+            return Outcome.APPLIED;
+        }
+        compensate(transaction, ledger.holdOutstanding(), ledger.debited(), ledger.credited());
+        return Outcome.COMPENSATED;
+    }
+
+    /**
+     * Single reversal call against account-service, throws on failure
+     */
+    public void apply(CompensationTask task) {
+        switch (task.getAction()) {
+            case RELEASE_HOLD -> accountServiceClient.releaseHold(task.getAccountId(),
+                    new HoldRequest(task.getAmount(), task.getTransactionId()));
+            case REVERSE_DEBIT -> accountServiceClient.reverseDebit(task.getAccountId(),
+                    new DebitRequest(task.getAmount(), task.getTransactionId()));
+            case REVERSE_CREDIT -> accountServiceClient.reverseCredit(task.getAccountId(),
+                    new CreditRequest(task.getAmount(), task.getTransactionId()));
+        }
+    }
+
+    private boolean applyInline(Transaction transaction, List<CompensationTask> plan) {
+        for (int i = 0; i < plan.size(); i++) {
+            try {
+                apply(plan.get(i));
+                sagaMetrics.countCompensation(plan.get(i).getAction(), "applied");
+            } catch (Exception ex) {
+                log.error("[TRANSFER-COMPENSATOR] Compensation failed for: {}, queueing for retry",
+                        transaction.getTransactionId(), ex);
+                List<CompensationTask> remaining = new ArrayList<>(plan.subList(i, plan.size()));
+                compensationQueueService.enqueue(remaining, ex.getMessage());
+                remaining.forEach(task -> sagaMetrics.countCompensation(task.getAction(), "queued"));
+                return false;
+            }
+        }
+
+        sagaJournalService.record(transaction.getTransactionId(), SagaStepType.COMPENSATED);
+        return true;
+    }
+
+    // Timeout, connection error or 5xx: the request may have reached account-service and committed
+    private static boolean isAmbiguous(Exception failure) {
+        return failure instanceof FeignException || failure instanceof InternalServerException;
+    }
+
+    private List<CompensationTask> plan(Transaction transaction, boolean holdPlaced,
+                                        boolean debitExecuted, boolean creditExecuted) {
+        List<CompensationTask> plan = new ArrayList<>(2);
+
+        if (holdPlaced && !debitExecuted) {
+            plan.add(task(transaction, CompensationAction.RELEASE_HOLD, transaction.getSourceAccountId()));
+
+        } else if (debitExecuted && !creditExecuted) {
+            plan.add(task(transaction, CompensationAction.REVERSE_DEBIT, transaction.getSourceAccountId()));
+
+        } else if (debitExecuted && creditExecuted) {
+            plan.add(task(transaction, CompensationAction.REVERSE_CREDIT, transaction.getDestinationAccountId()));
+            plan.add(task(transaction, CompensationAction.REVERSE_DEBIT, transaction.getSourceAccountId()));
+        }
+        return plan;
+    }
+
+    private CompensationTask task(Transaction transaction, CompensationAction action, Long accountId) {
+        return CompensationTask.builder()
+                .transactionId(transaction.getTransactionId())
+                .accountId(accountId)
+                .action(action)
+                .amount(transaction.getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.jk.finice.transactionservice.service.schedule;
+
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Recurrence math for standing orders.
+ * <p>
+ * Occurrence dates are always derived from the start date (start + n months, not
+ * previous + 1 month), so a schedule started on the 31st keeps coming back to month end
+ * instead of drifting to the 28th after February.
+ * <p>
+ * Run times are spread over the execution window by schedule ID, so thousands of
+ * "pay on the 1st" orders don't all fire in the same second.
+ */
+public final class ScheduleCalendar {
+
+    private ScheduleCalendar() {
+        // utility class
+    }
+
+    public static LocalDate occurrenceDate(ScheduledTransfer schedule, int occurrence) {
+        LocalDate start = schedule.getStartDate();
+        return switch (schedule.getFrequency()) {
+            case ONCE -> start;
+            case DAILY -> start.plusDays(occurrence);
+            case WEEKLY -> start.plusWeeks(occurrence);
+            case MONTHLY -> start.plusMonths(occurrence);
+        };
+    }
+
+    /**
+     * True when the schedule has a run with this index at all
+     */
+    public static boolean hasOccurrence(ScheduledTransfer schedule, int occurrence) {
+        if (schedule.getFrequency() == ScheduleFrequency.ONCE) {
+            return occurrence == 0;
+        }
+        if (schedule.getMaxOccurrences() != null && occurrence >= schedule.getMaxOccurrences()) {
+            return false;
+        }
+        return schedule.getEndDate() == null || !occurrenceDate(schedule, occurrence).isAfter(schedule.getEndDate());
+    }
+
+    public static LocalDateTime runAt(ScheduledTransfer schedule, int occurrence, LocalTime windowStart, Duration window) {
+        long windowSeconds = Math.max(1, window.toSeconds());
+        long offset = Math.floorMod(schedule.getScheduleId().hashCode(), windowSeconds);
+        return occurrenceDate(schedule, occurrence).atTime(windowStart).plusSeconds(offset);
+    }
+}
@@ -0,0 +1,111 @@
+package com.jk.finice.transactionservice.service.schedule;
+
+import com.jk.finice.commonlibrary.dto.PaginatedResponse;
+import com.jk.finice.commonlibrary.exception.ResourceNotFoundException;
+import com.jk.finice.commonlibrary.exception.UnauthorizedException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.request.ScheduledTransferRequest;
+import com.jk.finice.transactionservice.dto.response.ScheduledTransferResponse;
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import com.jk.finice.transactionservice.enums.ScheduleStatus;
+import com.jk.finice.transactionservice.mapper.PaginationMapper;
+import com.jk.finice.transactionservice.mapper.ScheduledTransferMapper;
+import com.jk.finice.transactionservice.service.component.AccountMetadataCache;
+import com.jk.finice.transactionservice.service.component.PublicIdGenerator;
+import com.jk.finice.transactionservice.service.component.TransferInstructionValidator;
+import com.jk.finice.transactionservice.service.persistence.ScheduledTransferPersistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static com.jk.finice.commonlibrary.constants.AppConstants.MAX_PAGE_SIZE;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduledTransferService {
+
+    private final ScheduledTransferPersistenceService schedulePersistenceService;
+    private final AccountMetadataCache accountMetadataCache;
+    private final TransferInstructionValidator transferInstructionValidator;
+    private final TransactionProperties transactionProperties;
+    private final PublicIdGenerator publicIdGenerator;
+
+    public ScheduledTransferResponse createSchedule(ScheduledTransferRequest request, Long userId) {
+        validateRequest(request);
+
+        if (!Objects.equals(accountMetadataCache.getOwner(request.getSourceAccountId()), userId)) {
+            log.error("[SCHEDULE-SERVICE] Unauthorized schedule on account ID: {} by user ID: {}",
+                    request.getSourceAccountId(), userId);
+            throw new UnauthorizedException("Unauthorized access attempt");
+        }
+
+        ScheduledTransfer schedule = ScheduledTransferMapper.toEntity(request, publicIdGenerator.nextScheduleId(), userId);
+        TransactionProperties.Schedule config = transactionProperties.getSchedule();
+        schedule.setNextRunAt(ScheduleCalendar.runAt(schedule, 0, config.getWindowStart(), config.getWindow()));
+
+        ScheduledTransfer saved = schedulePersistenceService.save(schedule);
+        log.info("[SCHEDULE-SERVICE] Schedule {} created for user ID: {}, first run at {}",
+                saved.getScheduleId(), userId, saved.getNextRunAt());
+        return ScheduledTransferMapper.toResponse(saved);
+    }
+
+    public ScheduledTransferResponse getSchedule(String scheduleId, Long userId) {
+        return ScheduledTransferMapper.toResponse(findSchedule(scheduleId, userId));
+    }
+
+    public PaginatedResponse<ScheduledTransferResponse> getSchedules(Long userId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return PaginationMapper.fromPage(
+                schedulePersistenceService.findSchedules(userId, pageRequest)
+                        .map(ScheduledTransferMapper::toResponse)
+        );
+    }
+
+    // A run already in flight finishes, but the schedule won't advance past it
+    public ScheduledTransferResponse cancelSchedule(String scheduleId, Long userId) {
+        ScheduledTransfer schedule = findSchedule(scheduleId, userId);
+        if (schedule.getStatus() != ScheduleStatus.ACTIVE || !schedulePersistenceService.cancel(schedule)) {
+            throw new ValidationException("Only active schedules can be cancelled");
+        }
+        log.info("[SCHEDULE-SERVICE] Schedule {} cancelled by user ID: {}", scheduleId, userId);
+        return ScheduledTransferMapper.toResponse(findSchedule(scheduleId, userId));
+    }
+
+    // =====================================================
+    //                     HELPER METHODS
+    // =====================================================
+
+    private ScheduledTransfer findSchedule(String scheduleId, Long userId) {
+        return schedulePersistenceService.findSchedule(scheduleId, userId)
+                .orElseThrow(() -> {
+                    log.error("[SCHEDULE-SERVICE] Failed to find schedule with ID: {} for User ID: {}", scheduleId, userId);
+                    return new ResourceNotFoundException("Schedule not found");
+                });
+    }
+
+    private void validateRequest(ScheduledTransferRequest request) {
+        String error = transferInstructionValidator.validate(
+                request.getTransferScope(), request.getSourceAccountId(), request.getDestinationAccountId(),
+                request.getReceiverIban(), request.getReceiverName(), request.getDescription()
+        );
+        if (error != null) {
+            throw new ValidationException(error);
+        }
+
+        if (request.getStartDate().isBefore(LocalDate.now())) {
+            throw new ValidationException("Start date cannot be in the past");
+        }
+        if (request.getFrequency() != ScheduleFrequency.ONCE
+                && request.getEndDate() != null
+                && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new ValidationException("End date cannot be before start date");
+        }
+    }
+}
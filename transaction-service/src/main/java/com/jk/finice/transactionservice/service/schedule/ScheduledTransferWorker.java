@@ -0,0 +1,130 @@
+package com.jk.finice.transactionservice.service.schedule;
+
+import com.jk.finice.commonlibrary.exception.AccountClosedException;
+import com.jk.finice.commonlibrary.exception.ResourceNotFoundException;
+import com.jk.finice.commonlibrary.exception.UnauthorizedException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.mapper.ScheduledTransferMapper;
+import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.persistence.ScheduledTransferPersistenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fires due standing orders.
+ * <p>
+ * The partial index on next_run_at is the due-time queue: each sweep reads at most
+ * {@code batch-size} of the earliest due schedules, leases them and runs up to
+ * {@code max-concurrency} transfers at once on virtual threads.
+ * <p>
+ * A run is executed first and advanced afterwards, with idempotency key
+ * {@code <scheduleId>-<occurrence>}. If the instance dies in between, the lease expires
+ * and the next sweep replays the same key, getting the original result back instead
+ * of moving money twice. Only a business rejection (insufficient funds, limit, closed
+ * account) skips an occurrence; busy or failing dependencies just postpone it the same way.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transaction.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledTransferWorker {
+
+    private final ExecutorService virtualThreadExecutor;
+    private final TransactionProperties transactionProperties;
+    private final ScheduledTransferPersistenceService schedulePersistenceService;
+    private final TransactionService transactionService;
+
+    @Scheduled(fixedDelayString = "${transaction.schedule.interval:PT15S}")
+    public void runDueSchedules() {
+        TransactionProperties.Schedule config = transactionProperties.getSchedule();
+        List<ScheduledTransfer> due = schedulePersistenceService.findDue(config.getBatchSize());
+        if (due.isEmpty()) {
+            return;
+        }
+        log.info("[SCHEDULE-WORKER] {} scheduled transfer(s) due", due.size());
+
+        Semaphore permits = new Semaphore(config.getMaxConcurrency());
+        CompletableFuture<?>[] runs = due.stream()
+                .map(schedule -> CompletableFuture.runAsync(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        run(schedule);
+                    } finally {
+                        permits.release();
+                    }
+                }, virtualThreadExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(runs).join();
+    }
+
+    private void run(ScheduledTransfer schedule) {
+        TransactionProperties.Schedule config = transactionProperties.getSchedule();
+        if (!schedulePersistenceService.claim(schedule, config.getLease())) {
+            return; // leased by another instance or cancelled meanwhile
+        }
+
+        int occurrence = schedule.getOccurrence();
+        String idempotencyKey = schedule.getScheduleId() + "-" + occurrence;
+
+        String transactionId = null;
+        TransactionStatus transactionStatus;
+        String failureReason = null;
+        try {
+            TransferResponse response = schedule.getTransferScope() == TransferScope.INTERNAL
+                    ? transactionService.internalTransfer(
+                            ScheduledTransferMapper.toInternalRequest(schedule), schedule.getCreatedBy(), idempotencyKey,
+                            TransferOrigin.SCHEDULE)
+                    : transactionService.externalTransfer(
+                            ScheduledTransferMapper.toExternalRequest(schedule), schedule.getCreatedBy(), idempotencyKey,
+                            TransferOrigin.SCHEDULE);
+
+            if (response.getTransactionStatus().isInFlight()) {
+                // Still settling (e.g. under saga recovery or review), keep the lease and replay the key later
+                log.info("[SCHEDULE-WORKER] Run {} of schedule {} still pending", occurrence, schedule.getScheduleId());
+                return;
+            }
+            transactionId = response.getTransactionId();
+            transactionStatus = response.getTransactionStatus();
+            failureReason = response.getFailureReason();
+        } catch (AccountBusyException | AccountServiceBusyException e) {
+            // Lane full or load shed, the lease runs out and a later sweep retries the run under the same key
+            log.warn("[SCHEDULE-WORKER] Account at capacity, run {} of schedule {} postponed: {}",
+                    occurrence, schedule.getScheduleId(), e.getMessage());
+            return;
+        } catch (ValidationException | AccountClosedException | UnauthorizedException | ResourceNotFoundException e) {
+            // Rejected run is recorded and skipped, like a bank skipping a standing order on insufficient funds
+            log.warn("[SCHEDULE-WORKER] Run {} of schedule {} rejected: {}",
+                    occurrence, schedule.getScheduleId(), e.getMessage());
+            transactionStatus = TransactionStatus.FAILED;
+            failureReason = e.getMessage();
+        } catch (Exception e) {
+            // Timeout, account-service down, 5xx: not the customer's doing, retry the run under the same key
+            log.warn("[SCHEDULE-WORKER] Run {} of schedule {} failed, retrying after the lease: {}",
+                    occurrence, schedule.getScheduleId(), e.getMessage());
+            return;
+        }
+
+        int next = occurrence + 1;
+        LocalDateTime nextRunAt = ScheduleCalendar.hasOccurrence(schedule, next)
+                ? ScheduleCalendar.runAt(schedule, next, config.getWindowStart(), config.getWindow())
+                : null;
+        schedulePersistenceService.advance(schedule, nextRunAt, transactionId, transactionStatus, failureReason);
+    }
+}
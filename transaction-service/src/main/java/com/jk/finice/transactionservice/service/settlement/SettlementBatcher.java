@@ -0,0 +1,161 @@
+package com.jk.finice.transactionservice.service.settlement;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.Instruction;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.SettlementFile;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.SettlementReport;
+import com.jk.finice.transactionservice.service.component.PublicIdGenerator;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import com.jk.finice.transactionservice.service.saga.ExternalTransferSaga;
+import com.jk.finice.transactionservice.service.saga.SagaRecoveryWorker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects debited external transfers and sends them to the network as settlement files.
+ * <p>
+ * A file is cut as soon as {@code max-items} transfers are waiting, otherwise every
+ * {@code max-wait} with whatever has accumulated. Each transfer is journaled as
+ * SETTLEMENT_SUBMITTED with the file's message ID before the file leaves, so if this
+ * instance dies afterwards {@link SagaRecoveryWorker} reconciles it from the network's
+ * report instead of reversing a payment that may have gone out.
+ * <p>
+ * The queue itself is in memory: transfers waiting here when the instance dies have
+ * only been debited and are compensated by recovery.
+ */
+@Component
+@Slf4j
+public class SettlementBatcher {
+
+    private final ExecutorService virtualThreadExecutor;
+    private final SettlementFileWriter settlementFileWriter;
+    private final SettlementGateway settlementGateway;
+    private final SettlementReconciler settlementReconciler;
+    private final ExternalTransferSaga externalTransferSaga;
+    private final SagaJournalService sagaJournalService;
+    private final PublicIdGenerator publicIdGenerator;
+    private final int maxItems;
+
+    private final BlockingQueue<Transaction> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SettlementBatcher(ExecutorService virtualThreadExecutor,
+                             SettlementFileWriter settlementFileWriter,
+                             SettlementGateway settlementGateway,
+                             SettlementReconciler settlementReconciler,
+                             ExternalTransferSaga externalTransferSaga,
+                             SagaJournalService sagaJournalService,
+                             PublicIdGenerator publicIdGenerator,
+                             TransactionProperties transactionProperties) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.settlementFileWriter = settlementFileWriter;
+        this.settlementGateway = settlementGateway;
+        this.settlementReconciler = settlementReconciler;
+        this.externalTransferSaga = externalTransferSaga;
+        this.sagaJournalService = sagaJournalService;
+        this.publicIdGenerator = publicIdGenerator;
+        this.maxItems = transactionProperties.getSettlement().getMaxItems();
+    }
+
+    public void enqueue(Transaction debitedTransaction) {
+        queue.add(debitedTransaction);
+        if (queue.size() >= maxItems && !flushLock.isLocked()) {
+            virtualThreadExecutor.execute(() -> flush(true));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.settlement.max-wait:PT30S}")
+    public void flushDue() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush(false);
+    }
+
+    private void flush(boolean fullFilesOnly) {
+        if (!flushLock.tryLock()) {
+            return; // the running flush re-checks the queue before it stops
+        }
+        try {
+            while (queue.size() >= maxItems || (!fullFilesOnly && !queue.isEmpty())) {
+                List<Transaction> batch = new ArrayList<>(Math.min(queue.size(), maxItems));
+                queue.drainTo(batch, maxItems);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                settle(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void settle(List<Transaction> batch) {
+        String messageId = publicIdGenerator.nextSettlementMessageId();
+        List<Instruction> instructions = batch.stream().map(SettlementBatcher::toInstruction).toList();
+
+        SettlementFile file;
+        try {
+            file = settlementFileWriter.write(messageId, instructions);
+        } catch (Exception e) {
+            // Nothing left this instance, safe to give the money back
+            log.error("[SETTLEMENT-BATCHER] Failed to write settlement file {}, failing {} transfer(s)",
+                    messageId, batch.size(), e);
+            batch.forEach(transaction -> rejectQuietly(transaction, "Settlement file could not be written"));
+            return;
+        }
+
+        batch.forEach(transaction -> sagaJournalService.record(
+                transaction.getTransactionId(), SagaStepType.SETTLEMENT_SUBMITTED, messageId));
+
+        Optional<SettlementReport> report;
+        try {
+            report = settlementGateway.submit(file);
+        } catch (Exception e) {
+            log.error("[SETTLEMENT-BATCHER] Submission of settlement file {} failed, {} transfer(s) left to recovery",
+                    messageId, batch.size(), e);
+            return;
+        }
+        log.info("[SETTLEMENT-BATCHER] Submitted settlement file {} with {} transfer(s)", messageId, batch.size());
+
+        report.ifPresentOrElse(
+                r -> settlementReconciler.apply(r, batch),
+                () -> log.info("[SETTLEMENT-BATCHER] No immediate report for {}, recovery will reconcile it", messageId)
+        );
+    }
+
+    private void rejectQuietly(Transaction transaction, String reason) {
+        try {
+            externalTransferSaga.rejectSettled(transaction, reason);
+        } catch (Exception e) {
+            log.error("[SETTLEMENT-BATCHER] Failed to roll back transaction: {}", transaction.getTransactionId(), e);
+        }
+    }
+
+    private static Instruction toInstruction(Transaction transaction) {
+        return new Instruction(
+                transaction.getTransactionId(),
+                transaction.getSenderIban(),
+                transaction.getReceiverIban(),
+                transaction.getReceiverName(),
+                transaction.getAmount(),
+                transaction.getCurrency().name(),
+                transaction.getDescription()
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package com.jk.finice.transactionservice.service.settlement;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.Instruction;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.SettlementFile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a pain.001.001.03 credit transfer initiation, one payment information block
+ * per debtor IBAN. Output goes through a 64 KiB buffer into {@code <directory>/staging}
+ * and is renamed to its final name once complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pain.001.001.03";
+    private static final DateTimeFormatter CREATION_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final TransactionProperties transactionProperties;
+
+    public SettlementFile write(String messageId, List<Instruction> instructions) throws IOException {
+        Path staging = Path.of(transactionProperties.getSettlement().getDirectory()).resolve("staging");
+        Files.createDirectories(staging);
+        Path partial = staging.resolve(messageId + ".xml.part");
+        Path target = staging.resolve(messageId + ".xml");
+
+        Map<String, List<Instruction>> byDebtor = new LinkedHashMap<>();
+        instructions.forEach(instruction ->
+                byDebtor.computeIfAbsent(instruction.debtorIban(), iban -> new ArrayList<>()).add(instruction));
+
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(partial), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write("<Document xmlns=\"" + NAMESPACE + "\">\n<CstmrCdtTrfInitn>\n");
+
+            out.write("<GrpHdr>");
+            element(out, "MsgId", messageId);
+            element(out, "CreDtTm", LocalDateTime.now().format(CREATION_TIME));
+            element(out, "NbOfTxs", Integer.toString(instructions.size()));
+            element(out, "CtrlSum", controlSum(instructions).toPlainString());
+            out.write("<InitgPty>");
+            element(out, "Nm", transactionProperties.getSettlement().getInitiatorName());
+            out.write("</InitgPty></GrpHdr>\n");
+
+            int block = 0;
+            for (Map.Entry<String, List<Instruction>> debtor : byDebtor.entrySet()) {
+                writePaymentInformation(out, messageId + "-" + (++block), debtor.getKey(), debtor.getValue());
+            }
+
+            out.write("</CstmrCdtTrfInitn>\n</Document>\n");
+        }
+
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new SettlementFile(messageId, target, instructions);
+    }
+
+    private void writePaymentInformation(Writer out, String paymentInfoId, String debtorIban,
+                                         List<Instruction> instructions) throws IOException {
+        out.write("<PmtInf>");
+        element(out, "PmtInfId", paymentInfoId);
+        element(out, "PmtMtd", "TRF");
+        element(out, "NbOfTxs", Integer.toString(instructions.size()));
+        element(out, "CtrlSum", controlSum(instructions).toPlainString());
+        element(out, "ReqdExctnDt", LocalDate.now().toString());
+        out.write("<Dbtr>");
+        element(out, "Nm", transactionProperties.getSettlement().getInitiatorName());
+        out.write("</Dbtr><DbtrAcct><Id>");
+        element(out, "IBAN", debtorIban);
+        out.write("</Id></DbtrAcct>\n");
+
+        for (Instruction instruction : instructions) {
+            out.write("<CdtTrfTxInf><PmtId>");
+            element(out, "EndToEndId", instruction.endToEndId());
+            out.write("</PmtId><Amt><InstdAmt Ccy=\"");
+            out.write(instruction.currency());
+            out.write("\">");
+            out.write(instruction.amount().toPlainString());
+            out.write("</InstdAmt></Amt><Cdtr>");
+            element(out, "Nm", instruction.creditorName());
+            out.write("</Cdtr><CdtrAcct><Id>");
+            element(out, "IBAN", instruction.creditorIban());
+            out.write("</Id></CdtrAcct>");
+            if (instruction.remittanceInfo() != null && !instruction.remittanceInfo().isBlank()) {
+                out.write("<RmtInf>");
+                element(out, "Ustrd", instruction.remittanceInfo());
+                out.write("</RmtInf>");
+            }
+            out.write("</CdtTrfTxInf>\n");
+        }
+        out.write("</PmtInf>\n");
+    }
+
+    private static BigDecimal controlSum(List<Instruction> instructions) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Instruction instruction : instructions) {
+            sum = sum.add(instruction.amount());
+        }
+        return sum;
+    }
+
+    private static void element(Writer out, String name, String value) throws IOException {
+        out.write('<');
+        out.write(name);
+        out.write('>');
+        escape(out, value == null ? "" : value);
+        out.write("</");
+        out.write(name);
+        out.write('>');
+    }
+
+    private static void escape(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.write("&amp;");
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '"' -> out.write("&quot;");
+                case '\'' -> out.write("&apos;");
+                default -> out.write(c);
+            }
+        }
+    }
+}
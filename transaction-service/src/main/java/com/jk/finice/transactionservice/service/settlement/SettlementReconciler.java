@@ -0,0 +1,70 @@
+package com.jk.finice.transactionservice.service.settlement;
+
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.ItemResult;
+import com.jk.finice.transactionservice.externalGateway.SettlementGateway.SettlementReport;
+import com.jk.finice.transactionservice.service.saga.ExternalTransferSaga;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Applies a settlement status report to the transfers of its file: accepted items get
+ * their network reference and complete, rejected ones are compensated and FAILED.
+ * Items the report does not mention stay PENDING.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SettlementReconciler {
+
+    private final SettlementGateway settlementGateway;
+    private final ExternalTransferSaga externalTransferSaga;
+
+    public void apply(SettlementReport report, List<Transaction> transactions) {
+        int accepted = 0;
+        int rejected = 0;
+
+        for (Transaction transaction : transactions) {
+            ItemResult result = report.items().get(transaction.getTransactionId());
+            if (result == null) {
+                log.warn("[SETTLEMENT-RECONCILER] Report {} has no status for transaction: {}, left PENDING",
+                        report.messageId(), transaction.getTransactionId());
+                continue;
+            }
+            try {
+                if (result.accepted()) {
+                    externalTransferSaga.completeSettled(transaction, result.networkReference());
+                    accepted++;
+                } else {
+                    externalTransferSaga.rejectSettled(transaction, result.reason());
+                    rejected++;
+                }
+            } catch (Exception e) {
+                // Journal or status update failed, saga recovery re-reads the report later
+                log.error("[SETTLEMENT-RECONCILER] Failed to reconcile transaction: {} from report {}",
+                        transaction.getTransactionId(), report.messageId(), e);
+            }
+        }
+        log.info("[SETTLEMENT-RECONCILER] Report {} reconciled: {} accepted, {} rejected",
+                report.messageId(), accepted, rejected);
+    }
+
+    /**
+     * Used by saga recovery for a transfer whose file went out but was never reconciled.
+     *
+     * @return false if the network has not reported on this transfer yet
+     */
+    public boolean reconcile(Transaction transaction, String messageId) {
+        Optional<SettlementReport> report = settlementGateway.fetchReport(messageId);
+        if (report.isEmpty() || !report.get().items().containsKey(transaction.getTransactionId())) {
+            return false;
+        }
+        apply(report.get(), List.of(transaction));
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jk.finice.transactionservice.specification;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * PostgreSQL full-text and pg_trgm operators for criteria queries, registered through
+ * META-INF/services. Kept as operators (not their function forms) so the GIN indexes
+ * of V11 can serve them. Each search argument appears once per pattern: pass the
+ * search text again instead of repeating a placeholder.
+ * <p>
+ * The generated {@code search_vector} column is not mapped on the entity (it would be loaded
+ * with every row). The full-text functions take any column of the transactions row instead
+ * and render {@code search_vector} of that same table alias.
+ */
+public class TransactionSearchFunctions implements FunctionContributor {
+
+    static final String FTS_MATCH = "fts_match";
+    static final String FTS_RANK = "fts_rank";
+    static final String TRGM_WORD_MATCH = "trgm_word_match";
+    static final String TRGM_WORD_SIMILARITY = "trgm_word_similarity";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        // (any column of the row, text): every word of the web-style query is in the row's search_vector
+        registry.register(FTS_MATCH, new SearchVectorFunction(FTS_MATCH, "(", " @@ ", ")", booleanType));
+        registry.register(FTS_RANK, new SearchVectorFunction(FTS_RANK, "ts_rank(", ", ", ")", doubleType));
+
+        // (text, column): the text is close to some run of words of the column (typos, partial words)
+        registry.registerPattern(TRGM_WORD_MATCH, "(?1 <% ?2)", booleanType);
+        registry.registerPattern(TRGM_WORD_SIMILARITY, "word_similarity(?1, ?2)", doubleType);
+    }
+
+    // prefix + alias.search_vector + operator + websearch_to_tsquery('simple', text) + suffix
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private static final String SEARCH_VECTOR = "search_vector";
+
+        private final String prefix;
+        private final String operator;
+        private final String suffix;
+
+        SearchVectorFunction(String name, String prefix, String operator, String suffix, BasicType<?> type) {
+            super(name, StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(type), null);
+            this.prefix = prefix;
+            this.operator = operator;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                           ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            ColumnReference anchor = ((Expression) arguments.get(0)).getColumnReference();
+            if (anchor == null) {
+                throw new IllegalArgumentException(getName() + " expects a column of the transactions row first");
+            }
+            sqlAppender.appendSql(prefix);
+            if (anchor.getQualifier() != null) {
+                sqlAppender.appendSql(anchor.getQualifier());
+                sqlAppender.appendSql('.');
+            }
+            sqlAppender.appendSql(SEARCH_VECTOR);
+            sqlAppender.appendSql(operator);
+            sqlAppender.appendSql("websearch_to_tsquery('simple', ");
+            arguments.get(1).accept(walker);
+            sqlAppender.appendSql(')');
+            sqlAppender.appendSql(suffix);
+        }
+    }
+}
@@ -6,10 +6,15 @@ import com.jk.finice.transactionservice.entity.Transaction;
 import com.jk.finice.transactionservice.enums.TransactionStatus;
 import com.jk.finice.transactionservice.enums.TransactionType;
 import com.jk.finice.transactionservice.enums.TransferScope;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public class TransactionSpecification {
 
@@ -63,6 +68,55 @@ public class TransactionSpecification {
                 max == null ? null : cb.lessThanOrEqualTo(root.get("amount"), max);
     }
 
+    // Payee or memo: all words present (full-text), or close enough to a run of words (trigram, typos).
+    // The full-text functions only use id to find the row's alias, search_vector itself is not mapped
+    public static Specification<Transaction> matchesSearch(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.isBlank()) {
+                return null;
+            }
+            String text = search.trim();
+            return cb.or(
+                    cb.isTrue(cb.function(TransactionSearchFunctions.FTS_MATCH, Boolean.class,
+                            root.get("id"), bound(cb, text))),
+                    cb.isTrue(cb.function(TransactionSearchFunctions.TRGM_WORD_MATCH, Boolean.class,
+                            bound(cb, text), root.get("receiverName"))),
+                    cb.isTrue(cb.function(TransactionSearchFunctions.TRGM_WORD_MATCH, Boolean.class,
+                            bound(cb, text), root.get("description")))
+            );
+        };
+    }
+
+    // Full-text rank plus how closely the text matches payee and memo, higher is better
+    public static Expression<Double> searchRank(Root<Transaction> root, CriteriaBuilder cb, String search) {
+        String text = search.trim();
+        Expression<Double> fullText = cb.function(TransactionSearchFunctions.FTS_RANK, Double.class,
+                root.get("id"), bound(cb, text));
+        Expression<Double> payee = cb.coalesce(cb.function(TransactionSearchFunctions.TRGM_WORD_SIMILARITY, Double.class,
+                bound(cb, text), root.get("receiverName")), 0.0);
+        Expression<Double> memo = cb.coalesce(cb.function(TransactionSearchFunctions.TRGM_WORD_SIMILARITY, Double.class,
+                bound(cb, text), root.get("description")), 0.0);
+        return cb.sum(cb.sum(fullText, payee), memo);
+    }
+
+    // cb.literal would inline the user's text into the SQL, a bound value keeps one statement per query shape
+    private static <T> Expression<T> bound(CriteriaBuilder cb, T value) {
+        return ((HibernateCriteriaBuilder) cb).value(value);
+    }
+
+    // Keyset seek: rows strictly after (createdAt, id) in the requested order, as one row-value
+    // comparison so rows sharing the cursor's createdAt are split by id inside the same index range
+    public static Specification<Transaction> seekAfter(LocalDateTime createdAt, Long id, boolean ascending) {
+        return (root, query, cb) -> {
+            if (createdAt == null) {
+                return null;
+            }
+            String comparison = ascending ? TransactionKeysetFunctions.ROW_AFTER : TransactionKeysetFunctions.ROW_BEFORE;
+            return cb.isTrue(cb.function(comparison, Boolean.class,
+                    root.get("createdAt"), root.get("id"), bound(cb, createdAt), bound(cb, id)));
+        };
+    }
+
     /**
      * Compose all filters together
      * null predicates are automatically ignored by Specification.where()
@@ -77,6 +131,7 @@ public class TransactionSpecification {
                 .and(dateFrom(filter.getDateFrom()))
                 .and(dateTo(filter.getDateTo()))
                 .and(amountMin(filter.getAmountMin()))
-                .and(amountMax(filter.getAmountMax()));
+                .and(amountMax(filter.getAmountMax()))
+                .and(matchesSearch(filter.getSearch()));
     }
 }
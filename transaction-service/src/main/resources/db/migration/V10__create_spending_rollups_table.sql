@@ -0,0 +1,21 @@
+-- Per user, month (of created_at), type, scope and currency totals of finished transactions.
+-- Incremented in the same DB transaction that moves a transaction to COMPLETE or FAILED,
+-- so the spending dashboard reads a handful of rows per month instead of the transactions.
+-- transfer_scope is 'NONE' for deposits and withdrawals (a primary key column cannot be NULL).
+-- Rows outlive archived partitions, a rebuild only touches months still in the live table.
+CREATE TABLE IF NOT EXISTS spending_rollups (
+    created_by BIGINT NOT NULL,
+    month DATE NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    transfer_scope VARCHAR(10) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    completed_amount NUMERIC(21, 2) NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_spending_rollups PRIMARY KEY (created_by, month, transaction_type, transfer_scope, currency),
+    CONSTRAINT chk_spending_rollups_month CHECK (EXTRACT(DAY FROM month) = 1)
+);
+
+-- A rebuild deletes and recomputes whole months across all users
+CREATE INDEX IF NOT EXISTS idx_spending_rollups_month ON spending_rollups (month);
@@ -0,0 +1,16 @@
+-- History search by payee or memo. search_vector holds both columns as words (receiver name
+-- weighted above description) for full-text matches, the trigram indexes catch typos and
+-- partial words. 'simple' config: payee names and memos are not in one language, so no stemming.
+-- All three propagate from the partitioned parent to every monthly partition, archived ones excluded.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE transactions ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(receiver_name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- Combined with idx_created_by through a bitmap AND, so a search only reads the user's matching rows
+CREATE INDEX IF NOT EXISTS idx_transactions_search_vector ON transactions USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_transactions_receiver_name_trgm ON transactions USING GIN (receiver_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_transactions_description_trgm ON transactions USING GIN (description gin_trgm_ops);
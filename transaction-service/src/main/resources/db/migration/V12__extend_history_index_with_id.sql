@@ -0,0 +1,5 @@
+-- History pages seek on (created_at, id) < (?, ?) for one user. With id in the index the
+-- row comparison is a single range scan, ties on created_at included, no sort afterwards.
+-- Built on the parent, so it propagates to every monthly partition like the index it replaces.
+CREATE INDEX IF NOT EXISTS idx_created_by_created_at_id ON transactions(created_by, created_at, id);
+DROP INDEX IF EXISTS idx_created_by_created_at;
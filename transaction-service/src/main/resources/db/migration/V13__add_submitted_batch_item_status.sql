@@ -0,0 +1,9 @@
+-- SUBMITTED: the item's transfer was accepted but is still in flight (async external, review).
+-- It is resolved to COMPLETE or FAILED by the transaction's own finalization, found through
+-- this partial index, so only the few in-flight items are ever indexed.
+ALTER TABLE transfer_batch_items DROP CONSTRAINT IF EXISTS chk_transfer_batch_item_status;
+ALTER TABLE transfer_batch_items ADD CONSTRAINT chk_transfer_batch_item_status
+    CHECK (status IN ('QUEUED', 'SUBMITTED', 'COMPLETE', 'FAILED'));
+
+CREATE INDEX IF NOT EXISTS idx_transfer_batch_items_submitted
+    ON transfer_batch_items(transaction_id) WHERE status = 'SUBMITTED';
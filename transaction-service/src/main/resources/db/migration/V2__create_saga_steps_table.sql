@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS saga_steps (
+    id BIGSERIAL PRIMARY KEY,
+    transaction_id VARCHAR(50) NOT NULL,
+    step VARCHAR(30) NOT NULL,
+    detail VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_saga_step UNIQUE (transaction_id, step),
+    CONSTRAINT chk_saga_step
+        CHECK (step IN ('HOLD_PLACED', 'DEBIT_EXECUTED', 'CREDIT_EXECUTED',
+                        'TRANSFER_EXECUTED', 'PAYMENT_SENT', 'COMPENSATED'))
+);
+
+-- Recovery worker only ever scans PENDING rows, keep the index small
+CREATE INDEX IF NOT EXISTS idx_pending_updated_at ON transactions(updated_at) WHERE status = 'PENDING';
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS compensation_tasks (
+    id BIGSERIAL PRIMARY KEY,
+    transaction_id VARCHAR(50) NOT NULL,
+    account_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_compensation_action
+        CHECK (action IN ('RELEASE_HOLD', 'REVERSE_DEBIT', 'REVERSE_CREDIT')),
+    CONSTRAINT chk_compensation_status
+        CHECK (status IN ('PENDING', 'DONE', 'DEAD'))
+);
+
+-- Head-of-line lookup per account, only open tasks matter
+CREATE INDEX IF NOT EXISTS idx_compensation_pending_account
+    ON compensation_tasks(account_id, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_compensation_transaction_id ON compensation_tasks(transaction_id);
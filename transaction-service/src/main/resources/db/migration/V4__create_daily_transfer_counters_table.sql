@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS daily_transfer_counters (
+    account_id BIGINT NOT NULL,
+    business_date DATE NOT NULL,
+    reserved_amount NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_daily_transfer_counters PRIMARY KEY (account_id, business_date),
+    CONSTRAINT chk_reserved_amount_non_negative CHECK (reserved_amount >= 0)
+);
@@ -0,0 +1,114 @@
+-- Range-partition transactions by created_at (one partition per month).
+-- Postgres only allows UNIQUE constraints on a partitioned table when they include the
+-- partition key, so the globally unique business keys move to transaction_keys and are
+-- registered by trigger; a duplicate idempotency key still fails the insert with 23505.
+
+CREATE SCHEMA IF NOT EXISTS transactions_archive;
+
+CREATE TABLE IF NOT EXISTS transaction_keys (
+    transaction_id VARCHAR(50) NOT NULL,
+    reference VARCHAR(50),
+    idempotency_key VARCHAR(100),
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_transaction_keys PRIMARY KEY (transaction_id),
+    CONSTRAINT uk_transaction_keys_reference UNIQUE (reference),
+    CONSTRAINT uk_transaction_keys_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE TABLE transactions_partitioned (
+    id BIGINT NOT NULL DEFAULT nextval('transactions_id_seq'),
+    transaction_id VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(100),
+    reference VARCHAR(50),
+    network_reference VARCHAR(100),
+    transaction_type VARCHAR(20) NOT NULL,
+    source_account_id BIGINT NOT NULL,
+    destination_account_id BIGINT,
+    sender_iban VARCHAR(34) NOT NULL,
+    receiver_iban VARCHAR(34),
+    receiver_name VARCHAR(100),
+    transfer_scope VARCHAR(10),
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    failure_reason VARCHAR(500),
+    description VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_by BIGINT NOT NULL,
+    CONSTRAINT pk_transactions PRIMARY KEY (id, created_at),
+    CONSTRAINT chk_transaction_type
+        CHECK (transaction_type IN ('DEPOSIT', 'WITHDRAWAL', 'TRANSFER')),
+    CONSTRAINT chk_status
+        CHECK (status IN ('PENDING', 'COMPLETE', 'FAILED', 'CANCELLED')),
+    CONSTRAINT chk_transfer_scope
+        CHECK (transfer_scope IS NULL OR transfer_scope IN ('INTERNAL', 'EXTERNAL')),
+    CONSTRAINT chk_transfer_requires_scope
+        CHECK (
+                transaction_type != 'TRANSFER'
+                OR transfer_scope IN ('INTERNAL', 'EXTERNAL')
+            ),
+    CONSTRAINT chk_currency
+        CHECK (currency IN ('USD', 'EUR', 'GBP', 'JPY', 'INR'))
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside every monthly range so an insert never fails if maintenance falls behind.
+-- PartitionMaintenanceWorker keeps it empty by creating months ahead of time.
+CREATE TABLE transactions_default PARTITION OF transactions_partitioned DEFAULT;
+
+-- Months covering existing data (and at least last month) up to three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT date_trunc('month', LEAST(MIN(created_at), CURRENT_DATE - INTERVAL '1 month'))::DATE
+    INTO month_start
+    FROM transactions;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF transactions_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'transactions_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO transaction_keys (transaction_id, reference, idempotency_key, created_at)
+SELECT transaction_id, reference, idempotency_key, created_at FROM transactions;
+
+INSERT INTO transactions_partitioned SELECT * FROM transactions;
+
+-- Keep the sequence (and its name) when the old heap goes away
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+DROP TABLE transactions;
+ALTER TABLE transactions_partitioned RENAME TO transactions;
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+CREATE OR REPLACE FUNCTION register_transaction_keys() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO transaction_keys (transaction_id, reference, idempotency_key, created_at)
+    VALUES (NEW.transaction_id, NEW.reference, NEW.idempotency_key, NEW.created_at);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_register_transaction_keys
+    AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION register_transaction_keys();
+
+-- Indexes on the parent cascade to every current and future partition
+CREATE INDEX IF NOT EXISTS idx_transaction_id ON transactions(transaction_id);
+CREATE INDEX IF NOT EXISTS idx_source_account_id ON transactions(source_account_id);
+CREATE INDEX IF NOT EXISTS idx_destination_account_id ON transactions(destination_account_id);
+CREATE INDEX IF NOT EXISTS idx_status ON transactions(status);
+CREATE INDEX IF NOT EXISTS idx_transaction_type ON transactions(transaction_type);
+CREATE INDEX IF NOT EXISTS idx_created_at ON transactions(created_at);
+CREATE INDEX IF NOT EXISTS idx_idempotency_key ON transactions(idempotency_key);
+CREATE INDEX IF NOT EXISTS idx_created_by ON transactions(created_by);
+CREATE INDEX IF NOT EXISTS idx_created_by_created_at ON transactions(created_by, created_at);
+CREATE INDEX IF NOT EXISTS idx_pending_updated_at ON transactions(updated_at) WHERE status = 'PENDING';
@@ -0,0 +1,41 @@
+CREATE TABLE IF NOT EXISTS transfer_batches (
+    id BIGSERIAL PRIMARY KEY,
+    batch_id VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(100),
+    created_by BIGINT NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    total_items INT NOT NULL,
+    succeeded_items INT NOT NULL DEFAULT 0,
+    failed_items INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT uk_transfer_batch_id UNIQUE (batch_id),
+    CONSTRAINT uk_transfer_batch_idempotency_key UNIQUE (idempotency_key),
+    CONSTRAINT chk_transfer_batch_status
+        CHECK (status IN ('PROCESSING', 'COMPLETED', 'COMPLETED_WITH_ERRORS'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_batches_created_by ON transfer_batches(created_by, created_at);
+-- Resume sweep only ever looks at unfinished batches
+CREATE INDEX IF NOT EXISTS idx_transfer_batches_processing ON transfer_batches(updated_at) WHERE status = 'PROCESSING';
+
+CREATE TABLE IF NOT EXISTS transfer_batch_items (
+    id BIGSERIAL PRIMARY KEY,
+    batch_id BIGINT NOT NULL REFERENCES transfer_batches(id),
+    item_index INT NOT NULL,
+    transfer_scope VARCHAR(10) NOT NULL,
+    source_account_id BIGINT NOT NULL,
+    destination_account_id BIGINT,
+    receiver_iban VARCHAR(34),
+    receiver_name VARCHAR(100),
+    amount NUMERIC(19, 2) NOT NULL,
+    description VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    transaction_id VARCHAR(50),
+    failure_reason VARCHAR(500),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_transfer_batch_item UNIQUE (batch_id, item_index),
+    CONSTRAINT chk_transfer_batch_item_scope CHECK (transfer_scope IN ('INTERNAL', 'EXTERNAL')),
+    CONSTRAINT chk_transfer_batch_item_status CHECK (status IN ('QUEUED', 'COMPLETE', 'FAILED'))
+);
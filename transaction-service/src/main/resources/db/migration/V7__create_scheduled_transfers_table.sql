@@ -0,0 +1,33 @@
+CREATE TABLE IF NOT EXISTS scheduled_transfers (
+    id BIGSERIAL PRIMARY KEY,
+    schedule_id VARCHAR(50) NOT NULL,
+    created_by BIGINT NOT NULL,
+    transfer_scope VARCHAR(10) NOT NULL,
+    source_account_id BIGINT NOT NULL,
+    destination_account_id BIGINT,
+    receiver_iban VARCHAR(34),
+    receiver_name VARCHAR(100),
+    amount NUMERIC(19, 2) NOT NULL,
+    description VARCHAR(500),
+    frequency VARCHAR(10) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    max_occurrences INT,
+    occurrence INT NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP,
+    locked_until TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    last_transaction_id VARCHAR(50),
+    last_transaction_status VARCHAR(20),
+    last_failure_reason VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_schedule_id UNIQUE (schedule_id),
+    CONSTRAINT chk_schedule_scope CHECK (transfer_scope IN ('INTERNAL', 'EXTERNAL')),
+    CONSTRAINT chk_schedule_frequency CHECK (frequency IN ('ONCE', 'DAILY', 'WEEKLY', 'MONTHLY')),
+    CONSTRAINT chk_schedule_status CHECK (status IN ('ACTIVE', 'COMPLETED', 'CANCELLED'))
+);
+
+-- The due-time queue: only live schedules, ordered by when they fire next
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfers_due ON scheduled_transfers(next_run_at) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfers_created_by ON scheduled_transfers(created_by, created_at);
@@ -0,0 +1,5 @@
+-- External transfers settled through batched files journal the file they went out in
+ALTER TABLE saga_steps DROP CONSTRAINT IF EXISTS chk_saga_step;
+ALTER TABLE saga_steps ADD CONSTRAINT chk_saga_step
+    CHECK (step IN ('HOLD_PLACED', 'DEBIT_EXECUTED', 'CREDIT_EXECUTED',
+                    'TRANSFER_EXECUTED', 'PAYMENT_SENT', 'SETTLEMENT_SUBMITTED', 'COMPENSATED'));
@@ -0,0 +1,11 @@
+-- Risk stage output, and UNDER_REVIEW for transfers it holds before any money moves.
+-- Both propagate from the partitioned parent to every monthly partition.
+ALTER TABLE transactions ADD COLUMN risk_score INTEGER;
+ALTER TABLE transactions ADD COLUMN risk_flags VARCHAR(255);
+
+ALTER TABLE transactions DROP CONSTRAINT IF EXISTS chk_status;
+ALTER TABLE transactions ADD CONSTRAINT chk_status
+    CHECK (status IN ('PENDING', 'UNDER_REVIEW', 'COMPLETE', 'FAILED', 'CANCELLED'));
+
+-- The review queue is read oldest first and is expected to stay small
+CREATE INDEX idx_transactions_under_review ON transactions (created_at) WHERE status = 'UNDER_REVIEW';
@@ -0,0 +1,67 @@
+package com.jk.finice.transactionservice.mapper;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.repository.projection.TransactionHistoryRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HistoryCursorCodecTest {
+
+    @Test
+    void roundTripKeepsCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 4, 22, 12, 30, 15, 123_456_000);
+
+        HistoryCursorCodec.Position position = HistoryCursorCodec.decode(HistoryCursorCodec.encode(row(createdAt, 42L)));
+
+        assertEquals(new HistoryCursorCodec.Position(createdAt, 42L), position);
+    }
+
+    @Test
+    void roundTripOnAWholeMinute() {
+        // LocalDateTime prints 12:30 without seconds, it still has to parse back
+        LocalDateTime createdAt = LocalDateTime.of(2025, 4, 22, 12, 30);
+
+        assertEquals(createdAt, HistoryCursorCodec.decode(HistoryCursorCodec.encode(row(createdAt, 1L))).createdAt());
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        String cursor = HistoryCursorCodec.encode(row(LocalDateTime.of(2025, 4, 22, 12, 30, 15), 9_007_199_254_740_993L));
+
+        assertFalse(cursor.contains("="));
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+    }
+
+    @Test
+    void malformedCursorsAreValidationErrors() {
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode("not base64!"));
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode(encode("2025-04-22T12:30:15")));
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode(encode("|42")));
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode(encode("yesterday|42")));
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode(encode("2025-04-22T12:30:15|abc")));
+        assertThrows(ValidationException.class, () -> HistoryCursorCodec.decode(""));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TransactionHistoryRow row(LocalDateTime createdAt, Long id) {
+        return new TransactionHistoryRow(id, "TXN-20250422-0A3F8C2E1D4B", TransactionType.TRANSFER,
+                TransferScope.INTERNAL, TransactionStatus.COMPLETE, "DE89370400440532013000", null,
+                new BigDecimal("10.00"), Currency.EUR, createdAt);
+    }
+}
@@ -0,0 +1,193 @@
+package com.jk.finice.transactionservice.service.batch;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.entity.TransferBatch;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.persistence.TransferBatchPersistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchTransferExecutorTest {
+
+    private static final String BATCH_ID = "BAT-20250422-0A3F8C2E1D4B";
+    private static final Long SOURCE = 1L;
+    private static final Long OTHER_SOURCE = 2L;
+
+    private final ExecutorService executor = mock(ExecutorService.class);
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final TransferBatchPersistenceService persistence = mock(TransferBatchPersistenceService.class);
+    private final BatchTransferExecutor batchExecutor =
+            new BatchTransferExecutor(executor, transactionService, persistence, new TransactionProperties());
+
+    private final TransferBatch batch = TransferBatch.builder().id(10L).batchId(BATCH_ID).createdBy(7L).build();
+    private final List<String> keysSent = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        // lanes run inline, one after another
+        doAnswer(call -> {
+            call.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+    }
+
+    @Test
+    void laneRunsItsItemsInOrder() {
+        List<TransferBatchItem> items = List.of(item(0, SOURCE), item(1, SOURCE), item(2, SOURCE));
+        queued(items);
+        answerWith(TransactionStatus.COMPLETE);
+
+        batchExecutor.execute(batch);
+
+        assertEquals(List.of(key(0), key(1), key(2)), keysSent);
+        items.forEach(item -> verify(persistence).recordItemResult(eq(item), eq(BatchItemStatus.COMPLETE), anyString(), eq(null)));
+        assertFalse(batchExecutor.isRunning(batch.getId()));
+    }
+
+    @Test
+    void busyAccountPausesOnlyItsLane() {
+        List<TransferBatchItem> items = List.of(item(0, SOURCE), item(1, SOURCE), item(2, OTHER_SOURCE));
+        queued(items);
+        answerWith(TransactionStatus.COMPLETE);
+        when(transactionService.internalTransfer(any(), anyLong(), eq(key(0)), eq(TransferOrigin.BATCH)))
+                .thenThrow(new AccountBusyException("Too many transfers queued for this account"));
+
+        batchExecutor.execute(batch);
+
+        // item 1 waits behind item 0, the other account's lane carries on
+        assertEquals(List.of(key(2)), keysSent);
+        verify(persistence, never()).recordItemResult(eq(items.get(0)), any(), any(), any());
+        verify(persistence, never()).recordItemResult(eq(items.get(1)), any(), any(), any());
+        verify(persistence).recordItemResult(eq(items.get(2)), eq(BatchItemStatus.COMPLETE), anyString(), eq(null));
+        assertFalse(batchExecutor.isRunning(batch.getId()));
+    }
+
+    @Test
+    void sheddingAccountServicePausesTheLane() {
+        queued(List.of(item(0, SOURCE), item(1, SOURCE)));
+        when(transactionService.internalTransfer(any(), anyLong(), anyString(), eq(TransferOrigin.BATCH)))
+                .thenAnswer(call -> {
+                    keysSent.add(call.getArgument(2));
+                    throw new AccountServiceBusyException("account-service is at capacity, retry shortly");
+                });
+
+        batchExecutor.execute(batch);
+
+        assertEquals(List.of(key(0)), keysSent);
+        verify(persistence, never()).recordItemResult(any(), any(), any(), any());
+    }
+
+    @Test
+    void resumedBatchContinuesWithTheSameKeys() {
+        List<TransferBatchItem> items = List.of(item(0, SOURCE), item(1, SOURCE));
+        queued(items);
+        when(transactionService.internalTransfer(any(), anyLong(), eq(key(0)), eq(TransferOrigin.BATCH)))
+                .thenThrow(new AccountBusyException("Too many transfers queued for this account"));
+        batchExecutor.execute(batch);
+
+        // the resume sweep finds both still QUEUED
+        keysSent.clear();
+        answerWith(TransactionStatus.COMPLETE);
+        batchExecutor.execute(batch);
+
+        assertEquals(List.of(key(0), key(1)), keysSent);
+        items.forEach(item -> verify(persistence).recordItemResult(eq(item), eq(BatchItemStatus.COMPLETE), anyString(), eq(null)));
+    }
+
+    @Test
+    void failedItemDoesNotStopTheLane() {
+        List<TransferBatchItem> items = List.of(item(0, SOURCE), item(1, SOURCE));
+        queued(items);
+        answerWith(TransactionStatus.COMPLETE);
+        when(transactionService.internalTransfer(any(), anyLong(), eq(key(0)), eq(TransferOrigin.BATCH)))
+                .thenThrow(new IllegalStateException("Insufficient funds"));
+
+        batchExecutor.execute(batch);
+
+        verify(persistence).recordItemResult(items.get(0), BatchItemStatus.FAILED, null, "Insufficient funds");
+        verify(persistence).recordItemResult(eq(items.get(1)), eq(BatchItemStatus.COMPLETE), anyString(), eq(null));
+    }
+
+    @Test
+    void inFlightTransferIsRecordedAsSubmitted() {
+        List<TransferBatchItem> items = List.of(item(0, SOURCE), item(1, SOURCE));
+        queued(items);
+        answerWith(TransactionStatus.PENDING);
+
+        batchExecutor.execute(batch);
+
+        // counted when the transfer closes, the lane moves on meanwhile
+        verify(persistence).markItemSubmitted(items.get(0), "TXN-" + key(0));
+        verify(persistence).markItemSubmitted(items.get(1), "TXN-" + key(1));
+        verify(persistence, never()).recordItemResult(any(), any(), any(), any());
+    }
+
+    @Test
+    void batchWithoutQueuedItemsIsNotMarkedRunning() {
+        queued(List.of());
+
+        batchExecutor.execute(batch);
+
+        assertFalse(batchExecutor.isRunning(batch.getId()));
+        verify(executor, never()).execute(any());
+    }
+
+    private void queued(List<TransferBatchItem> items) {
+        when(persistence.findQueuedItems(batch.getId())).thenReturn(items);
+    }
+
+    private void answerWith(TransactionStatus status) {
+        when(transactionService.internalTransfer(any(), anyLong(), anyString(), eq(TransferOrigin.BATCH)))
+                .thenAnswer(call -> {
+                    String key = call.getArgument(2);
+                    keysSent.add(key);
+                    return TransferResponse.builder()
+                            .transactionId("TXN-" + key)
+                            .transactionStatus(status)
+                            .build();
+                });
+    }
+
+    private static String key(int itemIndex) {
+        return BATCH_ID + "-" + itemIndex;
+    }
+
+    private TransferBatchItem item(int index, Long sourceAccountId) {
+        return TransferBatchItem.builder()
+                .id(100L + index)
+                .batchId(batch.getId())
+                .itemIndex(index)
+                .transferScope(TransferScope.INTERNAL)
+                .sourceAccountId(sourceAccountId)
+                .destinationAccountId(3L)
+                .amount(new BigDecimal("25.00"))
+                .status(BatchItemStatus.QUEUED)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter.Bulkhead;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccountCallLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void fullBulkheadTurnsNewCallsAway() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(2, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.acquire(Bulkhead.READ, false);
+        limiter.acquire(Bulkhead.READ, false);
+
+        assertThrows(AccountServiceBusyException.class, () -> limiter.acquire(Bulkhead.READ, false));
+        assertEquals(1.0, registry.get("transaction.account.limiter.rejected").tag("bulkhead", "read").counter().count());
+    }
+
+    @Test
+    void mandatoryCallsAreCountedButNeverRejected() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.acquire(Bulkhead.WRITE, false);
+
+        assertDoesNotThrow(() -> limiter.acquire(Bulkhead.WRITE, true));
+        assertEquals(2.0, inFlight("write"));
+    }
+
+    @Test
+    void bulkheadsAreIndependent() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.acquire(Bulkhead.READ, false);
+
+        assertDoesNotThrow(() -> limiter.acquire(Bulkhead.WRITE, false));
+    }
+
+    @Test
+    void congestionCutsTheLimitOncePerRound() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(10, 1, 20, 0.5, Duration.ofHours(1)));
+        Permit first = limiter.acquire(Bulkhead.READ, false);
+        Permit second = limiter.acquire(Bulkhead.READ, false);
+
+        first.release(true);
+        assertEquals(5.0, limit("read"));
+
+        // started before the cut, already accounted for
+        second.release(true);
+        assertEquals(5.0, limit("read"));
+
+        limiter.acquire(Bulkhead.READ, false).release(true);
+        assertEquals(2.0, limit("read"));
+    }
+
+    @Test
+    void limitNeverDropsBelowMin() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(4, 3, 20, 0.1, Duration.ofHours(1)));
+
+        limiter.acquire(Bulkhead.READ, false).release(true);
+
+        assertEquals(3.0, limit("read"));
+    }
+
+    @Test
+    void slowCallCountsAsCongestion() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(10, 1, 20, 0.5, Duration.ZERO));
+
+        limiter.acquire(Bulkhead.READ, false).release(false);
+
+        assertEquals(5.0, limit("read"));
+    }
+
+    @Test
+    void busyHealthyRoundsRaiseTheLimit() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(4, 1, 20, 0.5, Duration.ofHours(1)));
+
+        // fill the bulkhead, then drain it: +1/limit for every call finishing while at least half of it is busy
+        for (int round = 0; round < 3; round++) {
+            List<Permit> permits = new ArrayList<>();
+            for (int i = 0; i < (int) limit("read"); i++) {
+                permits.add(limiter.acquire(Bulkhead.READ, false));
+            }
+            permits.forEach(permit -> permit.release(false));
+        }
+
+        assertEquals(5.0, limit("read"));
+    }
+
+    @Test
+    void idleBulkheadDoesNotGrow() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(4, 1, 20, 0.5, Duration.ofHours(1)));
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire(Bulkhead.READ, false).release(false);
+        }
+
+        assertEquals(4.0, limit("read"));
+    }
+
+    @Test
+    void limitNeverGrowsAboveMax() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(2, 1, 2, 0.5, Duration.ofHours(1)));
+
+        for (int i = 0; i < 20; i++) {
+            Permit first = limiter.acquire(Bulkhead.READ, false);
+            Permit second = limiter.acquire(Bulkhead.READ, false);
+            first.release(false);
+            second.release(false);
+        }
+
+        assertEquals(2.0, limit("read"));
+    }
+
+    @Test
+    void reservedWriteSlotIsUsedByTheFirstWrite() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.reserveWrite();
+
+        // the bulkhead is full, but this thread's first write runs on its own slot
+        Permit hold = assertDoesNotThrow(() -> limiter.acquire(Bulkhead.WRITE, false));
+        assertEquals(1.0, inFlight("write"));
+        assertThrows(AccountServiceBusyException.class, () -> limiter.acquire(Bulkhead.WRITE, false));
+
+        hold.release(false);
+        limiter.releaseReservedWrite();
+        assertEquals(0.0, inFlight("write"));
+    }
+
+    @Test
+    void reservedWriteSlotIsNotSharedWithOtherThreads() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.reserveWrite();
+
+        assertBusyOnAnotherThread(() -> limiter.acquire(Bulkhead.WRITE, false));
+        limiter.releaseReservedWrite();
+    }
+
+    @Test
+    void unusedReservationIsGivenBack() {
+        AccountCallLimiter limiter = limiter(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        limiter.reserveWrite();
+        assertBusyOnAnotherThread(limiter::reserveWrite);
+
+        limiter.releaseReservedWrite();
+        limiter.releaseReservedWrite();
+
+        assertEquals(0.0, inFlight("write"));
+        assertDoesNotThrow(limiter::reserveWrite);
+    }
+
+    @Test
+    void disabledLimiterOnlyObserves() {
+        TransactionProperties properties = properties(new TransactionProperties.BulkheadLimits(1, 1, 10, 0.5, Duration.ofHours(1)));
+        properties.getAccountLimiter().setEnabled(false);
+        AccountCallLimiter limiter = new AccountCallLimiter(properties, registry);
+        limiter.acquire(Bulkhead.READ, false);
+
+        assertDoesNotThrow(() -> limiter.acquire(Bulkhead.READ, false));
+        assertEquals(2.0, inFlight("read"));
+    }
+
+    private static void assertBusyOnAnotherThread(Runnable call) {
+        CompletionException failure = assertThrows(CompletionException.class, () -> CompletableFuture.runAsync(call).join());
+        assertInstanceOf(AccountServiceBusyException.class, failure.getCause());
+    }
+
+    private AccountCallLimiter limiter(TransactionProperties.BulkheadLimits limits) {
+        return new AccountCallLimiter(properties(limits), registry);
+    }
+
+    private static TransactionProperties properties(TransactionProperties.BulkheadLimits limits) {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getAccountLimiter().setReads(limits);
+        properties.getAccountLimiter().setWrites(new TransactionProperties.BulkheadLimits(
+                limits.getInitialLimit(), limits.getMinLimit(), limits.getMaxLimit(),
+                limits.getBackoffRatio(), limits.getSlowCall()));
+        return properties;
+    }
+
+    private double limit(String bulkhead) {
+        return registry.get("transaction.account.limiter.limit").tag("bulkhead", bulkhead).gauge().value();
+    }
+
+    private double inFlight(String bulkhead) {
+        return registry.get("transaction.account.limiter.in.flight").tag("bulkhead", bulkhead).gauge().value();
+    }
+}
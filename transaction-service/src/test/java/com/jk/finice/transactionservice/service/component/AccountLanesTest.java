@@ -0,0 +1,152 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.enums.TransferDispatchMode;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class AccountLanesTest {
+
+    private static final Long ACCOUNT = 1L;
+    private static final Long OTHER_ACCOUNT = 2L;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void releaseLanes() throws InterruptedException {
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Test
+    void sameAccountRunsOneAtATimeInArrivalOrder() throws Exception {
+        AccountLanes lanes = lanes(TransferDispatchMode.ACCOUNT_LANE, 64);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        holdLane(lanes, ACCOUNT);
+
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int position = i;
+            // started one by one, each parked on its turn before the next takes a ticket
+            waiters.add(queue(lanes, ACCOUNT, () -> order.add(position)));
+        }
+        assertTrue(order.isEmpty());
+
+        release.countDown();
+        for (Thread waiter : waiters) {
+            waiter.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    void turnsAwayCallersBeyondMaxQueued() throws Exception {
+        AccountLanes lanes = lanes(TransferDispatchMode.ACCOUNT_LANE, 3);
+        holdLane(lanes, ACCOUNT);
+        queue(lanes, ACCOUNT, () -> { });
+        queue(lanes, ACCOUNT, () -> { });
+
+        assertThrows(AccountBusyException.class, () -> lanes.run(ACCOUNT, () -> "too many"));
+        assertEquals("other", lanes.run(OTHER_ACCOUNT, () -> "other"));
+
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals("free again", lanes.run(ACCOUNT, () -> "free again"));
+    }
+
+    @Test
+    void failedWorkGivesUpItsTurn() {
+        AccountLanes lanes = lanes(TransferDispatchMode.ACCOUNT_LANE, 1);
+
+        assertThrows(IllegalStateException.class, () -> lanes.run(ACCOUNT, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("next", lanes.run(ACCOUNT, () -> "next"));
+    }
+
+    @Test
+    void directModeDoesNotQueue() throws Exception {
+        AccountLanes lanes = lanes(TransferDispatchMode.DIRECT, 1);
+        holdLane(lanes, ACCOUNT);
+
+        assertEquals("direct", lanes.run(ACCOUNT, () -> "direct"));
+    }
+
+    @Test
+    void transfersWithoutAccountRunDirectly() throws Exception {
+        AccountLanes lanes = lanes(TransferDispatchMode.ACCOUNT_LANE, 1);
+        holdLane(lanes, null);
+
+        assertEquals("no lane", lanes.run(null, () -> "no lane"));
+    }
+
+    private static AccountLanes lanes(TransferDispatchMode mode, int maxQueued) {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getTransfer().setDispatchMode(mode);
+        properties.getTransfer().setMaxQueuedPerAccount(maxQueued);
+        return new AccountLanes(properties);
+    }
+
+    // Takes the account's turn on another thread and keeps it until the test releases it
+    private void holdLane(AccountLanes lanes, Long accountId) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        start(() -> lanes.run(accountId, () -> {
+            entered.countDown();
+            awaitRelease();
+            return null;
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS), "holder never got its turn");
+    }
+
+    // Queues work behind the current holder and returns once it is parked waiting for its turn
+    private Thread queue(AccountLanes lanes, Long accountId, Runnable work) throws InterruptedException {
+        Thread waiter = start(() -> lanes.run(accountId, () -> {
+            work.run();
+            return null;
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail("waiter never parked, state " + waiter.getState());
+            }
+            Thread.sleep(1);
+        }
+        return waiter;
+    }
+
+    private Thread start(Runnable task) {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        threads.add(thread);
+        thread.start();
+        return thread;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
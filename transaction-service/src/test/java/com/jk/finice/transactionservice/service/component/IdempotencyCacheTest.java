@@ -0,0 +1,97 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void completedResponseIsReplayed() {
+        IdempotencyCache cache = cache(10, Duration.ofHours(1));
+        cache.cacheResponse("key-1", response("TXN-1", TransactionStatus.COMPLETE));
+
+        TransferResponse replay = cache.findCompleted("key-1").orElseThrow();
+
+        assertEquals("TXN-1", replay.getTransactionId());
+        assertEquals(TransactionStatus.COMPLETE, replay.getTransactionStatus());
+        assertEquals(new BigDecimal("10.00"), replay.getAmount());
+    }
+
+    @Test
+    void inFlightResponsesAreNotCachedButTheKeyIsRemembered() {
+        IdempotencyCache cache = cache(10, Duration.ofHours(1));
+        cache.cacheResponse("key-1", response("TXN-1", TransactionStatus.PENDING));
+        cache.cacheResponse("key-2", response("TXN-2", TransactionStatus.UNDER_REVIEW));
+
+        assertTrue(cache.findCompleted("key-1").isEmpty());
+        assertTrue(cache.findCompleted("key-2").isEmpty());
+        assertTrue(cache.mightContain("key-1"));
+        assertTrue(cache.mightContain("key-2"));
+    }
+
+    @Test
+    void expiredResponsesAreDropped() throws InterruptedException {
+        IdempotencyCache cache = cache(10, Duration.ofMillis(100));
+        cache.cacheResponse("key-1", response("TXN-1", TransactionStatus.FAILED));
+        assertTrue(cache.findCompleted("key-1").isPresent());
+
+        Thread.sleep(150);
+
+        assertTrue(cache.findCompleted("key-1").isEmpty());
+        // the key itself is still known, the DB lookup answers from here on
+        assertTrue(cache.mightContain("key-1"));
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvictedFirst() {
+        IdempotencyCache cache = cache(2, Duration.ofHours(1));
+        cache.cacheResponse("key-1", response("TXN-1", TransactionStatus.COMPLETE));
+        cache.cacheResponse("key-2", response("TXN-2", TransactionStatus.COMPLETE));
+        cache.findCompleted("key-1");
+
+        cache.cacheResponse("key-3", response("TXN-3", TransactionStatus.COMPLETE));
+
+        assertTrue(cache.findCompleted("key-1").isPresent());
+        assertTrue(cache.findCompleted("key-2").isEmpty());
+        assertTrue(cache.findCompleted("key-3").isPresent());
+    }
+
+    @Test
+    void unseenKeyIsADefiniteNegative() {
+        IdempotencyCache cache = cache(10, Duration.ofHours(1));
+        cache.remember("key-1");
+
+        assertTrue(cache.mightContain("key-1"));
+        assertFalse(cache.mightContain("key-never-sent"));
+    }
+
+    private static IdempotencyCache cache(int maxEntries, Duration ttl) {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getIdempotency().setFilterExpectedKeys(1_000);
+        properties.getIdempotency().setFilterFalsePositiveRate(0.0001);
+        properties.getIdempotency().setResponseCacheMaxEntries(maxEntries);
+        properties.getIdempotency().setResponseCacheTtl(ttl);
+        return new IdempotencyCache(new ObjectMapper().findAndRegisterModules(), properties, new SimpleMeterRegistry());
+    }
+
+    private static TransferResponse response(String transactionId, TransactionStatus status) {
+        return TransferResponse.builder()
+                .transactionId(transactionId)
+                .transactionStatus(status)
+                .amount(new BigDecimal("10.00"))
+                .completedAt(status.isInFlight() ? null : LocalDateTime.of(2025, 4, 22, 12, 0))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.jk.finice.transactionservice.service.component;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicIdGeneratorTest {
+
+    @Test
+    void refusesToStartWithoutANodeId() {
+        TransactionProperties properties = new TransactionProperties();
+
+        assertThrows(IllegalStateException.class, () -> new PublicIdGenerator(properties, "transaction-service:8083"));
+    }
+
+    @Test
+    void usesTheConfiguredNodeId() {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getIds().setNodeId(5);
+
+        String id = new PublicIdGenerator(properties, "transaction-service:8083").nextTransactionId();
+
+        // node sits in bits 11-20 of the 48-bit suffix
+        long suffix = Long.parseLong(id.substring(id.length() - 12), 16);
+        assertEquals(5, (suffix >>> 11) & 0x3FF, id);
+    }
+
+    @Test
+    void derivesANodeIdOnlyWhenAllowed() {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getIds().setDeriveNodeId(true);
+
+        assertTrue(new PublicIdGenerator(properties, "transaction-service:8083").nextTransactionId().startsWith("TXN-"));
+    }
+}
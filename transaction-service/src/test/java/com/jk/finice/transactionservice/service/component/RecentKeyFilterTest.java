@@ -0,0 +1,67 @@
+package com.jk.finice.transactionservice.service.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentKeyFilterTest {
+
+    @Test
+    void addedKeysAreAlwaysFound() {
+        RecentKeyFilter filter = new RecentKeyFilter(1_000, 0.01, Duration.ofHours(1));
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("key-" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("key-" + i), "lost key-" + i);
+        }
+    }
+
+    @Test
+    void falsePositivesStayNearTheConfiguredRate() {
+        RecentKeyFilter filter = new RecentKeyFilter(1_000, 0.01, Duration.ofHours(1));
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("key-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void keySurvivesOneRotationAndIsGoneAfterTheSecond() throws InterruptedException {
+        Duration window = Duration.ofMillis(200);
+        RecentKeyFilter filter = new RecentKeyFilter(100, 0.001, window);
+        filter.add("IDEMPOTENCY-1");
+
+        Thread.sleep(window.toMillis() + 50);
+        // first rotation: the key's generation becomes the previous one
+        assertTrue(filter.mightContain("IDEMPOTENCY-1"));
+
+        Thread.sleep(window.toMillis() + 50);
+        // second rotation drops it
+        assertFalse(filter.mightContain("IDEMPOTENCY-1"));
+    }
+
+    @Test
+    void keysAddedAfterRotationGoIntoTheNewGeneration() throws InterruptedException {
+        Duration window = Duration.ofMillis(200);
+        RecentKeyFilter filter = new RecentKeyFilter(100, 0.001, window);
+
+        Thread.sleep(window.toMillis() + 50);
+        filter.add("IDEMPOTENCY-2");
+
+        assertTrue(filter.mightContain("IDEMPOTENCY-2"));
+        Thread.sleep(window.toMillis() + 50);
+        assertTrue(filter.mightContain("IDEMPOTENCY-2"));
+    }
+}
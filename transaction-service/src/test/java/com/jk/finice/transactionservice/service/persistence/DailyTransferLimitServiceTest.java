@@ -0,0 +1,144 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.entity.DailyTransferCounter;
+import com.jk.finice.transactionservice.repository.DailyTransferCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailyTransferLimitServiceTest {
+
+    private static final Long ACCOUNT = 7L;
+    private static final LocalDate DAY = LocalDate.of(2025, 4, 22);
+    private static final BigDecimal LIMIT = new BigDecimal("1000");
+
+    private final DailyTransferCounterRepository repository = mock(DailyTransferCounterRepository.class);
+    private final DailyTransferLimitService service = new DailyTransferLimitService(repository);
+
+    // daily_transfer_counters, and what the transactions table already holds per day for the seed
+    private final Map<DailyTransferCounter.Key, BigDecimal> counters = new HashMap<>();
+    private final Map<LocalDate, BigDecimal> transferredBeforeCounter = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(repository.tryReserve(anyLong(), any(), any(), any())).thenAnswer(call -> {
+            DailyTransferCounter.Key key = new DailyTransferCounter.Key(call.getArgument(0), call.getArgument(1));
+            BigDecimal reserved = counters.get(key);
+            BigDecimal wanted = reserved == null ? null : reserved.add(call.getArgument(2));
+            if (wanted == null || wanted.compareTo(call.getArgument(3)) > 0) {
+                return 0;
+            }
+            counters.put(key, wanted);
+            return 1;
+        });
+        when(repository.release(anyLong(), any(), any())).thenAnswer(call -> {
+            DailyTransferCounter.Key key = new DailyTransferCounter.Key(call.getArgument(0), call.getArgument(1));
+            BigDecimal reserved = counters.get(key);
+            if (reserved == null) {
+                return 0;
+            }
+            counters.put(key, reserved.subtract(call.getArgument(2)).max(BigDecimal.ZERO));
+            return 1;
+        });
+        when(repository.existsById(any())).thenAnswer(call -> counters.containsKey(call.getArgument(0)));
+        when(repository.initCounter(anyLong(), any(), any(), any())).thenAnswer(call -> {
+            DailyTransferCounter.Key key = new DailyTransferCounter.Key(call.getArgument(0), call.getArgument(1));
+            counters.putIfAbsent(key, transferredBeforeCounter.getOrDefault(key.getBusinessDate(), BigDecimal.ZERO));
+            return 1;
+        });
+    }
+
+    @Test
+    void firstTransferOfTheDaySeedsTheCounter() {
+        transferredBeforeCounter.put(DAY, new BigDecimal("300"));
+
+        service.reserve(ACCOUNT, new BigDecimal("200"), LIMIT, DAY);
+
+        assertEquals(new BigDecimal("500"), reserved(DAY));
+        verify(repository).initCounter(ACCOUNT, DAY, DAY.atStartOfDay(), LocalDateTime.of(2025, 4, 23, 0, 0));
+    }
+
+    @Test
+    void laterTransfersSkipTheSeed() {
+        service.reserve(ACCOUNT, new BigDecimal("200"), LIMIT, DAY);
+        service.reserve(ACCOUNT, new BigDecimal("300"), LIMIT, DAY);
+
+        assertEquals(new BigDecimal("500"), reserved(DAY));
+        verify(repository, times(1)).initCounter(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void reservingUpToTheLimitIsAllowed() {
+        service.reserve(ACCOUNT, new BigDecimal("600"), LIMIT, DAY);
+        service.reserve(ACCOUNT, new BigDecimal("400"), LIMIT, DAY);
+
+        assertEquals(new BigDecimal("1000"), reserved(DAY));
+    }
+
+    @Test
+    void reservationOverTheLimitIsRejectedAndLeavesTheCounter() {
+        service.reserve(ACCOUNT, new BigDecimal("900"), LIMIT, DAY);
+
+        assertThrows(ValidationException.class, () -> service.reserve(ACCOUNT, new BigDecimal("101"), LIMIT, DAY));
+        assertEquals(new BigDecimal("900"), reserved(DAY));
+    }
+
+    @Test
+    void seededTransfersCountTowardsTheLimit() {
+        transferredBeforeCounter.put(DAY, new BigDecimal("950"));
+
+        assertThrows(ValidationException.class, () -> service.reserve(ACCOUNT, new BigDecimal("100"), LIMIT, DAY));
+        assertEquals(new BigDecimal("950"), reserved(DAY));
+    }
+
+    @Test
+    void releaseGivesTheAmountBackOnTheReservedDay() {
+        service.reserve(ACCOUNT, new BigDecimal("700"), LIMIT, DAY);
+        service.release(ACCOUNT, new BigDecimal("700"), DAY);
+
+        service.reserve(ACCOUNT, new BigDecimal("1000"), LIMIT, DAY);
+        assertEquals(new BigDecimal("1000"), reserved(DAY));
+    }
+
+    @Test
+    void eachDayHasItsOwnCounter() {
+        LocalDate nextDay = DAY.plusDays(1);
+        service.reserve(ACCOUNT, new BigDecimal("1000"), LIMIT, DAY);
+
+        service.reserve(ACCOUNT, new BigDecimal("1000"), LIMIT, nextDay);
+        service.release(ACCOUNT, new BigDecimal("1000"), nextDay);
+
+        assertEquals(new BigDecimal("1000"), reserved(DAY));
+        assertEquals(new BigDecimal("0"), reserved(nextDay));
+    }
+
+    @Test
+    void releaseWithoutCounterChangesNothing() {
+        service.release(ACCOUNT, new BigDecimal("50"), DAY);
+
+        assertNull(reserved(DAY));
+        verify(repository, never()).initCounter(eq(ACCOUNT), any(), any(), any());
+    }
+
+    private BigDecimal reserved(LocalDate day) {
+        return counters.get(new DailyTransferCounter.Key(ACCOUNT, day));
+    }
+}
@@ -0,0 +1,109 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.dto.response.PersistResult;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.exception.TransactionFailedException;
+import com.jk.finice.transactionservice.repository.TransactionRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionPersistenceServiceTest {
+
+    private static final String KEY = "3f1c9a52-idempotency";
+
+    private final TransactionRepository repository = mock(TransactionRepository.class);
+    private final TransferBatchPersistenceService batchPersistence = mock(TransferBatchPersistenceService.class);
+    private final TransactionPersistenceService service = new TransactionPersistenceService(
+            repository, mock(DailyTransferLimitService.class), mock(SpendingRollupService.class), batchPersistence);
+
+    private final Transaction transaction = Transaction.builder()
+            .transactionId("TXN-20250422-0A3F8C2E1D4B")
+            .idempotencyKey(KEY)
+            .build();
+
+    @Test
+    void newRowMakesTheCallerTheOwner() {
+        when(repository.save(transaction)).thenReturn(transaction);
+
+        PersistResult result = service.persistPending(transaction, KEY);
+
+        assertTrue(result.isOwner());
+        assertSame(transaction, result.getTransaction());
+    }
+
+    @Test
+    void duplicateIdempotencyKeyReturnsTheExistingTransfer() {
+        Transaction existing = Transaction.builder().transactionId("TXN-20250422-0A3F8C2E0001").build();
+        when(repository.save(any())).thenThrow(violation("uk_transaction_keys_idempotency_key"));
+        when(repository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(existing));
+
+        PersistResult result = service.persistPending(transaction, KEY);
+
+        assertFalse(result.isOwner());
+        assertSame(existing, result.getTransaction());
+    }
+
+    @Test
+    void clashingTransactionIdIsNotTreatedAsAReplay() {
+        when(repository.save(any())).thenThrow(violation("pk_transaction_keys"));
+
+        assertThrows(TransactionFailedException.class, () -> service.persistPending(transaction, KEY));
+        verify(repository, never()).findByIdempotencyKey(any());
+    }
+
+    @Test
+    void constraintIsFoundInTheDriverMessageWhenHibernateHasNoName() {
+        Transaction existing = Transaction.builder().transactionId("TXN-20250422-0A3F8C2E0001").build();
+        SQLException sql = new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"uk_transaction_keys_idempotency_key\"");
+        when(repository.save(any())).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, null)));
+        when(repository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(existing));
+
+        assertFalse(service.persistPending(transaction, KEY).isOwner());
+    }
+
+    @Test
+    void closingATransferResolvesItsSubmittedBatchItem() {
+        when(repository.completeIfOpen(any(), any(), any(), any())).thenReturn(1);
+        when(repository.failIfOpen(any(), any(), any(), any())).thenReturn(1);
+
+        service.markComplete(transaction);
+        service.markFailed(transaction, "Payment network rejected the transfer");
+
+        verify(batchPersistence).resolveSubmittedItem(transaction.getTransactionId(), TransactionStatus.COMPLETE, null);
+        verify(batchPersistence).resolveSubmittedItem(transaction.getTransactionId(), TransactionStatus.FAILED,
+                "Payment network rejected the transfer");
+    }
+
+    @Test
+    void transferClosedElsewhereLeavesTheBatchItemToTheWinner() {
+        when(repository.completeIfOpen(any(), any(), any(), any())).thenReturn(0);
+        when(repository.findByIdAndCreatedAt(any(), any())).thenReturn(Optional.empty());
+
+        service.markComplete(transaction);
+
+        verify(batchPersistence, never()).resolveSubmittedItem(any(), any(), any());
+    }
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        SQLException sql = new SQLException("ERROR: duplicate key value violates unique constraint \"" + constraint + "\"");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, constraint));
+    }
+}
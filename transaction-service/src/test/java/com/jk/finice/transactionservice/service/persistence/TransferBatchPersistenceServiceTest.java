@@ -0,0 +1,111 @@
+package com.jk.finice.transactionservice.service.persistence;
+
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.entity.TransferBatchItem;
+import com.jk.finice.transactionservice.enums.BatchItemStatus;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.repository.TransactionRepository;
+import com.jk.finice.transactionservice.repository.TransferBatchItemRepository;
+import com.jk.finice.transactionservice.repository.TransferBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferBatchPersistenceServiceTest {
+
+    private static final Long BATCH = 10L;
+    private static final String TRANSACTION_ID = "TXN-20250422-0A3F8C2E1D4B";
+
+    private final TransferBatchRepository batchRepository = mock(TransferBatchRepository.class);
+    private final TransferBatchItemRepository itemRepository = mock(TransferBatchItemRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransferBatchPersistenceService service =
+            new TransferBatchPersistenceService(batchRepository, itemRepository, transactionRepository);
+
+    private final TransferBatchItem item = TransferBatchItem.builder().id(100L).batchId(BATCH).itemIndex(0).build();
+
+    @BeforeEach
+    void setUp() {
+        when(itemRepository.finishItem(anyLong(), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void submittedItemIsNotCountedYet() {
+        when(itemRepository.submitItem(item.getId(), TRANSACTION_ID)).thenReturn(1);
+        transfer(TransactionStatus.PENDING, null);
+
+        service.markItemSubmitted(item, TRANSACTION_ID);
+
+        verify(itemRepository, never()).finishItem(anyLong(), any(), any(), any());
+        verify(batchRepository, never()).incrementSucceeded(anyLong(), any());
+        verify(batchRepository, never()).incrementFailed(anyLong(), any());
+    }
+
+    @Test
+    void transferThatClosedBeforeSubmissionIsCountedRightAway() {
+        when(itemRepository.submitItem(item.getId(), TRANSACTION_ID)).thenReturn(1);
+        transfer(TransactionStatus.COMPLETE, null);
+
+        service.markItemSubmitted(item, TRANSACTION_ID);
+
+        verify(itemRepository).finishItem(item.getId(), BatchItemStatus.COMPLETE, TRANSACTION_ID, null);
+        verify(batchRepository).incrementSucceeded(eq(BATCH), any());
+        verify(batchRepository).finishIfDone(eq(BATCH), any());
+    }
+
+    @Test
+    void closingTransferResolvesItsItem() {
+        when(itemRepository.findByTransactionIdAndStatus(TRANSACTION_ID, BatchItemStatus.SUBMITTED))
+                .thenReturn(Optional.of(item));
+
+        service.resolveSubmittedItem(TRANSACTION_ID, TransactionStatus.FAILED, "Insufficient funds");
+
+        verify(itemRepository).finishItem(item.getId(), BatchItemStatus.FAILED, TRANSACTION_ID, "Insufficient funds");
+        verify(batchRepository).incrementFailed(eq(BATCH), any());
+    }
+
+    @Test
+    void transferOutsideABatchResolvesNothing() {
+        when(itemRepository.findByTransactionIdAndStatus(TRANSACTION_ID, BatchItemStatus.SUBMITTED))
+                .thenReturn(Optional.empty());
+
+        service.resolveSubmittedItem(TRANSACTION_ID, TransactionStatus.COMPLETE, null);
+
+        verify(itemRepository, never()).finishItem(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void resumeSweepResolvesOnlyClosedTransfers() {
+        TransferBatchItem pending = TransferBatchItem.builder()
+                .id(101L).batchId(BATCH).itemIndex(1).transactionId("TXN-20250422-0A3F8C2E1D4C").build();
+        item.setTransactionId(TRANSACTION_ID);
+        when(itemRepository.findByBatchIdAndStatusOrderByItemIndexAsc(BATCH, BatchItemStatus.SUBMITTED))
+                .thenReturn(List.of(item, pending));
+        transfer(TransactionStatus.COMPLETE, null);
+        when(transactionRepository.findByTransactionId(pending.getTransactionId())).thenReturn(Optional.of(
+                Transaction.builder().transactionId(pending.getTransactionId()).status(TransactionStatus.PENDING).build()));
+
+        service.resolveClosedSubmittedItems(BATCH);
+
+        verify(itemRepository).finishItem(item.getId(), BatchItemStatus.COMPLETE, TRANSACTION_ID, null);
+        verify(itemRepository, never()).finishItem(eq(pending.getId()), any(), any(), any());
+    }
+
+    private void transfer(TransactionStatus status, String failureReason) {
+        when(transactionRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(Optional.of(Transaction.builder()
+                .transactionId(TRANSACTION_ID)
+                .status(status)
+                .failureReason(failureReason)
+                .build()));
+    }
+}
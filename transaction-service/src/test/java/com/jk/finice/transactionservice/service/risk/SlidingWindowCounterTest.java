@@ -0,0 +1,132 @@
+package com.jk.finice.transactionservice.service.risk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlidingWindowCounterTest {
+
+    // 1 second window in 10 buckets of 100 ms
+    private static final long WINDOW = 1_000;
+    private static final int BUCKETS = 10;
+
+    // Far from zero so bucket numbers are large, like real epoch millis
+    private static final long T0 = 1_745_323_200_000L;
+
+    @Test
+    void sumsEverythingInsideTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+
+        assertEquals(1, counter.addAndSum(T0, 1));
+        assertEquals(3, counter.addAndSum(T0 + 50, 2));
+        assertEquals(7, counter.addAndSum(T0 + 950, 4));
+        assertEquals(7, counter.sum(T0 + 999));
+    }
+
+    @Test
+    void oldBucketsRotateOut() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        counter.addAndSum(T0, 1);         // bucket 0
+        counter.addAndSum(T0 + 450, 10);  // bucket 4
+        counter.addAndSum(T0 + 950, 100); // bucket 9
+
+        assertEquals(111, counter.sum(T0 + 999));
+        assertEquals(110, counter.sum(T0 + 1_000)); // bucket 0 left the window
+        assertEquals(110, counter.sum(T0 + 1_399));
+        assertEquals(100, counter.sum(T0 + 1_400)); // bucket 4 too
+        assertEquals(100, counter.sum(T0 + 1_899));
+        assertEquals(0, counter.sum(T0 + 1_900));
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        counter.addAndSum(T0, 5);
+
+        // same ring slot, ten buckets later
+        assertEquals(3, counter.addAndSum(T0 + WINDOW, 3));
+        assertEquals(3, counter.sum(T0 + WINDOW));
+    }
+
+    @Test
+    void slotsReusedAfterManyWindowsStartFromZero() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        counter.addAndSum(T0, 5);
+
+        assertEquals(2, counter.addAndSum(T0 + 37 * WINDOW, 2));
+    }
+
+    @Test
+    void lateWriterAddsToTheNewerBucket() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        counter.addAndSum(T0 + WINDOW, 1);
+
+        // clock of this writer lags a full window behind, its slot already moved on
+        counter.addAndSum(T0, 1);
+
+        assertEquals(2, counter.sum(T0 + WINDOW));
+    }
+
+    @Test
+    void windowSlidesOneBucketAtATime() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        for (int bucket = 0; bucket < 30; bucket++) {
+            long sum = counter.addAndSum(T0 + bucket * 100L, 1);
+            assertEquals(Math.min(bucket + 1, BUCKETS), sum, "after bucket " + bucket);
+        }
+    }
+
+    @Test
+    void totalsSaturate() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        long max = (1L << 44) - 1;
+
+        assertEquals(max, counter.addAndSum(T0, max));
+        assertEquals(max, counter.addAndSum(T0, 1));
+        assertEquals(max, counter.addAndSum(T0 + 100, max));
+    }
+
+    @Test
+    void concurrentWritersLoseNothing() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, BUCKETS);
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        counter.addAndSum(T0 + (i % BUCKETS) * 100L, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * perThread, counter.sum(T0 + WINDOW - 1));
+    }
+
+    @Test
+    void rejectsBucketsShorterThanOneMillisecond() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(1_000, 0));
+    }
+}
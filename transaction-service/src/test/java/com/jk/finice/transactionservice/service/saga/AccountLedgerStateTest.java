@@ -0,0 +1,90 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.dto.client.TransactionMovementsClientResponse;
+import com.jk.finice.transactionservice.entity.SagaStep;
+import com.jk.finice.transactionservice.enums.AccountMovementType;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.jk.finice.transactionservice.enums.AccountMovementType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountLedgerStateTest {
+
+    @Test
+    void holdOnlyIsOutstanding() {
+        assertEquals(new AccountLedgerState(true, false, false, false), ledger(HOLD));
+    }
+
+    @Test
+    void debitCapturesTheHold() {
+        assertEquals(new AccountLedgerState(false, true, false, false), ledger(HOLD, DEBIT));
+    }
+
+    @Test
+    void creditedTransferIsDebitedAndCredited() {
+        assertEquals(new AccountLedgerState(false, true, true, false), ledger(HOLD, DEBIT, CREDIT));
+    }
+
+    @Test
+    void releasedHoldIsAReversal() {
+        assertEquals(new AccountLedgerState(false, false, false, true), ledger(HOLD, RELEASE_HOLD));
+    }
+
+    @Test
+    void reversedDebitIsNoLongerDebited() {
+        assertEquals(new AccountLedgerState(false, false, false, true), ledger(HOLD, DEBIT, REVERSE_DEBIT));
+    }
+
+    @Test
+    void partlyReversedTransferKeepsWhatIsLeft() {
+        // credit taken back, debit refund not there yet
+        assertEquals(new AccountLedgerState(false, true, false, true), ledger(HOLD, DEBIT, CREDIT, REVERSE_CREDIT));
+    }
+
+    @Test
+    void emptyLedgerHasNoEffect() {
+        assertEquals(new AccountLedgerState(false, false, false, false), ledger());
+    }
+
+    @Test
+    void journalWithHoldOnly() {
+        assertEquals(new AccountLedgerState(true, false, false, false), journal(SagaStepType.HOLD_PLACED));
+    }
+
+    @Test
+    void journalWithDebitAndCredit() {
+        assertEquals(new AccountLedgerState(false, true, true, false),
+                journal(SagaStepType.HOLD_PLACED, SagaStepType.DEBIT_EXECUTED, SagaStepType.CREDIT_EXECUTED));
+    }
+
+    @Test
+    void journalWithLegacyCombinedTransfer() {
+        assertEquals(new AccountLedgerState(false, true, true, false), journal(SagaStepType.TRANSFER_EXECUTED));
+    }
+
+    static AccountLedgerState ledger(AccountMovementType... types) {
+        return AccountLedgerState.of(movements(types));
+    }
+
+    static TransactionMovementsClientResponse movements(AccountMovementType... types) {
+        return TransactionMovementsClientResponse.builder()
+                .transactionId("TXN-20250422-0A3F8C2E1D4B")
+                .movements(Arrays.stream(types)
+                        .map(type -> new TransactionMovementsClientResponse.Movement(1L, type, BigDecimal.TEN, null))
+                        .toList())
+                .build();
+    }
+
+    private static AccountLedgerState journal(SagaStepType... steps) {
+        Map<SagaStepType, SagaStep> journal = Arrays.stream(steps)
+                .collect(Collectors.toMap(Function.identity(), step -> SagaStep.builder().step(step).build()));
+        return AccountLedgerState.fromJournal(journal);
+    }
+}
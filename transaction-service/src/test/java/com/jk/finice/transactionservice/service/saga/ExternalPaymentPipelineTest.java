@@ -0,0 +1,102 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.ExternalTransferMode;
+import com.jk.finice.transactionservice.exception.AccountBusyException;
+import com.jk.finice.transactionservice.service.component.AccountCallLimiter;
+import com.jk.finice.transactionservice.service.component.AccountLanes;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import com.jk.finice.transactionservice.service.settlement.SettlementBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExternalPaymentPipelineTest {
+
+    private static final Long SOURCE = 1L;
+
+    private final ExecutorService executor = mock(ExecutorService.class);
+    private final ExternalTransferSaga saga = mock(ExternalTransferSaga.class);
+    private final TransactionPersistenceService persistence = mock(TransactionPersistenceService.class);
+    private final AccountLanes lanes = mock(AccountLanes.class);
+
+    private final Transaction transaction = Transaction.builder()
+            .transactionId("TXN-20250422-0A3F8C2E1D4B")
+            .sourceAccountId(SOURCE)
+            .amount(new BigDecimal("100.00"))
+            .build();
+
+    private ExternalPaymentPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getTransfer().setExternalMode(ExternalTransferMode.ASYNC);
+        properties.getTransfer().setLaneRetryAttempts(3);
+        properties.getTransfer().setLaneRetryBaseBackoff(Duration.ofMillis(2));
+        properties.getTransfer().setLaneRetryMaxBackoff(Duration.ofMillis(4));
+        pipeline = new ExternalPaymentPipeline(executor, saga, persistence, mock(SettlementBatcher.class), lanes,
+                new AccountCallLimiter(properties, new SimpleMeterRegistry()), properties);
+
+        doAnswer(call -> {
+            call.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any());
+        when(persistence.claimForDispatch(transaction)).thenReturn(true);
+    }
+
+    @Test
+    void freeLaneSettlesRightAway() {
+        when(lanes.run(eq(SOURCE), any())).thenAnswer(ExternalPaymentPipelineTest::runWork);
+
+        pipeline.submit(transaction);
+
+        verify(lanes, times(1)).run(eq(SOURCE), any());
+        verify(saga).execute(transaction);
+    }
+
+    @Test
+    void fullLaneIsRetriedUntilItFrees() {
+        when(lanes.run(eq(SOURCE), any()))
+                .thenThrow(new AccountBusyException("Too many transfers queued for this account"))
+                .thenThrow(new AccountBusyException("Too many transfers queued for this account"))
+                .thenAnswer(ExternalPaymentPipelineTest::runWork);
+
+        pipeline.submit(transaction);
+
+        verify(lanes, times(3)).run(eq(SOURCE), any());
+        verify(saga).execute(transaction);
+    }
+
+    @Test
+    void laneThatStaysFullLeavesTheTransferToRecovery() {
+        when(lanes.run(eq(SOURCE), any()))
+                .thenThrow(new AccountBusyException("Too many transfers queued for this account"));
+
+        pipeline.submit(transaction);
+
+        verify(lanes, times(3)).run(eq(SOURCE), any());
+        verify(persistence, never()).claimForDispatch(any());
+        verify(saga, never()).execute(any());
+    }
+
+    private static Object runWork(InvocationOnMock call) {
+        return call.<Supplier<?>>getArgument(1).get();
+    }
+}
@@ -0,0 +1,183 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.commonlibrary.exception.InternalServerException;
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.entity.SagaStep;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.AccountMovementType;
+import com.jk.finice.transactionservice.enums.SagaStepType;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import com.jk.finice.transactionservice.service.persistence.TransactionPersistenceService;
+import com.jk.finice.transactionservice.service.settlement.SettlementReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jk.finice.transactionservice.enums.AccountMovementType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SagaRecoveryWorkerTest {
+
+    private static final String TRANSACTION_ID = "TXN-20250422-0A3F8C2E1D4B";
+
+    private final TransactionPersistenceService persistence = mock(TransactionPersistenceService.class);
+    private final SagaJournalService journal = mock(SagaJournalService.class);
+    private final TransferCompensator compensator = mock(TransferCompensator.class);
+    private final AccountServiceClient accountServiceClient = mock(AccountServiceClient.class);
+    private final SettlementReconciler settlementReconciler = mock(SettlementReconciler.class);
+
+    private final Map<SagaStepType, SagaStep> steps = new EnumMap<>(SagaStepType.class);
+    private SagaRecoveryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getSaga().getRecovery().setLedgerCallsPerSecond(1_000);
+        worker = new SagaRecoveryWorker(properties, persistence, journal, compensator, accountServiceClient,
+                settlementReconciler);
+        when(journal.loadSteps(TRANSACTION_ID)).thenReturn(steps);
+    }
+
+    @Test
+    void creditedTransferIsCompleted() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD, DEBIT, CREDIT);
+
+        worker.recoverStaleSagas();
+
+        verify(persistence).markComplete(transaction);
+        verify(compensator, never()).compensate(any(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void debitedTransferIsCreditedAndCompleted() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD, DEBIT);
+
+        worker.recoverStaleSagas();
+
+        verify(accountServiceClient).creditAccount(eq(2L), any());
+        verify(journal).record(TRANSACTION_ID, SagaStepType.CREDIT_EXECUTED);
+        verify(persistence).markComplete(transaction);
+    }
+
+    @Test
+    void failedResumeCreditRollsBackTheDebit() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD, DEBIT);
+        doThrow(new InternalServerException("Application Error: 503")).when(accountServiceClient).creditAccount(eq(2L), any());
+
+        worker.recoverStaleSagas();
+
+        verify(compensator).compensate(transaction, false, true, false);
+        verify(persistence).markFailed(eq(transaction), anyString());
+    }
+
+    @Test
+    void startedReversalIsFinishedInsteadOfMovingForward() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD, DEBIT, CREDIT, REVERSE_CREDIT);
+
+        worker.recoverStaleSagas();
+
+        verify(compensator).compensate(transaction, false, true, false);
+        verify(persistence).markFailed(eq(transaction), anyString());
+        verify(persistence, never()).markComplete(any());
+    }
+
+    @Test
+    void outstandingHoldIsReleased() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD);
+
+        worker.recoverStaleSagas();
+
+        verify(compensator).compensate(transaction, true, false, false);
+        verify(persistence).markFailed(eq(transaction), anyString());
+    }
+
+    @Test
+    void emptyLedgerFallsBackToTheJournal() {
+        Transaction transaction = stale(TransferScope.INTERNAL);
+        steps.put(SagaStepType.HOLD_PLACED, SagaStep.builder().step(SagaStepType.HOLD_PLACED).build());
+        steps.put(SagaStepType.TRANSFER_EXECUTED, SagaStep.builder().step(SagaStepType.TRANSFER_EXECUTED).build());
+
+        worker.recoverStaleSagas();
+
+        verify(persistence).markComplete(transaction);
+    }
+
+    @Test
+    void journaledCompensationIsOnlyFinalized() {
+        Transaction transaction = stale(TransferScope.INTERNAL, HOLD, RELEASE_HOLD);
+        steps.put(SagaStepType.COMPENSATED, SagaStep.builder().step(SagaStepType.COMPENSATED).build());
+
+        worker.recoverStaleSagas();
+
+        verify(persistence).markFailed(eq(transaction), anyString());
+        verify(accountServiceClient, never()).getTransactionMovements(any());
+        verify(compensator, never()).compensate(any(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void sentExternalPaymentIsCompletedWithItsNetworkReference() {
+        Transaction transaction = stale(TransferScope.EXTERNAL, HOLD, DEBIT);
+        steps.put(SagaStepType.PAYMENT_SENT, SagaStep.builder().step(SagaStepType.PAYMENT_SENT).detail("SEPA-123").build());
+
+        worker.recoverStaleSagas();
+
+        verify(persistence).markComplete(transaction);
+        verify(compensator, never()).compensate(any(), anyBoolean(), anyBoolean(), anyBoolean());
+        assertEquals("SEPA-123", transaction.getNetworkReference());
+    }
+
+    @Test
+    void unsentExternalPaymentIsRolledBackNotResent() {
+        Transaction transaction = stale(TransferScope.EXTERNAL, HOLD, DEBIT);
+
+        worker.recoverStaleSagas();
+
+        verify(compensator).compensate(transaction, false, true, false);
+        verify(persistence).markFailed(eq(transaction), anyString());
+    }
+
+    @Test
+    void submittedSettlementWaitsForItsReport() {
+        Transaction transaction = stale(TransferScope.EXTERNAL, HOLD, DEBIT);
+        steps.put(SagaStepType.SETTLEMENT_SUBMITTED,
+                SagaStep.builder().step(SagaStepType.SETTLEMENT_SUBMITTED).detail("FILE-1").build());
+
+        worker.recoverStaleSagas();
+
+        verify(settlementReconciler).reconcile(transaction, "FILE-1");
+        verify(persistence, never()).markFailed(any(), anyString());
+        verify(compensator, never()).compensate(any(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    private Transaction stale(TransferScope scope, AccountMovementType... ledger) {
+        Transaction transaction = Transaction.builder()
+                .transactionId(TRANSACTION_ID)
+                .transferScope(scope)
+                .status(TransactionStatus.PENDING)
+                .sourceAccountId(1L)
+                .destinationAccountId(scope == TransferScope.INTERNAL ? 2L : null)
+                .amount(new BigDecimal("100.00"))
+                .build();
+        when(persistence.claimStalePendingTransfers(any(), anyInt())).thenReturn(List.of(transaction), List.of());
+        when(accountServiceClient.getTransactionMovements(TRANSACTION_ID))
+                .thenReturn(AccountLedgerStateTest.movements(ledger));
+        return transaction;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jk.finice.transactionservice.service.saga;
+
+import com.jk.finice.commonlibrary.exception.InternalServerException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.client.AccountServiceClient;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.client.TransactionMovementsClientResponse;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.AccountMovementType;
+import com.jk.finice.transactionservice.service.component.SagaMetrics;
+import com.jk.finice.transactionservice.service.persistence.CompensationQueueService;
+import com.jk.finice.transactionservice.service.persistence.SagaJournalService;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferCompensatorTest {
+
+    private static final String TRANSACTION_ID = "TXN-20250422-0A3F8C2E1D4B";
+    private static final Long SOURCE = 1L;
+    private static final Long DESTINATION = 2L;
+
+    private final AccountServiceClient accountServiceClient = mock(AccountServiceClient.class);
+    private final TransferCompensator compensator = new TransferCompensator(
+            accountServiceClient,
+            mock(SagaJournalService.class),
+            mock(CompensationQueueService.class),
+            new SagaMetrics(new SimpleMeterRegistry(), new TransactionProperties()));
+
+    private final Transaction transaction = Transaction.builder()
+            .transactionId(TRANSACTION_ID)
+            .sourceAccountId(SOURCE)
+            .destinationAccountId(DESTINATION)
+            .amount(new BigDecimal("100.00"))
+            .build();
+
+    @Test
+    void rejectedCallTrustsTheProgressFlags() {
+        TransferCompensator.Outcome outcome = compensator.compensateAfter(
+                new ValidationException("Invalid request!"), transaction, true, false, false);
+
+        assertEquals(TransferCompensator.Outcome.COMPENSATED, outcome);
+        verify(accountServiceClient).releaseHold(eq(SOURCE), any());
+        verify(accountServiceClient, never()).getTransactionMovements(any());
+    }
+
+    @Test
+    void timedOutHoldThatCommittedIsReleased() {
+        ledger(AccountMovementType.HOLD);
+
+        TransferCompensator.Outcome outcome = compensator.compensateAfter(timeout(), transaction, false, false, false);
+
+        assertEquals(TransferCompensator.Outcome.COMPENSATED, outcome);
+        verify(accountServiceClient).releaseHold(eq(SOURCE), any());
+    }
+
+    @Test
+    void timedOutDebitThatCommittedIsReversed() {
+        ledger(AccountMovementType.HOLD, AccountMovementType.DEBIT);
+
+        compensator.compensateAfter(new InternalServerException("Application Error: 502"), transaction, true, false, false);
+
+        verify(accountServiceClient).reverseDebit(eq(SOURCE), any());
+        verify(accountServiceClient, never()).releaseHold(anyLong(), any());
+    }
+
+    @Test
+    void timedOutCallThatNeverLandedUndoesOnlyWhatTheLedgerShows() {
+        ledger(AccountMovementType.HOLD);
+
+        // the debit timed out before reaching account-service
+        compensator.compensateAfter(timeout(), transaction, true, false, false);
+
+        verify(accountServiceClient).releaseHold(eq(SOURCE), any());
+        verify(accountServiceClient, never()).reverseDebit(anyLong(), any());
+    }
+
+    @Test
+    void timedOutCreditThatCommittedCompletesTheTransfer() {
+        ledger(AccountMovementType.HOLD, AccountMovementType.DEBIT, AccountMovementType.CREDIT);
+
+        TransferCompensator.Outcome outcome = compensator.compensateAfter(timeout(), transaction, true, true, false);
+
+        assertEquals(TransferCompensator.Outcome.APPLIED, outcome);
+        verify(accountServiceClient, never()).reverseDebit(anyLong(), any());
+        verify(accountServiceClient, never()).reverseCredit(anyLong(), any());
+    }
+
+    @Test
+    void unreadableLedgerLeavesTheTransferToRecovery() {
+        when(accountServiceClient.getTransactionMovements(TRANSACTION_ID)).thenThrow(timeout());
+
+        TransferCompensator.Outcome outcome = compensator.compensateAfter(timeout(), transaction, true, false, false);
+
+        assertEquals(TransferCompensator.Outcome.UNKNOWN, outcome);
+        verify(accountServiceClient, never()).releaseHold(anyLong(), any());
+    }
+
+    private void ledger(AccountMovementType... types) {
+        when(accountServiceClient.getTransactionMovements(TRANSACTION_ID)).thenReturn(
+                TransactionMovementsClientResponse.builder()
+                        .transactionId(TRANSACTION_ID)
+                        .movements(Arrays.stream(types)
+                                .map(type -> new TransactionMovementsClientResponse.Movement(
+                                        type == AccountMovementType.CREDIT ? DESTINATION : SOURCE,
+                                        type, transaction.getAmount(), null))
+                                .toList())
+                        .build());
+    }
+
+    private static RetryableException timeout() {
+        Request request = Request.create(Request.HttpMethod.POST, "/api/v1/accounts/internal/1/hold",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, "Read timed out", Request.HttpMethod.POST, (Long) null, request);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jk.finice.transactionservice.service.schedule;
+
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleCalendarTest {
+
+    private static final LocalTime WINDOW_START = LocalTime.of(6, 0);
+    private static final Duration WINDOW = Duration.ofHours(2);
+
+    @Test
+    void monthEndScheduleReturnsToMonthEndAfterFebruary() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2025, 1, 31));
+
+        assertEquals(LocalDate.of(2025, 1, 31), ScheduleCalendar.occurrenceDate(schedule, 0));
+        assertEquals(LocalDate.of(2025, 2, 28), ScheduleCalendar.occurrenceDate(schedule, 1));
+        assertEquals(LocalDate.of(2025, 3, 31), ScheduleCalendar.occurrenceDate(schedule, 2));
+        assertEquals(LocalDate.of(2025, 4, 30), ScheduleCalendar.occurrenceDate(schedule, 3));
+        assertEquals(LocalDate.of(2025, 5, 31), ScheduleCalendar.occurrenceDate(schedule, 4));
+    }
+
+    @Test
+    void leapYearFebruaryTakesThe29th() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2027, 12, 31));
+
+        assertEquals(LocalDate.of(2028, 2, 29), ScheduleCalendar.occurrenceDate(schedule, 2));
+        assertEquals(LocalDate.of(2028, 3, 31), ScheduleCalendar.occurrenceDate(schedule, 3));
+    }
+
+    @Test
+    void dayOfMonthIsClampedOnlyWhereTheMonthIsShorter() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2025, 1, 30));
+
+        assertEquals(LocalDate.of(2025, 2, 28), ScheduleCalendar.occurrenceDate(schedule, 1));
+        assertEquals(LocalDate.of(2025, 3, 30), ScheduleCalendar.occurrenceDate(schedule, 2));
+        assertEquals(LocalDate.of(2025, 4, 30), ScheduleCalendar.occurrenceDate(schedule, 3));
+    }
+
+    @Test
+    void dailyAndWeeklyStepFromTheStartDate() {
+        LocalDate start = LocalDate.of(2025, 2, 27);
+
+        assertEquals(LocalDate.of(2025, 3, 1), ScheduleCalendar.occurrenceDate(schedule(ScheduleFrequency.DAILY, start), 2));
+        assertEquals(LocalDate.of(2025, 3, 13), ScheduleCalendar.occurrenceDate(schedule(ScheduleFrequency.WEEKLY, start), 2));
+        assertEquals(start, ScheduleCalendar.occurrenceDate(schedule(ScheduleFrequency.ONCE, start), 0));
+    }
+
+    @Test
+    void onceHasASingleOccurrence() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.ONCE, LocalDate.of(2025, 4, 22));
+
+        assertTrue(ScheduleCalendar.hasOccurrence(schedule, 0));
+        assertFalse(ScheduleCalendar.hasOccurrence(schedule, 1));
+    }
+
+    @Test
+    void maxOccurrencesEndsTheSchedule() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2025, 1, 31));
+        schedule.setMaxOccurrences(3);
+
+        assertTrue(ScheduleCalendar.hasOccurrence(schedule, 2));
+        assertFalse(ScheduleCalendar.hasOccurrence(schedule, 3));
+    }
+
+    @Test
+    void endDateIsInclusive() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2025, 1, 31));
+        schedule.setEndDate(LocalDate.of(2025, 3, 31));
+
+        assertTrue(ScheduleCalendar.hasOccurrence(schedule, 2));
+        assertFalse(ScheduleCalendar.hasOccurrence(schedule, 3));
+    }
+
+    @Test
+    void runTimeIsStableAndInsideTheWindow() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.MONTHLY, LocalDate.of(2025, 1, 31));
+        LocalDateTime windowOpens = LocalDate.of(2025, 2, 28).atTime(WINDOW_START);
+
+        LocalDateTime runAt = ScheduleCalendar.runAt(schedule, 1, WINDOW_START, WINDOW);
+
+        assertFalse(runAt.isBefore(windowOpens));
+        assertTrue(runAt.isBefore(windowOpens.plus(WINDOW)));
+        assertEquals(runAt, ScheduleCalendar.runAt(schedule, 1, WINDOW_START, WINDOW));
+        assertEquals(runAt.toLocalTime(), ScheduleCalendar.runAt(schedule, 2, WINDOW_START, WINDOW).toLocalTime());
+    }
+
+    @Test
+    void emptyWindowRunsAtItsStart() {
+        ScheduledTransfer schedule = schedule(ScheduleFrequency.DAILY, LocalDate.of(2025, 4, 22));
+
+        assertEquals(LocalDate.of(2025, 4, 22).atTime(WINDOW_START),
+                ScheduleCalendar.runAt(schedule, 0, WINDOW_START, Duration.ZERO));
+    }
+
+    private static ScheduledTransfer schedule(ScheduleFrequency frequency, LocalDate start) {
+        return ScheduledTransfer.builder()
+                .scheduleId("SCH-20250422-0A3F8C2E1D4B")
+                .frequency(frequency)
+                .startDate(start)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.jk.finice.transactionservice.service.schedule;
+
+import com.jk.finice.commonlibrary.exception.InternalServerException;
+import com.jk.finice.commonlibrary.exception.ValidationException;
+import com.jk.finice.transactionservice.config.TransactionProperties;
+import com.jk.finice.transactionservice.dto.response.TransferResponse;
+import com.jk.finice.transactionservice.entity.ScheduledTransfer;
+import com.jk.finice.transactionservice.enums.ScheduleFrequency;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransferOrigin;
+import com.jk.finice.transactionservice.enums.TransferScope;
+import com.jk.finice.transactionservice.exception.AccountServiceBusyException;
+import com.jk.finice.transactionservice.exception.TransactionFailedException;
+import com.jk.finice.transactionservice.service.TransactionService;
+import com.jk.finice.transactionservice.service.persistence.ScheduledTransferPersistenceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledTransferWorkerTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledTransferPersistenceService persistence = mock(ScheduledTransferPersistenceService.class);
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final ScheduledTransferWorker worker =
+            new ScheduledTransferWorker(executor, new TransactionProperties(), persistence, transactionService);
+
+    private final ScheduledTransfer schedule = ScheduledTransfer.builder()
+            .id(1L)
+            .scheduleId("SCH-20250422-0A3F8C2E1D4B")
+            .createdBy(10L)
+            .transferScope(TransferScope.INTERNAL)
+            .sourceAccountId(1L)
+            .destinationAccountId(2L)
+            .amount(new BigDecimal("25.00"))
+            .frequency(ScheduleFrequency.MONTHLY)
+            .startDate(LocalDate.of(2025, 1, 31))
+            .occurrence(3)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(persistence.findDue(any(Integer.class))).thenReturn(List.of(schedule));
+        when(persistence.claim(eq(schedule), any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void completedRunAdvancesTheSchedule() {
+        transferAnswers(TransferResponse.builder()
+                .transactionId("TXN-20250422-0A3F8C2E0001")
+                .transactionStatus(TransactionStatus.COMPLETE)
+                .build());
+
+        worker.runDueSchedules();
+
+        verify(persistence).advance(eq(schedule), any(LocalDateTime.class), eq("TXN-20250422-0A3F8C2E0001"),
+                eq(TransactionStatus.COMPLETE), isNull());
+    }
+
+    @Test
+    void businessRejectionSkipsTheOccurrence() {
+        transferThrows(new ValidationException("Insufficient funds in source account"));
+
+        worker.runDueSchedules();
+
+        verify(persistence).advance(eq(schedule), any(LocalDateTime.class), isNull(),
+                eq(TransactionStatus.FAILED), eq("Insufficient funds in source account"));
+    }
+
+    @Test
+    void timeoutPostponesTheOccurrence() {
+        transferThrows(new TransactionFailedException("Failed to fetch account details: Read timed out"));
+
+        worker.runDueSchedules();
+
+        verify(persistence, never()).advance(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void accountServiceErrorPostponesTheOccurrence() {
+        transferThrows(new InternalServerException("Application Error: 503"));
+
+        worker.runDueSchedules();
+
+        verify(persistence, never()).advance(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shedRunIsPostponed() {
+        transferThrows(new AccountServiceBusyException("account-service is at capacity, retry shortly"));
+
+        worker.runDueSchedules();
+
+        verify(persistence, never()).advance(any(), any(), any(), any(), any());
+    }
+
+    private void transferAnswers(TransferResponse response) {
+        when(transactionService.internalTransfer(any(), eq(10L), eq("SCH-20250422-0A3F8C2E1D4B-3"),
+                eq(TransferOrigin.SCHEDULE))).thenReturn(response);
+    }
+
+    private void transferThrows(RuntimeException failure) {
+        when(transactionService.internalTransfer(any(), eq(10L), eq("SCH-20250422-0A3F8C2E1D4B-3"),
+                eq(TransferOrigin.SCHEDULE))).thenThrow(failure);
+    }
+}
@@ -0,0 +1,136 @@
+package com.jk.finice.transactionservice.specification;
+
+import com.jk.finice.commonlibrary.enums.Currency;
+import com.jk.finice.transactionservice.entity.Transaction;
+import com.jk.finice.transactionservice.enums.TransactionStatus;
+import com.jk.finice.transactionservice.enums.TransactionType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pages through real rows (in-memory H2, schema from the entity) with the same seek
+ * and sort the history endpoint uses
+ */
+class TransactionSpecificationTest {
+
+    private static final Long USER = 10L;
+    private static final Long OTHER_USER = 20L;
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 4, 22, 12, 0);
+
+    private static SessionFactory sessionFactory;
+    private static final List<Transaction> userRows = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Transaction.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:transaction-seek;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            // three rows share NOON, the page boundaries below fall between them
+            for (LocalDateTime createdAt : List.of(NOON.minusMinutes(1), NOON, NOON, NOON, NOON.plusMinutes(1), NOON.plusMinutes(2))) {
+                Transaction transaction = transaction(USER, createdAt);
+                session.persist(transaction);
+                userRows.add(transaction);
+            }
+            session.persist(transaction(OTHER_USER, NOON));
+        });
+    }
+
+    @AfterAll
+    static void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void newestFirstPagesVisitEveryRowOnceAcrossTiedTimestamps() {
+        List<Long> expected = userRows.stream()
+                .sorted(Comparator.comparing(Transaction::getCreatedAt).thenComparing(Transaction::getId).reversed())
+                .map(Transaction::getId)
+                .toList();
+
+        assertEquals(expected, pageThrough(false, 2));
+    }
+
+    @Test
+    void oldestFirstPagesVisitEveryRowOnceAcrossTiedTimestamps() {
+        List<Long> expected = userRows.stream()
+                .sorted(Comparator.comparing(Transaction::getCreatedAt).thenComparing(Transaction::getId))
+                .map(Transaction::getId)
+                .toList();
+
+        assertEquals(expected, pageThrough(true, 2));
+    }
+
+    @Test
+    void seekIsStrictlyAfterTheCursorRow() {
+        Transaction middle = userRows.get(2);
+
+        List<Transaction> page = page(false, middle, 10);
+
+        assertEquals(List.of(userRows.get(1).getId(), userRows.get(0).getId()),
+                page.stream().map(Transaction::getId).toList());
+    }
+
+    private static List<Long> pageThrough(boolean ascending, int size) {
+        List<Long> seen = new ArrayList<>();
+        Transaction last = null;
+        while (true) {
+            List<Transaction> page = page(ascending, last, size);
+            page.forEach(row -> seen.add(row.getId()));
+            if (page.size() < size) {
+                return seen;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    private static List<Transaction> page(boolean ascending, Transaction after, int size) {
+        Specification<Transaction> spec = Specification.where(TransactionSpecification.belongsToUser(USER));
+        if (after != null) {
+            spec = spec.and(TransactionSpecification.seekAfter(after.getCreatedAt(), after.getId(), ascending));
+        }
+        Specification<Transaction> filter = spec;
+        return sessionFactory.fromSession(session -> {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+            Root<Transaction> root = query.from(Transaction.class);
+            query.where(filter.toPredicate(root, query, cb));
+            query.orderBy(ascending
+                    ? List.of(cb.asc(root.get("createdAt")), cb.asc(root.get("id")))
+                    : List.of(cb.desc(root.get("createdAt")), cb.desc(root.get("id"))));
+            return session.createQuery(query).setMaxResults(size).getResultList();
+        });
+    }
+
+    private static Transaction transaction(Long userId, LocalDateTime createdAt) {
+        return Transaction.builder()
+                .transactionId("TXN-20250422-" + createdAt.getMinute() + "-" + userRows.size())
+                .transactionType(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETE)
+                .sourceAccountId(1L)
+                .senderIban("DE89370400440532013000")
+                .amount(new BigDecimal("10.00"))
+                .currency(Currency.EUR)
+                .createdAt(createdAt)
+                .createdBy(userId)
+                .build();
+    }
+}